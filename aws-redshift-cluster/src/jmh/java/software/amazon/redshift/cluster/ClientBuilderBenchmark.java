@@ -0,0 +1,42 @@
+package software.amazon.redshift.cluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Cost of handing a RedshiftClient to a handler: the shared per-region client against building one per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBuilderBenchmark {
+
+    @Benchmark
+    public RedshiftClient sharedClient() {
+        return ClientBuilder.getClient(Region.US_EAST_1);
+    }
+
+    @Benchmark
+    public RedshiftClient newClientPerRequest() {
+        // the HTTP client is shared and outlives the SDK client, closing it would close LambdaWrapper.HTTP_CLIENT
+        return RedshiftClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .region(Region.US_EAST_1)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package software.amazon.redshift.cluster;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.redshift.cluster.UpdateHandler.DetectableModifyClusterAttribute;
+import software.amazon.redshift.cluster.UpdateHandler.ModifyClusterAttributeDiff;
+
+/**
+ * Compares the getter table on DetectableModifyClusterAttribute with the reflective lookup it replaced
+ * (getMethod + invoke for both models, on every attribute).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModifyClusterAttributeDiffBenchmark {
+
+    private final ResourceModel previousModel = ResourceModel.builder()
+            .clusterIdentifier("redshift-cluster-1")
+            .allowVersionUpgrade(true)
+            .automatedSnapshotRetentionPeriod(1)
+            .availabilityZone("us-east-1a")
+            .clusterVersion("1.0")
+            .encrypted(false)
+            .enhancedVpcRouting(false)
+            .maintenanceTrackName("current")
+            .masterUserPassword("Password1")
+            .port(5439)
+            .preferredMaintenanceWindow("sun:05:00-sun:05:30")
+            .publiclyAccessible(false)
+            .vpcSecurityGroupIds(Arrays.asList("sg-1", "sg-2"))
+            .build();
+
+    private final ResourceModel desiredModel = previousModel.toBuilder()
+            .publiclyAccessible(true)
+            .port(5440)
+            .vpcSecurityGroupIds(Arrays.asList("sg-1", "sg-3"))
+            .build();
+
+    @Benchmark
+    public ModifyClusterAttributeDiff getterTable() {
+        return DetectableModifyClusterAttribute.diff(previousModel, desiredModel);
+    }
+
+    @Benchmark
+    public List<DetectableModifyClusterAttribute> reflection() {
+        final List<DetectableModifyClusterAttribute> changed = new ArrayList<>();
+        for (DetectableModifyClusterAttribute attribute : DetectableModifyClusterAttribute.values()) {
+            final boolean attributeValueChanged = attribute == DetectableModifyClusterAttribute.MAINTENANCE_TRACK_NAME
+                    ? Translator.shouldModifyMaintenanceTrack(previousModel, desiredModel)
+                    : ObjectUtils.notEqual(reflectiveValue(previousModel, attribute), reflectiveValue(desiredModel, attribute));
+            if (attributeValueChanged) {
+                changed.add(attribute);
+            }
+        }
+        return changed;
+    }
+
+    private static Object reflectiveValue(final ResourceModel model, final DetectableModifyClusterAttribute attribute) {
+        try {
+            final Method getter = ResourceModel.class.getMethod("get" + attribute.getStringValue());
+            return getter.invoke(model);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterIamRole;
+import software.amazon.awssdk.services.redshift.model.ClusterNode;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
+import software.amazon.awssdk.services.redshift.model.CreateClusterRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.Endpoint;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterRequest;
+import software.amazon.awssdk.services.redshift.model.VpcSecurityGroupMembership;
+
+/**
+ * Translator paths that run on every handler invocation, with a describe response the size of a
+ * large production cluster (tags, IAM roles and nodes at or near their limits).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int TAGS = 50;
+    private static final int IAM_ROLES = 50;
+    private static final int NODES = 128;
+    private static final int SECURITY_GROUPS = 5;
+
+    private DescribeClustersResponse describeClustersResponse;
+    private ResourceModel model;
+    private ResourceModel previousModel;
+    private Map<String, String> tags;
+
+    @Setup
+    public void setup() {
+        final List<software.amazon.awssdk.services.redshift.model.Tag> sdkTags = new ArrayList<>();
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            sdkTags.add(software.amazon.awssdk.services.redshift.model.Tag.builder().key("key-" + i).value("value-" + i).build());
+            tags.put("key-" + i, "value-" + i);
+        }
+        final List<ClusterIamRole> iamRoles = new ArrayList<>();
+        for (int i = 0; i < IAM_ROLES; i++) {
+            iamRoles.add(ClusterIamRole.builder().iamRoleArn("arn:aws:iam::123456789012:role/role-" + i).applyStatus("in-sync").build());
+        }
+        final List<ClusterNode> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(ClusterNode.builder().nodeRole(i == 0 ? "LEADER" : "COMPUTE-" + (i - 1))
+                    .privateIPAddress("10.0.0." + (i % 250)).publicIPAddress("54.0.0." + (i % 250)).build());
+        }
+        final List<VpcSecurityGroupMembership> securityGroups = new ArrayList<>();
+        for (int i = 0; i < SECURITY_GROUPS; i++) {
+            securityGroups.add(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-" + i).status("active").build());
+        }
+
+        describeClustersResponse = DescribeClustersResponse.builder()
+                .clusters(Cluster.builder()
+                        .clusterIdentifier("redshift-cluster-1")
+                        .clusterNamespaceArn("arn:aws:redshift:us-east-1:123456789012:namespace:ad99c581-dbac-4a1b-9602-d5c5e7f77b24")
+                        .nodeType("ra3.16xlarge")
+                        .numberOfNodes(NODES - 1)
+                        .clusterStatus("available")
+                        .clusterAvailabilityStatus("Available")
+                        .masterUsername("admin")
+                        .dbName("dev")
+                        .endpoint(Endpoint.builder().address("redshift-cluster-1.abc.us-east-1.redshift.amazonaws.com").port(5439).build())
+                        .clusterCreateTime(Instant.now())
+                        .automatedSnapshotRetentionPeriod(1)
+                        .manualSnapshotRetentionPeriod(-1)
+                        .vpcSecurityGroups(securityGroups)
+                        .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                                .parameterGroupName("default.redshift-1.0").parameterApplyStatus("in-sync").build())
+                        .clusterSubnetGroupName("default")
+                        .vpcId("vpc-1")
+                        .availabilityZone("us-east-1a")
+                        .preferredMaintenanceWindow("sun:05:00-sun:05:30")
+                        .clusterVersion("1.0")
+                        .allowVersionUpgrade(true)
+                        .publiclyAccessible(false)
+                        .encrypted(true)
+                        .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/9d67ba2d-daca-4e3c-ac23-16342062ede3")
+                        .enhancedVpcRouting(false)
+                        .iamRoles(iamRoles)
+                        .maintenanceTrackName("current")
+                        .clusterNodes(nodes)
+                        .tags(sdkTags)
+                        .build())
+                .build();
+
+        model = Translator.translateFromReadResponse(describeClustersResponse);
+        model.setMasterUserPassword("Password1");
+        previousModel = model.toBuilder()
+                .publiclyAccessible(true)
+                .port(5440)
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeClustersResponse);
+    }
+
+    @Benchmark
+    public CreateClusterRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, tags);
+    }
+
+    @Benchmark
+    public ModifyClusterRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model, previousModel);
+    }
+}
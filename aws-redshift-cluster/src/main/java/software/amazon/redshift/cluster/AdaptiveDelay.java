@@ -0,0 +1,63 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stabilization delay that polls quickly for a few attempts, then grows exponentially up to a cap.
+ *
+ * Short operations (tags, IAM roles, logging) usually finish within the fast-poll phase, long ones
+ * (resize, restore) back off towards the cap instead of polling every few seconds for hours.
+ * Each delay is jittered down by up to jitterRatio of its value so polls from many stacks don't line up.
+ * The timeout is checked against the un-jittered schedule, so it is reached after the same number of
+ * attempts on every re-invocation.
+ */
+@lombok.Builder(builderMethodName = "of")
+@lombok.Getter
+@lombok.ToString
+class AdaptiveDelay implements Delay {
+  private final Duration timeout;
+  @lombok.Builder.Default
+  private final int fastPollAttempts = 0;
+  @lombok.Builder.Default
+  private final Duration fastPollDelay = Duration.ofSeconds(5L);
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  @lombok.Builder.Default
+  private final double multiplier = 2.0;
+  @lombok.Builder.Default
+  private final double jitterRatio = 0.2;
+
+  @Override
+  public Duration nextDelay(int attempt) {
+    final int boundedAttempt = Math.max(attempt, 0);
+    long elapsedMillis = 0L;
+    for (int i = 0; i <= boundedAttempt; i++) {
+      elapsedMillis += scheduledDelay(i).toMillis();
+      if (elapsedMillis > timeout.toMillis()) {
+        return Duration.ZERO;
+      }
+    }
+    return jitter(scheduledDelay(boundedAttempt));
+  }
+
+  Duration scheduledDelay(int attempt) {
+    if (attempt < fastPollAttempts) {
+      return fastPollDelay;
+    }
+    final double growth = Math.pow(multiplier, attempt - fastPollAttempts);
+    final double delayMillis = Math.min(baseDelay.toMillis() * growth, (double) maxDelay.toMillis());
+    return Duration.ofMillis((long) delayMillis);
+  }
+
+  private Duration jitter(Duration delay) {
+    if (jitterRatio <= 0) {
+      return delay;
+    }
+    final long jitterMillis = (long) (delay.toMillis() * jitterRatio * ThreadLocalRandom.current().nextDouble());
+    // never hand back ZERO for a real delay, the proxy treats it as "timed out"
+    return Duration.ofMillis(Math.max(delay.toMillis() - jitterMillis, 1000L));
+  }
+}
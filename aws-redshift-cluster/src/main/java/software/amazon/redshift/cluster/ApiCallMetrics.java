@@ -0,0 +1,171 @@
+package software.amazon.redshift.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+
+/**
+ * API call statistics of one handler invocation, per Redshift operation: latency, calls, errors by code,
+ * throttles and SDK retries. They are written through the handler logger as CloudWatch Embedded Metric Format,
+ * one JSON line per operation plus one per operation and error code, so CloudWatch turns them into metrics
+ * and local runs can parse them from the log.
+ */
+class ApiCallMetrics {
+  static final String NAMESPACE = "Redshift/ResourceHandlers";
+  // upper bounds in milliseconds, the last bucket takes everything slower
+  static final long[] LATENCY_BUCKETS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+  // EMF takes at most 100 values per metric and line
+  private static final int MAX_LATENCY_VALUES = 100;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Map<String, OperationStats> operations = new TreeMap<>();
+
+  synchronized void recordCall(final String operation, final long latencyMillis, final Throwable error) {
+    final OperationStats stats = stats(operation);
+    stats.calls++;
+    if (stats.latencies.size() < MAX_LATENCY_VALUES) {
+      stats.latencies.add(latencyMillis);
+    }
+    stats.histogram[bucketOf(latencyMillis)]++;
+    if (error != null) {
+      final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      stats.errorCodes.merge(errorCode(cause), 1, Integer::sum);
+      if (cause instanceof AwsServiceException && ((AwsServiceException) cause).isThrottlingException()) {
+        stats.throttles++;
+      }
+    }
+  }
+
+  synchronized void recordRetries(final String operation, final int retries) {
+    stats(operation).retries += retries;
+  }
+
+  /**
+   * Renders the collected statistics as EMF lines.
+   * @param timestamp epoch millis stamped on every line
+   * @return one line per operation, then one per operation and error code
+   */
+  synchronized List<String> toEmf(final long timestamp) {
+    final List<String> lines = new ArrayList<>();
+    for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+      final OperationStats stats = entry.getValue();
+      final Map<String, Object> line = emfLine(timestamp, Arrays.asList("ResourceType", "Operation"),
+              metric("Latency", "Milliseconds"), metric("Calls", "Count"), metric("Errors", "Count"),
+              metric("Throttles", "Count"), metric("Retries", "Count"));
+      line.put("ResourceType", ResourceModel.TYPE_NAME);
+      line.put("Operation", entry.getKey());
+      line.put("Latency", new ArrayList<>(stats.latencies));
+      line.put("Calls", stats.calls);
+      line.put("Errors", stats.errorCodes.values().stream().mapToInt(Integer::intValue).sum());
+      line.put("Throttles", stats.throttles);
+      line.put("Retries", stats.retries);
+      line.put("LatencyHistogram", histogram(stats.histogram));
+      lines.add(toJson(line));
+
+      for (Map.Entry<String, Integer> error : stats.errorCodes.entrySet()) {
+        final Map<String, Object> errorLine = emfLine(timestamp, Arrays.asList("ResourceType", "Operation", "ErrorCode"),
+                metric("Errors", "Count"));
+        errorLine.put("ResourceType", ResourceModel.TYPE_NAME);
+        errorLine.put("Operation", entry.getKey());
+        errorLine.put("ErrorCode", error.getKey());
+        errorLine.put("Errors", error.getValue());
+        lines.add(toJson(errorLine));
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Logs the collected statistics and starts over, nothing is logged when no call was made.
+   * @param logger handler logger
+   */
+  void publish(final Logger logger) {
+    final List<String> lines;
+    synchronized (this) {
+      lines = toEmf(System.currentTimeMillis());
+      operations.clear();
+    }
+    lines.forEach(logger::log);
+  }
+
+  private OperationStats stats(final String operation) {
+    return operations.computeIfAbsent(operation, key -> new OperationStats());
+  }
+
+  private static int bucketOf(final long latencyMillis) {
+    for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+      if (latencyMillis <= LATENCY_BUCKETS_MILLIS[i]) {
+        return i;
+      }
+    }
+    return LATENCY_BUCKETS_MILLIS.length;
+  }
+
+  private static Map<String, Long> histogram(final long[] counts) {
+    final Map<String, Long> histogram = new LinkedHashMap<>();
+    for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+      histogram.put("le" + LATENCY_BUCKETS_MILLIS[i], counts[i]);
+    }
+    histogram.put("gt" + LATENCY_BUCKETS_MILLIS[LATENCY_BUCKETS_MILLIS.length - 1], counts[LATENCY_BUCKETS_MILLIS.length]);
+    return histogram;
+  }
+
+  private static String errorCode(final Throwable error) {
+    if (error instanceof AwsServiceException && ((AwsServiceException) error).awsErrorDetails() != null
+            && ((AwsServiceException) error).awsErrorDetails().errorCode() != null) {
+      return ((AwsServiceException) error).awsErrorDetails().errorCode();
+    }
+    return error.getClass().getSimpleName();
+  }
+
+  @SafeVarargs
+  private static Map<String, Object> emfLine(final long timestamp, final List<String> dimensions,
+                                             final Map<String, String>... metrics) {
+    final Map<String, Object> directive = new LinkedHashMap<>();
+    directive.put("Namespace", NAMESPACE);
+    directive.put("Dimensions", Collections.singletonList(dimensions));
+    directive.put("Metrics", Arrays.asList(metrics));
+
+    final Map<String, Object> metadata = new LinkedHashMap<>();
+    metadata.put("Timestamp", timestamp);
+    metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+    final Map<String, Object> line = new LinkedHashMap<>();
+    line.put("_aws", metadata);
+    return line;
+  }
+
+  private static Map<String, String> metric(final String name, final String unit) {
+    final Map<String, String> metric = new LinkedHashMap<>();
+    metric.put("Name", name);
+    metric.put("Unit", unit);
+    return metric;
+  }
+
+  private static String toJson(final Map<String, Object> line) {
+    try {
+      return MAPPER.writeValueAsString(line);
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class OperationStats {
+    private int calls;
+    private int throttles;
+    private int retries;
+    private final List<Long> latencies = new ArrayList<>();
+    private final long[] histogram = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+    private final Map<String, Integer> errorCodes = new TreeMap<>();
+  }
+}
@@ -6,61 +6,83 @@ import com.google.common.collect.Sets;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.redshift.RedshiftAsyncClient;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
+import software.amazon.awssdk.services.redshift.model.BucketNotFoundException;
 import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterDbRevision;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterStatus;
 import software.amazon.awssdk.services.redshift.model.ClusterSnapshotCopyStatus;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterDbRevisionsResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeResponse;
+import software.amazon.awssdk.services.redshift.model.DisableLoggingRequest;
+import software.amazon.awssdk.services.redshift.model.DisableLoggingResponse;
+import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
+import software.amazon.awssdk.services.redshift.model.EnableLoggingResponse;
+import software.amazon.awssdk.services.redshift.model.InsufficientS3BucketPolicyException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.InvalidS3BucketNameException;
+import software.amazon.awssdk.services.redshift.model.InvalidS3KeyPrefixException;
+import software.amazon.awssdk.services.redshift.model.Parameter;
 import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.awssdk.services.redshift.model.ResizeNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   private Logger logger;
+  // only set on the Lambda entry path, handlers invoked directly (unit tests) stay on the sync client
+  protected ProxyClient<RedshiftAsyncClient> asyncProxyClient;
+  // one DescribeClusters result shared by the status predicates until a poll refreshes it or a mutating call invalidates it
+  protected ClusterStateSnapshot clusterStateSnapshot = new ClusterStateSnapshot();
+  // off unless REDSHIFT_CFN_TRACING is set, see Tracer
+  protected Tracer tracer = Tracer.disabled();
 
-  protected int CREATE_TAGS_INDEX = 0;
-  protected int DELETE_TAGS_INDEX = 1;
   protected int ADD_IAM_ROLES_INDEX = 0;
   protected int DELETE_IAM_ROLES_INDEX = 1;
   protected  final String PARAMETER_GROUP_STATUS_PENDING_REBOOT = "pending-reboot";
   protected final String PARAMETER_GROUP_STATUS_IN_SYNC = "in-sync";
+  protected final String PARAMETER_APPLY_TYPE_DYNAMIC = "dynamic";
   protected final String CLUSTER_STATUS_AVAILABLE = "available";
   protected final String CLUSTER_STATUS_PAUSED = "paused";
   protected final String CLUSTER_STATUS_RESUME = "resume";
-  protected final String AQUA_STATUS_APPLYING = "applying";
+  protected final String AQUA_STATUS_APPLYING = ClusterChangeSignals.AQUA_STATUS_APPLYING;
   protected final int CALLBACK_DELAY_SECONDS = 30;
-  protected final int WAIT_TIME_IN_SECS_AFTER_INITIAL_MODIFY_CLUSTER_API_CALL = 10;
   private static boolean IS_CLUSTER_PATCHED = false;
-  private final static int MAX_RETRIES_FOR_AQUA_CHECK = 6;
-  private final static int MAX_RETRIES_FOR_PATCHING_CHECK = 6;
 
-  protected static final Constant BACKOFF_STRATEGY = Constant.of().
-          timeout(Duration.ofDays(5L)).delay(Duration.ofSeconds(10L)).build();
   protected static final String FAILOVER_PRIMARY_COMPUTE = "failover-primary-compute";
   protected static final String PAUSE_CLUSTER = "pause-cluster";
   protected static final String RESUME_CLUSTER = "resume-cluster";
   protected static final String ROTATE_ENCRYPTION_KEY = "rotate-encryption-key";
 
-  protected static final Constant CREATE_BACKOFF_STRATEGY = Constant.of().
-          timeout(Duration.ofMinutes(60L)).delay(Duration.ofSeconds(5L)).build();
-
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -68,13 +90,33 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final CallbackContext callbackContext,
     final Logger logger) {
     this.logger = logger;
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
+    this.tracer = Tracer.fromEnvironment(request, logger);
+    this.asyncProxyClient = new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getAsyncClient), apiCallMetrics, tracer);
+    this.clusterStateSnapshot = new ClusterStateSnapshot();
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    final Tracer.Span invocationSpan = invocationSpan(request);
+    try {
+      final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+        proxy,
+        request,
+        context,
+        new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), apiCallMetrics, tracer),
+        logger
+      );
+      invocationSpan.attribute("aws.cfn.operation_status", String.valueOf(progress.getStatus()));
+      if (!progress.isInProgress()) {
+        logPhaseTimeline(request, context, progress.getStatus());
+      }
+      return progress;
+    } catch (final RuntimeException e) {
+      invocationSpan.error(e);
+      logPhaseTimeline(request, context, OperationStatus.FAILED);
+      throw e;
+    } finally {
+      invocationSpan.end();
+      apiCallMetrics.publish(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -85,28 +127,127 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final Logger logger);
 
 
-  protected boolean isClusterActive (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
-    DescribeClustersRequest awsRequest =
-            DescribeClustersRequest.builder().clusterIdentifier(model.getClusterIdentifier()).build();
-    DescribeClustersResponse awsResponse =
-            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
+  /**
+   * Wraps a mutating service call so the cluster snapshot is dropped once the call has been issued,
+   * whether it succeeded or not.
+   */
+  protected <RequestT, ResponseT> BiFunction<RequestT, ProxyClient<RedshiftClient>, ResponseT> invalidatingClusterSnapshot(
+          final BiFunction<RequestT, ProxyClient<RedshiftClient>, ResponseT> serviceCall) {
+    return (awsRequest, proxyClient) -> {
+      try {
+        return serviceCall.apply(awsRequest, proxyClient);
+      } finally {
+        clusterStateSnapshot.invalidate();
+      }
+    };
+  }
 
-    Cluster cluster = awsResponse.clusters()
-            .stream()
-            .findAny()
-            .orElse(Cluster.builder().build());
+  /**
+   * Wraps a stabilizer so every poll is added to the phase timeline in the callback context.
+   * @param phase id of the phase, the call graph name without the resource type prefix
+   */
+  protected <RequestT, ResponseT> CallChain.Callback<RequestT, ResponseT, RedshiftClient, ResourceModel, CallbackContext, Boolean> trackingPhase(
+          final String phase,
+          final CallChain.Callback<RequestT, ResponseT, RedshiftClient, ResourceModel, CallbackContext, Boolean> stabilizer) {
+    return (awsRequest, awsResponse, proxyClient, model, context) -> {
+      final Tracer.Span span = tracer.startSpan(phase + " stabilize")
+        .attribute("cfn.call_graph", phase)
+        .attribute("redshift.cluster_identifier", model.getClusterIdentifier())
+        .makeCurrent();
+      try {
+        final boolean stabilized = stabilizer.invoke(awsRequest, awsResponse, proxyClient, model, context);
+        context.getPhaseTimeline().recordPoll(phase, Instant.now(), clusterStateSnapshot.lastObservedStatus(), stabilized);
+        span.attribute("redshift.cluster_status", clusterStateSnapshot.lastObservedStatus())
+          .attribute("stabilized", stabilized);
+        return stabilized;
+      } catch (final RuntimeException e) {
+        span.error(e);
+        throw e;
+      } finally {
+        span.end();
+      }
+    };
+  }
+
+  /**
+   * Completes a metadata-only call as soon as it returned, without a single poll: the cluster never leaves available
+   * for it, so there is nothing to stabilize on. Status changing calls stabilize through {@link #trackingPhase}.
+   * @param operation classification of the call
+   */
+  protected <RequestT, ResponseT> ProgressEvent<ResourceModel, CallbackContext> completeOperation(
+          final ClusterOperation operation,
+          final CallChain.Stabilizer<RequestT, ResponseT, RedshiftClient, ResourceModel, CallbackContext> call) {
+    if (operation.isStatusChanging()) {
+      throw new IllegalArgumentException(String.format("%s changes the cluster status and needs a stabilizer", operation));
+    }
+    return call.progress();
+  }
+
+  private Tracer.Span invocationSpan(final ResourceHandlerRequest<ResourceModel> request) {
+    final ResourceModel model = request.getDesiredResourceState();
+    return tracer.startInvocationSpan(request, getClass().getSimpleName())
+      .attribute("redshift.cluster_identifier", model == null ? null : model.getClusterIdentifier());
+  }
+
+  private void logPhaseTimeline(final ResourceHandlerRequest<ResourceModel> request,
+                                final CallbackContext context,
+                                final OperationStatus status) {
+    if (context.getPhaseTimeline() == null || context.getPhaseTimeline().getPhases().isEmpty()) {
+      return;
+    }
+    final ResourceModel model = request.getDesiredResourceState();
+    logger.log(context.getPhaseTimeline().summary(model == null ? null : model.getClusterIdentifier(), status, Instant.now()));
+  }
+
+  protected boolean isClusterActive (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
+    Cluster cluster = clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier());
 
     return CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterStatus()) &&
             CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterAvailabilityStatus());
   }
 
+  /**
+   * Restore stabilizer: besides checking that the cluster is available it keeps the restore progress of the poll in
+   * the context, which is what ProgressEstimateDelay schedules the next poll from.
+   */
+  protected boolean isClusterRestored(final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
+    Cluster cluster = clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier());
+    cxt.getRestoreProgress().record(cluster.restoreStatus(), Instant.now());
+    return ClusterChangeSignals.isAvailable(cluster);
+  }
+
+  /**
+   * Resize stabilizer: follows the resize through DescribeResize, keeping its progress in the context for
+   * ProgressEstimateDelay and logging it on every poll. The cluster is only described once the resize stopped
+   * moving data, and a failed resize fails the update right away instead of waiting for the cluster to settle
+   * back on its old configuration. A failed record that precedes the resize being seen in progress is left over from
+   * an earlier attempt at the same target and is waited past like no record at all.
+   */
+  protected boolean isClusterResized(final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt,
+                                     Logger logger) {
+    final DescribeResizeResponse resize = describeResize(proxyClient, model);
+    final ResizeProgress progress = cxt.getResizeProgress();
+    progress.record(ResizeProgress.isResizeTowards(resize, model) ? resize : null, Instant.now());
+    logger.log(progress.summary(model.getClusterIdentifier()));
+    if (progress.isFailed()) {
+      throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getClusterIdentifier());
+    }
+    return !progress.isInProgress() && isClusterActive(proxyClient, model, cxt);
+  }
+
+  private DescribeResizeResponse describeResize(final ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
+    try {
+      return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeResizeRequest(model),
+              proxyClient.client()::describeResize);
+    } catch (final ResizeNotFoundException e) {
+      return null;
+    }
+  }
+
   protected boolean doesClusterExist(final ProxyClient<RedshiftClient> proxyClient, ResourceModel model,
                                      String clusterIdentifier) {
-    DescribeClustersResponse awsResponse = null;
-    DescribeClustersRequest awsRequest =
-            DescribeClustersRequest.builder().clusterIdentifier(clusterIdentifier).build();
     try {
-      awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
+      clusterStateSnapshot.refresh(proxyClient, clusterIdentifier);
     } catch (final ClusterNotFoundException e) {
         return false;
     }
@@ -134,15 +275,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
   protected boolean isClusterActiveAfterUpdateDbParameterGroup (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
-    DescribeClustersRequest awsRequest =
-            DescribeClustersRequest.builder().clusterIdentifier(model.getClusterIdentifier()).build();
-    DescribeClustersResponse awsResponse =
-            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
-
-    Cluster cluster = awsResponse.clusters()
-            .stream()
-            .findAny()
-            .orElse(Cluster.builder().build());
+    Cluster cluster = clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier());
 
     String clusterParameterGroupApplyStatus = cluster.clusterParameterGroups()
             .stream()
@@ -156,25 +289,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
   protected boolean isAquaConfigurationStatusApplied (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
-    DescribeClustersRequest awsRequest = null;
-    DescribeClustersResponse awsResponse = null;
-    if (cxt.getRetryForAquaStabilize() < MAX_RETRIES_FOR_AQUA_CHECK) {
-      cxt.setRetryForAquaStabilize(cxt.getRetryForAquaStabilize() + 1);
-      return false;
-    }
     try {
-      awsRequest = DescribeClustersRequest.builder().clusterIdentifier(model.getClusterIdentifier()).build();
-      awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
-
-      Cluster cluster = awsResponse.clusters()
-              .stream()
-              .findAny()
-              .orElse(Cluster.builder().build());
-
-      if (ObjectUtils.allNotNull(cluster.aquaConfiguration())) {
-        return CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterStatus()) &&
-                CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterAvailabilityStatus());
-      }
+      Cluster cluster = clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier());
+      return ClusterChangeSignals.isAquaConfigurationApplied(cluster, model.getAquaConfigurationStatus());
     }
     catch (final RedshiftException e) {
       if (e.awsErrorDetails().errorCode().equals("InternalFailure") ||
@@ -185,11 +302,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
   protected boolean isClusterPatched(final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
-    if (cxt.getRetryForPatchingStabilize() < MAX_RETRIES_FOR_PATCHING_CHECK) {
-      cxt.setRetryForPatchingStabilize(cxt.getRetryForPatchingStabilize() + 1);
+    Cluster cluster = clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier());
+    // only worth asking for the revision once the cluster itself looks done
+    if (!ClusterChangeSignals.isDbRevisionApplied(cluster, null, null)) {
       return false;
     }
-    return isClusterActive(proxyClient,model, cxt);
+    DescribeClusterDbRevisionsResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(
+            Translator.translateToDescribeClusterDbRevisionsRequest(model), proxyClient.client()::describeClusterDbRevisions);
+    ClusterDbRevision dbRevision = awsResponse.clusterDbRevisions()
+            .stream()
+            .findAny()
+            .orElse(null);
+    return ClusterChangeSignals.isDbRevisionApplied(cluster, dbRevision, model.getRevisionTarget());
   }
 
   protected boolean issueResizeClusterRequest(ResourceModel prevModel, ResourceModel model) {
@@ -243,111 +367,176 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return iamRolesForUpdate;
   }
 
-  protected List<List<Tag>> updateTags (List<Tag> existingTags, List<Tag> newTags) {
-    List<List<Tag>> tagsForUpdate = new LinkedList<>();
-    //if tags are null, create an empty list for set difference
-    existingTags = CollectionUtils.isNullOrEmpty(existingTags) ? new LinkedList<Tag>() : existingTags;
-    newTags = CollectionUtils.isNullOrEmpty(newTags) ? new LinkedList<Tag>() : newTags;
+  protected DescribeLoggingStatusResponse describeLoggingStatus(ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
+    try {
+      return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeStatusLoggingRequest(model),
+              proxyClient.client()::describeLoggingStatus);
+    } catch (final ClusterNotFoundException e) {
+      throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getClusterIdentifier(), e);
+    } catch (final InvalidClusterStateException e) {
+      throw new CfnInvalidRequestException(e);
+    } catch (SdkClientException | AwsServiceException e) {
+      throw new CfnGeneralServiceException(e);
+    }
+  }
 
-    if (ObjectUtils.notEqual(existingTags, newTags)) {
+  /*
+  logging calls don't move the cluster out of available, DescribeLoggingStatus is what tells that they were applied:
+  the call is done once the reconciler has nothing left to change, so a new bucket, prefix or export list counts too
+   */
+  protected boolean isLoggingStatusApplied(ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
+    return LoggingReconciler.reconcile(model.getLoggingProperties(), describeLoggingStatus(proxyClient, model))
+            == LoggingReconciler.Action.NONE;
+  }
 
-      Set<Tag> tagsToDelete = Sets.difference(new HashSet<>(existingTags), new HashSet<>(newTags));
-      Set<Tag> tagsToAdd = Sets.difference(new HashSet<>(newTags), new HashSet<>(existingTags));
+  /**
+   * Issues the one logging call, if any, that takes the cluster to the logging properties of the model, and waits
+   * for DescribeLoggingStatus to report it.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> reconcileLogging(
+          final AmazonWebServicesClientProxy proxy,
+          final ProxyClient<RedshiftClient> proxyClient,
+          final ProgressEvent<ResourceModel, CallbackContext> progress,
+          final ResourceModel model,
+          final CallbackContext callbackContext,
+          final Logger logger) {
+    switch (LoggingReconciler.reconcile(model.getLoggingProperties(), describeLoggingStatus(proxyClient, model))) {
+      case DISABLE:
+        return proxy.initiate("AWS-Redshift-Cluster::DisableLogging", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToDisableLoggingRequest)
+                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                .makeServiceCall((_request, _client) -> disableLogging(_request, _client, logger))
+                .stabilize(trackingPhase("DisableLogging", (_request, _response, _client, _model, _context) -> isLoggingStatusApplied(_client, _model)))
+                .progress();
+      case ENABLE:
+        return proxy.initiate("AWS-Redshift-Cluster::EnableLogging", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToEnableLoggingRequest)
+                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                .makeServiceCall((_request, _client) -> enableLogging(_request, _client, logger))
+                .stabilize(trackingPhase("EnableLogging", (_request, _response, _client, _model, _context) -> isLoggingStatusApplied(_client, _model)))
+                .progress();
+      default:
+        return progress;
+    }
+  }
 
-      tagsForUpdate.add(new LinkedList<>(tagsToAdd));
-      tagsForUpdate.add(new LinkedList<>(tagsToDelete));
+  protected DisableLoggingResponse disableLogging(
+          final DisableLoggingRequest disableLoggingRequest,
+          final ProxyClient<RedshiftClient> proxyClient,
+          final Logger logger) {
+    DisableLoggingResponse disableLoggingResponse = null;
 
+    try {
+      logger.log(String.format("%s %s disableLogging.", ResourceModel.TYPE_NAME,
+              disableLoggingRequest.clusterIdentifier()));
+      disableLoggingResponse = proxyClient.injectCredentialsAndInvokeV2(disableLoggingRequest, proxyClient.client()::disableLogging);
+    } catch (final ClusterNotFoundException  e) {
+      throw new CfnInvalidRequestException(e);
+    } catch (SdkClientException | AwsServiceException e) {
+      throw new CfnGeneralServiceException(e);
     }
-    return tagsForUpdate;
+    logger.log(String.format("%s %s disable logging properties issued.", ResourceModel.TYPE_NAME,
+            disableLoggingRequest.clusterIdentifier()));
+
+    return disableLoggingResponse;
   }
 
-  protected boolean isLoggingEnabled(ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
-    DescribeLoggingStatusResponse describeLoggingStatusResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeStatusLoggingRequest(model),
-            proxyClient.client()::describeLoggingStatus);
-    if(ObjectUtils.allNotNull(describeLoggingStatusResponse)) {
-      return describeLoggingStatusResponse.loggingEnabled() != null && describeLoggingStatusResponse.loggingEnabled();
+  protected EnableLoggingResponse enableLogging(
+          final EnableLoggingRequest enableLoggingRequest,
+          final ProxyClient<RedshiftClient> proxyClient,
+          final Logger logger) {
+    EnableLoggingResponse enableLoggingResponse = null;
+
+    try {
+      logger.log(String.format("%s %s enableLogging.", ResourceModel.TYPE_NAME,
+              enableLoggingRequest.clusterIdentifier()));
+      enableLoggingResponse = proxyClient.injectCredentialsAndInvokeV2(enableLoggingRequest, proxyClient.client()::enableLogging);
+    } catch (final ClusterNotFoundException | BucketNotFoundException | InsufficientS3BucketPolicyException
+            | InvalidS3KeyPrefixException | InvalidS3BucketNameException | InvalidClusterStateException  e) {
+      throw new CfnInvalidRequestException(e);
+    } catch (SdkClientException | AwsServiceException e) {
+      throw new CfnGeneralServiceException(e);
     }
-    return false;
+    logger.log(String.format("%s %s enable logging properties issued.",
+            ResourceModel.TYPE_NAME, enableLoggingRequest.clusterIdentifier()));
+
+    return enableLoggingResponse;
   }
 
   protected boolean isCrossRegionCopyEnabled(ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
-    DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClusterRequest(model),
-            proxyClient.client()::describeClusters);
-
-    List<Cluster> clusters = describeClustersResponse.clusters();
-    if(!CollectionUtils.isNullOrEmpty(clusters)) {
-      Cluster cluster = describeClustersResponse.clusters().get(0);
-      ClusterSnapshotCopyStatus clusterSnapshotCopyStatus = cluster.clusterSnapshotCopyStatus();
-      if (ObjectUtils.anyNotNull(clusterSnapshotCopyStatus)) {
-        return !StringUtils.isNullOrEmpty(clusterSnapshotCopyStatus.destinationRegion());
-      }
+    Cluster cluster = clusterStateSnapshot.get(proxyClient, model.getClusterIdentifier());
+    ClusterSnapshotCopyStatus clusterSnapshotCopyStatus = cluster.clusterSnapshotCopyStatus();
+    if (ObjectUtils.anyNotNull(clusterSnapshotCopyStatus)) {
+      return !StringUtils.isNullOrEmpty(clusterSnapshotCopyStatus.destinationRegion());
     }
     return false;
   }
 
   protected String destinationRegionForCrossRegionCopy(ProxyClient<RedshiftClient> proxyClient, ResourceModel model) {
-    DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClusterRequest(model),
-            proxyClient.client()::describeClusters);
-
-    List<Cluster> clusters = describeClustersResponse.clusters();
-    if(!CollectionUtils.isNullOrEmpty(clusters)) {
-      Cluster cluster = describeClustersResponse.clusters().get(0);
-      ClusterSnapshotCopyStatus clusterSnapshotCopyStatus = cluster.clusterSnapshotCopyStatus();
-      if (ObjectUtils.anyNotNull(clusterSnapshotCopyStatus)) {
-        return clusterSnapshotCopyStatus.destinationRegion();
-      }
+    Cluster cluster = clusterStateSnapshot.get(proxyClient, model.getClusterIdentifier());
+    ClusterSnapshotCopyStatus clusterSnapshotCopyStatus = cluster.clusterSnapshotCopyStatus();
+    if (ObjectUtils.anyNotNull(clusterSnapshotCopyStatus)) {
+      return clusterSnapshotCopyStatus.destinationRegion();
     }
     return null;
   }
 
   protected boolean isRebootRequired(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
-    List<Cluster> clusters = proxyClient.injectCredentialsAndInvokeV2(
-            Translator.translateToDescribeClusterRequest(model), proxyClient.client()::describeClusters)
-            .clusters();
-    if (!CollectionUtils.isNullOrEmpty(clusters)) {
-      if (!CollectionUtils.isNullOrEmpty(clusters.get(0).clusterParameterGroups())) {
-        return PARAMETER_GROUP_STATUS_PENDING_REBOOT.equals(clusters.get(0).clusterParameterGroups().get(0)
-                .parameterApplyStatus());
-      }
+    Cluster cluster = clusterStateSnapshot.get(proxyClient, model.getClusterIdentifier());
+    if (!CollectionUtils.isNullOrEmpty(cluster.clusterParameterGroups())) {
+      ClusterParameterGroupStatus parameterGroup = cluster.clusterParameterGroups().get(0);
+      return PARAMETER_GROUP_STATUS_PENDING_REBOOT.equals(parameterGroup.parameterApplyStatus()) &&
+              hasStaticParameterPendingReboot(parameterGroup, proxyClient);
     }
     return false;
   }
 
-  protected boolean isAQUAStatusApplying(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
-    List<Cluster> clusters = proxyClient.injectCredentialsAndInvokeV2(
-            Translator.translateToDescribeClusterRequest(model), proxyClient.client()::describeClusters)
-            .clusters();
-    if (!CollectionUtils.isNullOrEmpty(clusters)) {
-      AquaConfiguration aquaConfiguration = clusters.get(0).aquaConfiguration();
-      if (ObjectUtils.allNotNull(aquaConfiguration)) {
-        return AQUA_STATUS_APPLYING.equals(aquaConfiguration.aquaStatusAsString());
+  // pending-reboot is reported for the whole parameter group, the parameter status list tells which parameters wait
+  // for it. Dynamic parameters of the group the cluster already uses get applied without a reboot, so we only reboot
+  // for the others. A new parameter group is only applied by a reboot, callers don't ask in that case. Without a
+  // status list or without the apply types we can't tell and reboot as before.
+  private boolean hasStaticParameterPendingReboot(ClusterParameterGroupStatus parameterGroup, ProxyClient<RedshiftClient> proxyClient) {
+    Set<String> pendingParameters = new HashSet<>();
+    if (!CollectionUtils.isNullOrEmpty(parameterGroup.clusterParameterStatusList())) {
+      for (ClusterParameterStatus status : parameterGroup.clusterParameterStatusList()) {
+        if (PARAMETER_GROUP_STATUS_PENDING_REBOOT.equals(status.parameterApplyStatus())) {
+          pendingParameters.add(status.parameterName());
+        }
       }
     }
-    return false;
-  }
-
-  protected boolean isClusterPaused (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
-    DescribeClustersRequest awsRequest =
-            DescribeClustersRequest.builder().clusterIdentifier(model.getClusterIdentifier()).build();
-    DescribeClustersResponse awsResponse =
-            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
+    if (pendingParameters.isEmpty()) {
+      return true;
+    }
 
-    List<Cluster> clusters = awsResponse.clusters();
-    if(!CollectionUtils.isNullOrEmpty(clusters)) {
-      return CLUSTER_STATUS_PAUSED.equals(awsResponse.clusters().get(0).clusterStatus());
+    try {
+      Set<String> dynamicParameters = new HashSet<>();
+      DescribeClusterParametersRequest request = DescribeClusterParametersRequest.builder()
+              .parameterGroupName(parameterGroup.parameterGroupName())
+              .build();
+      for (DescribeClusterParametersResponse page : proxyClient.injectCredentialsAndInvokeIterableV2(request,
+              proxyClient.client()::describeClusterParametersPaginator)) {
+        for (Parameter parameter : page.parameters()) {
+          if (PARAMETER_APPLY_TYPE_DYNAMIC.equalsIgnoreCase(parameter.applyType())) {
+            dynamicParameters.add(parameter.parameterName());
+          }
+        }
+      }
+      return !dynamicParameters.containsAll(pendingParameters);
+    } catch (RedshiftException | SdkClientException e) {
+      return true;
     }
-    return false;
   }
 
-  // with the existing dependencies,
-  // the static method takes some effort to unit test,
-  // will cover it later when upgrading the dependencies
-  protected void sleep(int seconds) {
-    try {
-      Thread.sleep(seconds * 1000);
-    } catch (InterruptedException e) {
-      throw new CfnGeneralServiceException("Please retry again in a few seconds, ", e);
+  protected boolean isAQUAStatusApplying(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
+    AquaConfiguration aquaConfiguration = clusterStateSnapshot.get(proxyClient, model.getClusterIdentifier()).aquaConfiguration();
+    if (ObjectUtils.allNotNull(aquaConfiguration)) {
+      return AQUA_STATUS_APPLYING.equals(aquaConfiguration.aquaStatusAsString());
     }
+    return false;
+  }
 
+  protected boolean isClusterPaused (final ProxyClient<RedshiftClient> proxyClient, ResourceModel model, CallbackContext cxt) {
+    return CLUSTER_STATUS_PAUSED.equals(clusterStateSnapshot.refresh(proxyClient, model.getClusterIdentifier()).clusterStatus());
   }
+
 }
@@ -2,6 +2,9 @@ package software.amazon.redshift.cluster;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,9 +13,14 @@ public class CallbackContext extends StdCallbackContext {
     String namespaceArn = null;
     LoggingProperties loggingProperties;
     boolean callBackForReboot = false;
+    // steps that left the cluster waiting for a reboot, the update reboots once for all of them
+    List<String> rebootRequestedBy = new ArrayList<>();
+    boolean rebootIssued = false;
     boolean callBackForDelete = false;
     boolean callBackAfterResize = false;
     boolean clusterExistsCheck = false;
+    // no longer read, Aqua and DB revision changes complete on what the cluster reports. Kept so contexts
+    // serialized before the change still deserialize
     int retryForAquaStabilize = 0;
     int retryForPatchingStabilize = 0;
     boolean callbackAfterAquaModify = false;
@@ -20,6 +28,13 @@ public class CallbackContext extends StdCallbackContext {
     boolean callbackAfterClusterCreate = false;
     boolean callbackAfterClusterRestore = false;
     boolean callbackAfterAfterClusterParameterGroupNameModify = false;
+    boolean callbackAfterModifyClusterIssued = false;
+    boolean callbackAfterClusterParameterGroupNameModifyIssued = false;
+    PhaseTimeline phaseTimeline = new PhaseTimeline();
+    RestoreProgress restoreProgress = new RestoreProgress();
+    ResizeProgress resizeProgress = new ResizeProgress();
+    // ResizePlanner.ResizeType of the resize, decided once before ResizeCluster is called
+    String resizeType;
 
     public void setNamespaceArn(String namespaceArn) {this.namespaceArn = namespaceArn; }
 
@@ -39,6 +54,14 @@ public class CallbackContext extends StdCallbackContext {
 
     public boolean getCallBackForReboot() { return callBackForReboot; }
 
+    public List<String> getRebootRequestedBy() { return rebootRequestedBy; }
+
+    public void setRebootRequestedBy(List<String> rebootRequestedBy) { this.rebootRequestedBy = rebootRequestedBy; }
+
+    public boolean getRebootIssued() { return rebootIssued; }
+
+    public void setRebootIssued(boolean rebootIssued) { this.rebootIssued = rebootIssued; }
+
     public void setCallBackForDelete(boolean callBackForDelete) {
         this.callBackForDelete = callBackForDelete;
     }
@@ -87,4 +110,30 @@ public class CallbackContext extends StdCallbackContext {
 
     public void setCallbackAfterClusterRestore(boolean callbackAfterClusterRestore) { this.callbackAfterClusterRestore = callbackAfterClusterRestore; }
 
+    public boolean getCallbackAfterModifyClusterIssued() { return this.callbackAfterModifyClusterIssued; }
+
+    public void setCallbackAfterModifyClusterIssued(boolean callbackAfterModifyClusterIssued) { this.callbackAfterModifyClusterIssued = callbackAfterModifyClusterIssued; }
+
+    public boolean getCallbackAfterClusterParameterGroupNameModifyIssued() { return this.callbackAfterClusterParameterGroupNameModifyIssued; }
+
+    public void setCallbackAfterClusterParameterGroupNameModifyIssued(boolean callbackAfterClusterParameterGroupNameModifyIssued) {
+        this.callbackAfterClusterParameterGroupNameModifyIssued = callbackAfterClusterParameterGroupNameModifyIssued;
+    }
+
+    public PhaseTimeline getPhaseTimeline() { return this.phaseTimeline; }
+
+    public void setPhaseTimeline(PhaseTimeline phaseTimeline) { this.phaseTimeline = phaseTimeline; }
+
+    public RestoreProgress getRestoreProgress() { return this.restoreProgress; }
+
+    public void setRestoreProgress(RestoreProgress restoreProgress) { this.restoreProgress = restoreProgress; }
+
+    public ResizeProgress getResizeProgress() { return this.resizeProgress; }
+
+    public void setResizeProgress(ResizeProgress resizeProgress) { this.resizeProgress = resizeProgress; }
+
+    public String getResizeType() { return this.resizeType; }
+
+    public void setResizeType(String resizeType) { this.resizeType = resizeType; }
+
 }
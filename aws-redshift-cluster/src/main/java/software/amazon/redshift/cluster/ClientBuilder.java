@@ -1,12 +1,49 @@
 package software.amazon.redshift.cluster;
 
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
+import software.amazon.awssdk.services.redshift.RedshiftAsyncClient;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ClientBuilder {
+  // the async counterpart of LambdaWrapper.HTTP_CLIENT, built once and shared by the async clients of every region
+  private static final SdkAsyncHttpClient ASYNC_HTTP_CLIENT = NettyNioAsyncHttpClient.builder().build();
+
+  /*
+  Building a RedshiftClient resolves the endpoint, loads the service model and assembles the
+  interceptor chain, which costs more than the single describe call most handlers make with it.
+  The client is thread-safe and the ProxyClient injects the caller credentials on every request,
+  so one client per region is kept for the life of the warm container and shared by all handlers
+  of this resource. The other resources of this repository keep their clients the same way.
+   */
+  private static final Map<Region, RedshiftClient> CLIENTS = new ConcurrentHashMap<>();
+  private static final Map<Region, RedshiftAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+
   static RedshiftClient getClient() {
-    return RedshiftClient.builder()
+    return getClient(new DefaultAwsRegionProviderChain().getRegion());
+  }
+
+  static RedshiftClient getClient(final Region region) {
+    return CLIENTS.computeIfAbsent(region, key -> RedshiftClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
+            .region(key)
+            .build());
+  }
+
+  static RedshiftAsyncClient getAsyncClient() {
+    return getAsyncClient(new DefaultAwsRegionProviderChain().getRegion());
+  }
+
+  static RedshiftAsyncClient getAsyncClient(final Region region) {
+    return ASYNC_CLIENTS.computeIfAbsent(region, key -> RedshiftAsyncClient.builder()
+            .httpClient(ASYNC_HTTP_CLIENT)
+            .region(key)
+            .build());
   }
 }
@@ -0,0 +1,59 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterDbRevision;
+import software.amazon.awssdk.services.redshift.model.PendingModifiedValues;
+
+/**
+ * What Redshift reports once an Aqua or DB revision change is really done. Both changes are applied after the call
+ * returns and the cluster can still look available for a while before it picks them up, so completion is read from
+ * the change itself rather than from the cluster status alone.
+ */
+final class ClusterChangeSignals {
+  static final String CLUSTER_STATUS_AVAILABLE = "available";
+  static final String AQUA_STATUS_APPLYING = "applying";
+
+  private static final PendingModifiedValues NO_PENDING_MODIFIED_VALUES = PendingModifiedValues.builder().build();
+
+  private ClusterChangeSignals() {
+  }
+
+  /**
+   * @param cluster the cluster as last described
+   * @param desiredConfigurationStatus enabled, disabled or auto, null when the model doesn't set it
+   * @return whether the Aqua configuration is in place: the cluster is available and reports the desired
+   * configuration. Aqua can still be applying then, which only clears with the reboot the update issues for it
+   */
+  static boolean isAquaConfigurationApplied(final Cluster cluster, final String desiredConfigurationStatus) {
+    final AquaConfiguration aquaConfiguration = cluster.aquaConfiguration();
+    if (aquaConfiguration == null || !isAvailable(cluster)) {
+      return false;
+    }
+    return desiredConfigurationStatus == null
+            || desiredConfigurationStatus.equalsIgnoreCase(aquaConfiguration.aquaConfigurationStatusAsString());
+  }
+
+  /**
+   * @param cluster the cluster as last described
+   * @param dbRevision the cluster revision from DescribeClusterDbRevisions, null when it wasn't returned
+   * @param revisionTarget the revision the cluster is moving to, null when the model doesn't set it
+   * @return whether the cluster runs the target revision with nothing left pending
+   */
+  static boolean isDbRevisionApplied(final Cluster cluster, final ClusterDbRevision dbRevision, final String revisionTarget) {
+    if (!isAvailable(cluster) || !hasNoPendingModifiedValues(cluster)) {
+      return false;
+    }
+    return revisionTarget == null
+            || (dbRevision != null && revisionTarget.equals(dbRevision.currentDatabaseRevision()));
+  }
+
+  static boolean isAvailable(final Cluster cluster) {
+    return CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterStatus())
+            && CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterAvailabilityStatus());
+  }
+
+  private static boolean hasNoPendingModifiedValues(final Cluster cluster) {
+    return cluster.pendingModifiedValues() == null || NO_PENDING_MODIFIED_VALUES.equals(cluster.pendingModifiedValues());
+  }
+}
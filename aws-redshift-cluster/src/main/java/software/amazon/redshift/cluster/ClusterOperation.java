@@ -0,0 +1,92 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+
+/**
+ * Cluster operations grouped by how long Redshift usually takes to finish them, each with the
+ * stabilization backoff used while waiting for it.
+ *
+ * Operations that never move the cluster out of available are metadata-only: they are done once the API call
+ * returns, so they are not stabilized at all.
+ */
+enum ClusterOperation {
+  // tags live on the resource ARN, the cluster status never changes
+  TAGS(metadataDelay(), false),
+  // the policy is attached to the namespace, not the cluster
+  RESOURCE_POLICY(metadataDelay(), false),
+  // tags, IAM roles, logging, snapshot copy and maintenance settings, usually done within seconds
+  METADATA(metadataDelay()),
+  MODIFY(AdaptiveDelay.of()
+          .timeout(Duration.ofDays(5L))
+          .fastPollAttempts(3)
+          .baseDelay(Duration.ofSeconds(10L))
+          .maxDelay(Duration.ofMinutes(2L))
+          .build()),
+  REBOOT(AdaptiveDelay.of()
+          .timeout(Duration.ofDays(5L))
+          .baseDelay(Duration.ofSeconds(10L))
+          .maxDelay(Duration.ofMinutes(1L))
+          .build()),
+  PAUSE_RESUME(AdaptiveDelay.of()
+          .timeout(Duration.ofDays(5L))
+          .baseDelay(Duration.ofSeconds(15L))
+          .maxDelay(Duration.ofMinutes(2L))
+          .build()),
+  FAILOVER(AdaptiveDelay.of()
+          .timeout(Duration.ofDays(5L))
+          .fastPollAttempts(3)
+          .baseDelay(Duration.ofSeconds(10L))
+          .maxDelay(Duration.ofMinutes(1L))
+          .build()),
+  // elastic resizes finish in minutes, classic resizes can run for hours
+  RESIZE(AdaptiveDelay.of()
+          .timeout(Duration.ofDays(5L))
+          .baseDelay(Duration.ofSeconds(15L))
+          .maxDelay(Duration.ofMinutes(5L))
+          .build()),
+  CREATE(AdaptiveDelay.of()
+          .timeout(Duration.ofMinutes(60L))
+          .baseDelay(Duration.ofSeconds(10L))
+          .maxDelay(Duration.ofMinutes(1L))
+          .build()),
+  RESTORE(AdaptiveDelay.of()
+          .timeout(Duration.ofMinutes(60L))
+          .baseDelay(Duration.ofSeconds(15L))
+          .maxDelay(Duration.ofMinutes(2L))
+          .build());
+
+  private final Delay backoffStrategy;
+  private final boolean statusChanging;
+
+  ClusterOperation(Delay backoffStrategy) {
+    this(backoffStrategy, true);
+  }
+
+  ClusterOperation(Delay backoffStrategy, boolean statusChanging) {
+    this.backoffStrategy = backoffStrategy;
+    this.statusChanging = statusChanging;
+  }
+
+  public Delay getBackoffStrategy() {
+    return this.backoffStrategy;
+  }
+
+  /**
+   * @return whether the cluster leaves available while the operation runs, so it has to be stabilized
+   */
+  public boolean isStatusChanging() {
+    return this.statusChanging;
+  }
+
+  private static Delay metadataDelay() {
+    return AdaptiveDelay.of()
+            .timeout(Duration.ofDays(5L))
+            .fastPollAttempts(6)
+            .fastPollDelay(Duration.ofSeconds(3L))
+            .baseDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .build();
+  }
+}
@@ -0,0 +1,69 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Request-scoped copy of the cluster as last returned by DescribeClusters.
+ *
+ * The status predicates in BaseHandlerStd read from here instead of each making their own DescribeClusters call.
+ * Stabilization polls refresh the snapshot, the checks in between read the cached copy, and every mutating call
+ * invalidates it so the next read goes back to the service.
+ */
+class ClusterStateSnapshot {
+  private String clusterIdentifier;
+  private Cluster cluster;
+  // survives invalidate(), it is what the last poll saw
+  private String lastObservedStatus;
+
+  /**
+   * Returns the cached cluster, describing it first if nothing is cached for this identifier.
+   * A cluster missing from the response is cached as an empty Cluster, which every predicate treats as "not in state".
+   * @param proxyClient the aws service client to make the call
+   * @param clusterIdentifier the cluster to describe
+   * @return the cluster
+   */
+  Cluster get(final ProxyClient<RedshiftClient> proxyClient, final String clusterIdentifier) {
+    if (cluster == null || !clusterIdentifier.equals(this.clusterIdentifier)) {
+      return refresh(proxyClient, clusterIdentifier);
+    }
+    return cluster;
+  }
+
+  /**
+   * Describes the cluster and replaces the cached copy. ClusterNotFoundException is propagated and clears the cache.
+   * @param proxyClient the aws service client to make the call
+   * @param clusterIdentifier the cluster to describe
+   * @return the cluster
+   */
+  Cluster refresh(final ProxyClient<RedshiftClient> proxyClient, final String clusterIdentifier) {
+    invalidate();
+    DescribeClustersRequest awsRequest =
+            DescribeClustersRequest.builder().clusterIdentifier(clusterIdentifier).build();
+    DescribeClustersResponse awsResponse =
+            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
+
+    this.clusterIdentifier = clusterIdentifier;
+    this.cluster = awsResponse.clusters()
+            .stream()
+            .findAny()
+            .orElse(Cluster.builder().build());
+    this.lastObservedStatus = cluster.clusterStatus();
+    return cluster;
+  }
+
+  /**
+   * @return the cluster status returned by the last DescribeClusters, null if none was made
+   */
+  String lastObservedStatus() {
+    return lastObservedStatus;
+  }
+
+  void invalidate() {
+    this.clusterIdentifier = null;
+    this.cluster = null;
+  }
+}
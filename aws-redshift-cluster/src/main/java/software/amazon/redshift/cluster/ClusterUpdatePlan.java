@@ -0,0 +1,156 @@
+package software.amazon.redshift.cluster;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Operations an update has to run, derived from the previous and desired models. The handler runs its stages in
+ * a fixed order, the order of {@link Operation}, and skips the ones the plan does not include.
+ *
+ * A parameter group change that comes with other modify-cluster attribute changes is folded into the same
+ * ModifyCluster request, which saves one API call and one full stabilization cycle.
+ *
+ * Some operations (logging, snapshot copy retention) also depend on the current cluster state. The plan only says
+ * they may be needed, the handler still checks the cluster before issuing them.
+ */
+@lombok.Getter
+class ClusterUpdatePlan {
+
+  enum Operation {
+    RESUME(ClusterOperation.PAUSE_RESUME),
+    LOGGING(ClusterOperation.METADATA),
+    SNAPSHOT_COPY_RETENTION_PERIOD(ClusterOperation.METADATA),
+    MAINTENANCE(ClusterOperation.METADATA),
+    DB_REVISION(ClusterOperation.MODIFY),
+    AQUA(ClusterOperation.MODIFY),
+    RESIZE(ClusterOperation.RESIZE),
+    PARAMETER_GROUP(ClusterOperation.MODIFY),
+    MODIFY_CLUSTER(ClusterOperation.MODIFY),
+    ROTATE_ENCRYPTION_KEY(ClusterOperation.MODIFY),
+    PAUSE(ClusterOperation.PAUSE_RESUME),
+    FAILOVER(ClusterOperation.FAILOVER);
+
+    @lombok.Getter
+    private final ClusterOperation clusterOperation;
+
+    Operation(ClusterOperation clusterOperation) {
+      this.clusterOperation = clusterOperation;
+    }
+  }
+
+  private final String clusterIdentifier;
+  private final Set<Operation> operations;
+  // a new parameter group is only applied by a reboot, whatever the apply types of its parameters
+  private final boolean parameterGroupNameChanged;
+  private final boolean parameterGroupFoldedIntoModifyCluster;
+
+  private ClusterUpdatePlan(String clusterIdentifier, Set<Operation> operations, boolean parameterGroupNameChanged,
+                            boolean parameterGroupFoldedIntoModifyCluster) {
+    this.clusterIdentifier = clusterIdentifier;
+    this.operations = Collections.unmodifiableSet(operations);
+    this.parameterGroupNameChanged = parameterGroupNameChanged;
+    this.parameterGroupFoldedIntoModifyCluster = parameterGroupFoldedIntoModifyCluster;
+  }
+
+  /**
+   * Diff the previous and desired models
+   * @param previousModel model before the update
+   * @param desiredModel model after the update
+   * @param modifyClusterAttributesChanged whether any attribute covered by ModifyCluster changed
+   * @return plan of the operations this update needs
+   */
+  static ClusterUpdatePlan of(final ResourceModel previousModel,
+                              final ResourceModel desiredModel,
+                              final BiPredicate<ResourceModel, ResourceModel> modifyClusterAttributesChanged) {
+    final Set<Operation> required = EnumSet.noneOf(Operation.class);
+    final String action = desiredModel.getResourceAction();
+
+    if (BaseHandlerStd.RESUME_CLUSTER.equals(action) && BaseHandlerStd.PAUSE_CLUSTER.equals(previousModel.getResourceAction())) {
+      required.add(Operation.RESUME);
+    }
+    // logging may have been turned on outside of CFN, disabling is checked against the cluster
+    if (desiredModel.getLoggingProperties() == null ||
+            ObjectUtils.notEqual(desiredModel.getLoggingProperties(), previousModel.getLoggingProperties())) {
+      required.add(Operation.LOGGING);
+    }
+    if (desiredModel.getSnapshotCopyRetentionPeriod() != null &&
+            (ObjectUtils.notEqual(previousModel.getSnapshotCopyRetentionPeriod(), desiredModel.getSnapshotCopyRetentionPeriod()) ||
+                    ObjectUtils.notEqual(previousModel.getSnapshotCopyManual(), desiredModel.getSnapshotCopyManual()))) {
+      required.add(Operation.SNAPSHOT_COPY_RETENTION_PERIOD);
+    }
+    if (ObjectUtils.anyNotNull(desiredModel.getDeferMaintenance(), desiredModel.getDeferMaintenanceDuration(),
+            desiredModel.getDeferMaintenanceStartTime(), desiredModel.getDeferMaintenanceEndTime(),
+            desiredModel.getDeferMaintenanceIdentifier())) {
+      required.add(Operation.MAINTENANCE);
+    }
+    if (desiredModel.getRevisionTarget() != null &&
+            ObjectUtils.notEqual(previousModel.getRevisionTarget(), desiredModel.getRevisionTarget())) {
+      required.add(Operation.DB_REVISION);
+    }
+    if (desiredModel.getAquaConfigurationStatus() != null &&
+            ObjectUtils.notEqual(previousModel.getAquaConfigurationStatus(), desiredModel.getAquaConfigurationStatus())) {
+      required.add(Operation.AQUA);
+    }
+    if (ObjectUtils.notEqual(previousModel.getNodeType(), desiredModel.getNodeType()) ||
+            ObjectUtils.notEqual(previousModel.getNumberOfNodes(), desiredModel.getNumberOfNodes()) ||
+            ObjectUtils.notEqual(previousModel.getClusterType(), desiredModel.getClusterType())) {
+      required.add(Operation.RESIZE);
+    }
+
+    final boolean parameterGroupChanged = ObjectUtils.notEqual(previousModel.getClusterParameterGroupName(),
+            desiredModel.getClusterParameterGroupName());
+    final boolean modifyCluster = modifyClusterAttributesChanged.test(previousModel, desiredModel);
+    if (modifyCluster) {
+      required.add(Operation.MODIFY_CLUSTER);
+    } else if (parameterGroupChanged) {
+      required.add(Operation.PARAMETER_GROUP);
+    }
+
+    if (BooleanUtils.isTrue(desiredModel.getRotateEncryptionKey())) {
+      required.add(Operation.ROTATE_ENCRYPTION_KEY);
+    }
+    if (BaseHandlerStd.PAUSE_CLUSTER.equals(action)) {
+      required.add(Operation.PAUSE);
+    }
+    if (BaseHandlerStd.FAILOVER_PRIMARY_COMPUTE.equals(action) && BooleanUtils.isTrue(desiredModel.getMultiAZ())) {
+      required.add(Operation.FAILOVER);
+    }
+
+    return new ClusterUpdatePlan(desiredModel.getClusterIdentifier(), required,
+            parameterGroupChanged, modifyCluster && parameterGroupChanged);
+  }
+
+  boolean includes(final Operation operation) {
+    return operations.contains(operation);
+  }
+
+  /**
+   * Human readable plan, one operation per line, in the order the handler runs them.
+   * @return rendered plan
+   */
+  String render() {
+    final StringBuilder builder = new StringBuilder(String.format("Update plan for %s: %d operation(s)",
+            clusterIdentifier, operations.size()));
+    int step = 1;
+    for (Operation operation : operations) {
+      builder.append(String.format("%n  %d. %s [%s]", step++, operation, operation.getClusterOperation()));
+      if (operation == Operation.MODIFY_CLUSTER && parameterGroupFoldedIntoModifyCluster) {
+        builder.append(" +ClusterParameterGroupName");
+      }
+    }
+    if (parameterGroupNameChanged) {
+      builder.append(String.format("%n  then REBOOT to apply the new parameter group"));
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public String toString() {
+    return render();
+  }
+}
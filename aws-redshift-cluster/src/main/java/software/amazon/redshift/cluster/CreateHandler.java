@@ -6,7 +6,6 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudwatch.model.InvalidParameterValueException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.AccessToSnapshotDeniedException;
-import software.amazon.awssdk.services.redshift.model.BucketNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterAlreadyExistsException;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
@@ -17,12 +16,9 @@ import software.amazon.awssdk.services.redshift.model.ClusterSubnetGroupNotFound
 import software.amazon.awssdk.services.redshift.model.CreateClusterRequest;
 import software.amazon.awssdk.services.redshift.model.CreateClusterResponse;
 import software.amazon.awssdk.services.redshift.model.DependentServiceRequestThrottlingException;
-import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
-import software.amazon.awssdk.services.redshift.model.EnableLoggingResponse;
 import software.amazon.awssdk.services.redshift.model.HsmClientCertificateNotFoundException;
 import software.amazon.awssdk.services.redshift.model.HsmConfigurationNotFoundException;
 import software.amazon.awssdk.services.redshift.model.InsufficientClusterCapacityException;
-import software.amazon.awssdk.services.redshift.model.InsufficientS3BucketPolicyException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterSnapshotStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterSubnetGroupStateException;
@@ -31,8 +27,6 @@ import software.amazon.awssdk.services.redshift.model.InvalidElasticIpException;
 import software.amazon.awssdk.services.redshift.model.InvalidPolicyException;
 import software.amazon.awssdk.services.redshift.model.InvalidRestoreException;
 import software.amazon.awssdk.services.redshift.model.InvalidRetentionPeriodException;
-import software.amazon.awssdk.services.redshift.model.InvalidS3BucketNameException;
-import software.amazon.awssdk.services.redshift.model.InvalidS3KeyPrefixException;
 import software.amazon.awssdk.services.redshift.model.InvalidSubnetException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
 import software.amazon.awssdk.services.redshift.model.InvalidVpcNetworkStateException;
@@ -97,9 +91,9 @@ public class CreateHandler extends BaseHandlerStd {
                     if (!StringUtils.isNullOrEmpty(resourceModel.getSnapshotIdentifier())) {
                         return proxy.initiate("AWS-Redshift-Cluster::restoreFromClusterSnapshot", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToRestoreFromClusterSnapshotRequest)
-                                .backoffDelay(CREATE_BACKOFF_STRATEGY)
-                                .makeServiceCall(this::restoreFromClusterSnapshot)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(new ProgressEstimateDelay(callbackContext.getRestoreProgress(), ClusterOperation.RESTORE.getBackoffStrategy()))
+                                .makeServiceCall(invalidatingClusterSnapshot(this::restoreFromClusterSnapshot))
+                                .stabilize(trackingPhase("restoreFromClusterSnapshot", (_request, _response, _client, _model, _context) -> isClusterRestored(_client, _model, _context)))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterRestore()) {
                                         logger.log(String.format("Cluster Restore done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, resourceModel.getClusterIdentifier()));
@@ -116,9 +110,9 @@ public class CreateHandler extends BaseHandlerStd {
                     if (StringUtils.isNullOrEmpty(resourceModel.getSnapshotIdentifier()) && !invalidCreateClusterRequest(resourceModel)) {
                         return proxy.initiate("AWS-Redshift-Cluster::createCluster", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, mergedTags))
-                                .backoffDelay(CREATE_BACKOFF_STRATEGY)
-                                .makeServiceCall(this::createClusterResource)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.CREATE.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::createClusterResource))
+                                .stabilize(trackingPhase("createCluster", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterCreate()) {
                                         logger.log(String.format("Cluster Create done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, resourceModel.getClusterIdentifier()));
@@ -134,21 +128,17 @@ public class CreateHandler extends BaseHandlerStd {
                 })
                 .then(progress -> {
                     if (resourceModel.getLoggingProperties() != null) {
-                        return proxy.initiate("AWS-Redshift-Cluster::enableLogging", proxyClient, resourceModel, callbackContext)
-                                .translateToServiceRequest(Translator::translateToEnableLoggingRequest)
-                                .makeServiceCall(this::enableLogging)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
+                        // a retried create may find logging already enabled, the reconciler then makes no call
+                        return reconcileLogging(proxy, proxyClient, progress, resourceModel, callbackContext, logger);
                     }
                     return progress;
                 })
                 .then(progress -> {
                     if (resourceModel.getClusterNamespaceArn() != null && resourceModel.getNamespaceResourcePolicy() != null) {
-                        return proxy.initiate("AWS-Redshift-ResourcePolicy::Put", proxyClient, resourceModel, callbackContext)
-                                .translateToServiceRequest(model -> Translator.translateToPutResourcePolicy(resourceModel, logger))
-                                .makeServiceCall(this::putNamespaceResourcePolicy)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
+                        return completeOperation(ClusterOperation.RESOURCE_POLICY,
+                                proxy.initiate("AWS-Redshift-ResourcePolicy::Put", proxyClient, resourceModel, callbackContext)
+                                        .translateToServiceRequest(model -> Translator.translateToPutResourcePolicy(resourceModel, logger))
+                                        .makeServiceCall(this::putNamespaceResourcePolicy));
                     }
                     return progress;
                 })
@@ -156,13 +146,14 @@ public class CreateHandler extends BaseHandlerStd {
                     if (resourceModel.getDeferMaintenance() != null && resourceModel.getDeferMaintenance())  {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterMaintenance", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyClusterMaintenanceRequest)
-                                .makeServiceCall(this::modifyClusterMaintenance)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::modifyClusterMaintenance))
+                                .stabilize(trackingPhase("ModifyClusterMaintenance", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(asyncProxyClient).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private RestoreFromClusterSnapshotResponse restoreFromClusterSnapshot(
@@ -221,25 +212,6 @@ public class CreateHandler extends BaseHandlerStd {
         return createResponse;
     }
 
-    private EnableLoggingResponse enableLogging(
-            final EnableLoggingRequest enableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
-        EnableLoggingResponse enableLoggingResponse = null;
-
-        try {
-            logger.log(String.format("enableLogging for %s", enableLoggingRequest.clusterIdentifier()));
-            enableLoggingResponse = proxyClient.injectCredentialsAndInvokeV2(enableLoggingRequest, proxyClient.client()::enableLogging);
-        } catch (final ClusterNotFoundException | BucketNotFoundException | InsufficientS3BucketPolicyException
-                | InvalidS3KeyPrefixException | InvalidS3BucketNameException | InvalidClusterStateException  e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (SdkClientException | AwsServiceException e) {
-            throw new CfnGeneralServiceException(e);
-        }
-        logger.log(String.format("%s %s enable logging properties issued.",
-                ResourceModel.TYPE_NAME, enableLoggingRequest.clusterIdentifier()));
-        return enableLoggingResponse;
-    }
-
     private PutResourcePolicyResponse putNamespaceResourcePolicy(
         final PutResourcePolicyRequest putRequest,
         final ProxyClient<RedshiftClient> proxyClient) {
@@ -51,7 +51,7 @@ public class DeleteHandler extends BaseHandlerStd {
                         proxy.initiate("AWS-Redshift-Cluster::Delete", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((_model) -> Translator.translateToDeleteRequest(_model, request.getSnapshotRequested()))
                                 .makeServiceCall(this::deleteResource)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActiveAfterDelete(_client, _model, _context))
+                                .stabilize(trackingPhase("Delete", (_request, _response, _client, _model, _context) -> isClusterActiveAfterDelete(_client, _model, _context)))
                                 .done((response) -> {
                                     logger.log(String.format("%s %s deleted.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                     return ProgressEvent.defaultSuccessHandler(null);
@@ -0,0 +1,164 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ProxyClient decorator feeding every call into {@link ApiCallMetrics} and, when tracing is on, into a span
+ * under the current {@link Tracer} span. Latency and errors are taken around the delegate call, retries come
+ * from the SDK RETRY_COUNT metric through a publisher added to each request, so they are counted for async and
+ * paginated calls too. Paginated calls are only counted through their retries, the pages are fetched lazily
+ * outside of this decorator.
+ */
+class InstrumentedProxyClient<ClientT> implements ProxyClient<ClientT> {
+  private static final String REQUEST_SUFFIX = "Request";
+
+  private final ProxyClient<ClientT> delegate;
+  private final ApiCallMetrics metrics;
+  private final Tracer tracer;
+
+  InstrumentedProxyClient(final ProxyClient<ClientT> delegate, final ApiCallMetrics metrics, final Tracer tracer) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+    this.tracer = tracer;
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+    final RequestT request,
+    final Function<RequestT, ResponseT> requestFunction) {
+    final String operation = operationName(request);
+    return timed(operation, () -> delegate.injectCredentialsAndInvokeV2(request, countingRetries(operation, requestFunction)));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+    final RequestT request,
+    final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+    final String operation = operationName(request);
+    final Tracer.Span span = apiCallSpan(operation);
+    final long start = System.nanoTime();
+    final CompletableFuture<ResponseT> response;
+    try {
+      response = delegate.injectCredentialsAndInvokeV2Async(request, countingRetries(operation, requestFunction));
+    } catch (final RuntimeException e) {
+      metrics.recordCall(operation, elapsedMillis(start), e);
+      span.error(e).end();
+      throw e;
+    }
+    return response.whenComplete((result, error) -> {
+      metrics.recordCall(operation, elapsedMillis(start), error);
+      span.error(error).end();
+    });
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+    final RequestT request,
+    final Function<RequestT, IterableT> requestFunction) {
+    return delegate.injectCredentialsAndInvokeIterableV2(request, countingRetries(operationName(request), requestFunction));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+    final RequestT request,
+    final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+    final String operation = operationName(request);
+    return timed(operation, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, countingRetries(operation, requestFunction)));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+    final RequestT request,
+    final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+    final String operation = operationName(request);
+    return timed(operation, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, countingRetries(operation, requestFunction)));
+  }
+
+  @Override
+  public ClientT client() {
+    return delegate.client();
+  }
+
+  static String operationName(final AwsRequest request) {
+    final String name = request.getClass().getSimpleName();
+    return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+  }
+
+  private <T> T timed(final String operation, final Supplier<T> call) {
+    final Tracer.Span span = apiCallSpan(operation);
+    final long start = System.nanoTime();
+    try {
+      final T response = call.get();
+      metrics.recordCall(operation, elapsedMillis(start), null);
+      return response;
+    } catch (final RuntimeException e) {
+      metrics.recordCall(operation, elapsedMillis(start), e);
+      span.error(e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  private Tracer.Span apiCallSpan(final String operation) {
+    return tracer.startSpan("Redshift." + operation)
+      .attribute("rpc.system", "aws-api")
+      .attribute("rpc.service", "Redshift")
+      .attribute("rpc.method", operation);
+  }
+
+  private <RequestT extends AwsRequest, ResponseT> Function<RequestT, ResponseT> countingRetries(
+    final String operation,
+    final Function<RequestT, ResponseT> requestFunction) {
+    return request -> requestFunction.apply(withMetricPublisher(request, new RetryCountPublisher(operation)));
+  }
+
+  // the proxy hands over the request with its credentials already injected, so the publisher is added on top
+  @SuppressWarnings("unchecked")
+  private static <RequestT extends AwsRequest> RequestT withMetricPublisher(final RequestT request, final MetricPublisher publisher) {
+    final AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+      .map(AwsRequestOverrideConfiguration::toBuilder)
+      .orElseGet(AwsRequestOverrideConfiguration::builder)
+      .addMetricPublisher(publisher)
+      .build();
+    return (RequestT) request.toBuilder().overrideConfiguration(overrideConfiguration).build();
+  }
+
+  private static long elapsedMillis(final long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private class RetryCountPublisher implements MetricPublisher {
+    private final String operation;
+
+    RetryCountPublisher(final String operation) {
+      this.operation = operation;
+    }
+
+    @Override
+    public void publish(final MetricCollection metricCollection) {
+      final int retries = metricCollection.metricValues(CoreMetric.RETRY_COUNT).stream().mapToInt(Integer::intValue).sum();
+      if (retries > 0) {
+        metrics.recordRetries(operation, retries);
+      }
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package software.amazon.redshift.cluster;
+
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decides the one logging call, if any, that takes the cluster from what DescribeLoggingStatus reports to the
+ * desired LoggingProperties. EnableLogging replaces the whole configuration, so a change of bucket, prefix,
+ * destination or exports is a single EnableLogging, and a configuration that already matches needs no call.
+ */
+final class LoggingReconciler {
+  static final String LOG_DESTINATION_TYPE_S3 = "s3";
+
+  enum Action {
+    NONE,
+    ENABLE,
+    DISABLE
+  }
+
+  private LoggingReconciler() {
+  }
+
+  /**
+   * @param desired desired logging properties, null when logging should be off
+   * @param current current logging status, null when it is unknown
+   * @return the call to make
+   */
+  static Action reconcile(final LoggingProperties desired, final DescribeLoggingStatusResponse current) {
+    final boolean enabled = isEnabled(current);
+    if (desired == null) {
+      return enabled ? Action.DISABLE : Action.NONE;
+    }
+    return enabled && matches(desired, current) ? Action.NONE : Action.ENABLE;
+  }
+
+  static boolean isEnabled(final DescribeLoggingStatusResponse current) {
+    return current != null && Boolean.TRUE.equals(current.loggingEnabled());
+  }
+
+  /*
+  compares the way EnableLogging would apply the properties: no destination type means S3, the prefix gets the
+  trailing slash Translator adds, bucket and prefix don't matter for CloudWatch, and exports are a set
+   */
+  private static boolean matches(final LoggingProperties desired, final DescribeLoggingStatusResponse current) {
+    final String desiredDestination = StringUtils.defaultIfEmpty(desired.getLogDestinationType(), LOG_DESTINATION_TYPE_S3);
+    final String currentDestination = StringUtils.defaultIfEmpty(current.logDestinationTypeAsString(), LOG_DESTINATION_TYPE_S3);
+    if (!desiredDestination.equalsIgnoreCase(currentDestination)) {
+      return false;
+    }
+    if (LOG_DESTINATION_TYPE_S3.equalsIgnoreCase(desiredDestination)
+            && (!StringUtils.equals(StringUtils.defaultString(desired.getBucketName()), StringUtils.defaultString(current.bucketName()))
+            || !StringUtils.equals(normalizePrefix(desired.getS3KeyPrefix()), normalizePrefix(current.s3KeyPrefix())))) {
+      return false;
+    }
+    return toSet(desired.getLogExports()).equals(toSet(current.logExports()));
+  }
+
+  private static String normalizePrefix(final String s3KeyPrefix) {
+    if (StringUtils.isEmpty(s3KeyPrefix)) {
+      return "";
+    }
+    return s3KeyPrefix.endsWith("/") ? s3KeyPrefix : s3KeyPrefix + "/";
+  }
+
+  private static Set<String> toSet(final Collection<String> values) {
+    return new HashSet<>(Optional.ofNullable(values).orElse(Collections.emptyList()));
+  }
+}
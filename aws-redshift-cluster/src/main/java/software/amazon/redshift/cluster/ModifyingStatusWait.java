@@ -0,0 +1,59 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Stabilization of a ModifyCluster call, skipping the poll right after the call.
+ *
+ * It takes 1 or more seconds for the available cluster to change to modifying, a poll right after the call would
+ * see it still available and tell CFN the modify is done. So the first check after the call doesn't read the
+ * cluster and the first poll is scheduled WAIT later, by the proxy like every other poll: handed back to CFN as a
+ * callback delay, or waited out in the handler when the invocation has the time. 10 seconds is longer than needed
+ * most of the time, but the modify usually takes minutes for the cluster to be available again. The flag in the
+ * callback context skips a single check per call, later polls follow the fallback schedule.
+ *
+ * One instance per invocation, it remembers whether the last check was the skipped one.
+ */
+class ModifyingStatusWait implements Delay {
+  static final Duration WAIT = Duration.ofSeconds(10L);
+
+  private final Predicate<CallbackContext> waited;
+  private final BiConsumer<CallbackContext, Boolean> setWaited;
+  private final Delay fallback;
+  private boolean skipped;
+
+  ModifyingStatusWait(final Predicate<CallbackContext> waited,
+                      final BiConsumer<CallbackContext, Boolean> setWaited,
+                      final Delay fallback) {
+    this.waited = waited;
+    this.setWaited = setWaited;
+    this.fallback = fallback;
+  }
+
+  /**
+   * @param stabilizer the stabilizer of the modify call, not invoked on the check right after the call
+   * @return the stabilizer to hand to the call chain along with this delay
+   */
+  <RequestT, ResponseT> CallChain.Callback<RequestT, ResponseT, RedshiftClient, ResourceModel, CallbackContext, Boolean> after(
+          final CallChain.Callback<RequestT, ResponseT, RedshiftClient, ResourceModel, CallbackContext, Boolean> stabilizer) {
+    return (awsRequest, awsResponse, proxyClient, model, context) -> {
+      skipped = !waited.test(context);
+      if (skipped) {
+        setWaited.accept(context, true);
+        return false;
+      }
+      return stabilizer.invoke(awsRequest, awsResponse, proxyClient, model, context);
+    };
+  }
+
+  @Override
+  public Duration nextDelay(int attempt) {
+    return skipped ? WAIT : fallback.nextDelay(attempt);
+  }
+}
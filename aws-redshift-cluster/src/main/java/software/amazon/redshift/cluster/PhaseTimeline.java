@@ -0,0 +1,106 @@
+package software.amazon.redshift.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.proxy.OperationStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stabilization phases of one cluster operation, in the order they started. It lives in the callback context,
+ * so a phase that spans several re-invocations keeps one record: started at its first poll, ended at the poll
+ * that found it stabilized.
+ */
+@lombok.Data
+@lombok.NoArgsConstructor
+public class PhaseTimeline {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private List<Phase> phases = new ArrayList<>();
+
+  @lombok.Data
+  @lombok.NoArgsConstructor
+  public static class Phase {
+    private String id;
+    private long startedAt;
+    private Long endedAt;
+    private int polls;
+    private String lastStatus;
+  }
+
+  /**
+   * Adds a stabilization poll to the open phase with this id, or starts a new phase if there is none.
+   * @param phaseId the phase being stabilized
+   * @param now time of the poll
+   * @param observedStatus cluster status seen by the poll, null keeps the previous one
+   * @param stabilized whether the poll ended the phase
+   */
+  void recordPoll(final String phaseId, final Instant now, final String observedStatus, final boolean stabilized) {
+    Phase phase = openPhase(phaseId);
+    if (phase == null) {
+      phase = new Phase();
+      phase.setId(phaseId);
+      phase.setStartedAt(now.toEpochMilli());
+      phases.add(phase);
+    }
+    phase.setPolls(phase.getPolls() + 1);
+    if (observedStatus != null) {
+      phase.setLastStatus(observedStatus);
+    }
+    if (stabilized) {
+      phase.setEndedAt(now.toEpochMilli());
+    }
+  }
+
+  /**
+   * Renders the timeline as one JSON line, phases still open are reported up to now.
+   * @param clusterIdentifier the cluster the operation ran on
+   * @param status how the operation ended
+   * @param now time of the summary
+   * @return the summary line
+   */
+  String summary(final String clusterIdentifier, final OperationStatus status, final Instant now) {
+    final List<Map<String, Object>> renderedPhases = new ArrayList<>();
+    for (Phase phase : phases) {
+      final Map<String, Object> rendered = new LinkedHashMap<>();
+      rendered.put("Phase", phase.getId());
+      rendered.put("StartedAt", Instant.ofEpochMilli(phase.getStartedAt()).toString());
+      rendered.put("EndedAt", phase.getEndedAt() == null ? null : Instant.ofEpochMilli(phase.getEndedAt()).toString());
+      rendered.put("DurationSeconds", (end(phase, now) - phase.getStartedAt()) / 1000L);
+      rendered.put("Polls", phase.getPolls());
+      rendered.put("LastStatus", phase.getLastStatus());
+      renderedPhases.add(rendered);
+    }
+
+    final Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("ResourceType", ResourceModel.TYPE_NAME);
+    summary.put("ClusterIdentifier", clusterIdentifier);
+    summary.put("Status", status.toString());
+    summary.put("TotalSeconds", phases.isEmpty() ? 0L
+            : (end(phases.get(phases.size() - 1), now) - phases.get(0).getStartedAt()) / 1000L);
+    summary.put("Phases", renderedPhases);
+    try {
+      return MAPPER.writeValueAsString(summary);
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Phase openPhase(final String phaseId) {
+    for (int i = phases.size() - 1; i >= 0; i--) {
+      final Phase phase = phases.get(i);
+      if (phase.getId().equals(phaseId) && phase.getEndedAt() == null) {
+        return phase;
+      }
+    }
+    return null;
+  }
+
+  private static long end(final Phase phase, final Instant now) {
+    return phase.getEndedAt() == null ? now.toEpochMilli() : phase.getEndedAt();
+  }
+}
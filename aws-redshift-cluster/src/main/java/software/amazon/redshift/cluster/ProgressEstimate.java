@@ -0,0 +1,20 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+
+/**
+ * Progress of a long running cluster operation whose remaining time can be read from what the service reports on
+ * every poll, kept in the callback context so it carries over to the next invocation.
+ */
+interface ProgressEstimate {
+
+  /**
+   * @return time the operation still needs, null when it isn't running or nothing can be estimated
+   */
+  Duration estimatedTimeToCompletion();
+
+  /**
+   * @return polls whose delay came from the estimate rather than from the fallback schedule
+   */
+  int getPollsWithEstimate();
+}
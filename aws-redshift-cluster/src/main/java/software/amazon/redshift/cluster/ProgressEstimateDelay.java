@@ -0,0 +1,38 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+
+/**
+ * Stabilization delay for operations that report how long they still need, like a snapshot restore or a resize.
+ * While there is an estimate the next poll is scheduled at half of it, so an operation of several hours is polled a
+ * few dozen times instead of every couple of minutes. Without an estimate (operation not started yet, or done and
+ * the cluster finishing up) the fallback schedule applies, counting only its own attempts so the estimated polls
+ * don't eat into its timeout.
+ */
+class ProgressEstimateDelay implements Delay {
+  static final Duration MIN_DELAY = Duration.ofSeconds(30L);
+  static final Duration MAX_DELAY = Duration.ofMinutes(10L);
+
+  private final ProgressEstimate progress;
+  private final Delay fallback;
+
+  ProgressEstimateDelay(final ProgressEstimate progress, final Delay fallback) {
+    this.progress = progress;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Duration nextDelay(int attempt) {
+    final Duration remaining = progress.estimatedTimeToCompletion();
+    if (remaining == null) {
+      return fallback.nextDelay(Math.max(attempt - progress.getPollsWithEstimate(), 0));
+    }
+    final Duration half = remaining.dividedBy(2L);
+    if (half.compareTo(MIN_DELAY) < 0) {
+      return MIN_DELAY;
+    }
+    return half.compareTo(MAX_DELAY) > 0 ? MAX_DELAY : half;
+  }
+}
@@ -3,6 +3,7 @@ package software.amazon.redshift.cluster;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.redshift.RedshiftAsyncClient;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
@@ -30,6 +31,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
     private final String DESCRIBE_LOGGING_ERROR = "not authorized to perform: redshift:DescribeLoggingStatus";
@@ -40,6 +45,14 @@ public class ReadHandler extends BaseHandlerStd {
     private final Integer RESOURCE_POLICY_UNSUPPORTED_ERR_STATUS_CODE = 400;
     private boolean containsResourcePolicy = false;
 
+    public ReadHandler() {
+        this(null);
+    }
+
+    ReadHandler(final ProxyClient<RedshiftAsyncClient> asyncProxyClient) {
+        this.asyncProxyClient = asyncProxyClient;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -51,6 +64,17 @@ public class ReadHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
+        /*
+        containsResourcePolicy will be true if NamespaceResourcePolicy property is included in the template.
+        This attribute will be used to decide if "not authorized to perform: redshift:GetResourcePolicy" errors
+        in Read handler should be suppressed or not.
+         */
+        containsResourcePolicy = model.getNamespaceResourcePolicy() != null;
+
+        if (asyncProxyClient != null) {
+            return readInParallel(model, callbackContext);
+        }
+
         boolean clusterExists = doesClusterExist(proxyClient, model, model.getClusterIdentifier());
         if(!clusterExists) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -60,13 +84,6 @@ public class ReadHandler extends BaseHandlerStd {
                     .build();
         }
 
-        /*
-        containsResourcePolicy will be true if NamespaceResourcePolicy property is included in the template.
-        This attribute will be used to decide if "not authorized to perform: redshift:GetResourcePolicy" errors
-        in Read handler should be suppressed or not.
-         */
-        containsResourcePolicy = model.getNamespaceResourcePolicy() != null;
-
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
                         progress = proxy.initiate("AWS-Redshift-Cluster::DescribeLogging", proxyClient, model, callbackContext)
@@ -102,6 +119,83 @@ public class ReadHandler extends BaseHandlerStd {
                         }));
     }
 
+    /**
+     * Issues DescribeClusters, DescribeLoggingStatus and GetResourcePolicy at the same time through the async client
+     * and joins them into one model. DescribeClusters doubles as the existence check, so no separate round trip is
+     * made for it. GetResourcePolicy needs the namespace ARN, when the model doesn't carry it yet the call is chained
+     * after DescribeClusters instead of being issued up front.
+     * @param model the desired resource state, only the identifiers are read from it
+     * @param callbackContext the callback context
+     * @return read progress event
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> readInParallel(
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+        final DescribeClustersRequest describeClustersRequest = Translator.translateToDescribeClusterRequest(model);
+        final DescribeLoggingStatusRequest describeLoggingStatusRequest = Translator.translateToDescribeStatusLoggingRequest(model);
+
+        logger.log(String.format("%s %s describeClusters, describeLoggingStatus and getResourcePolicy in parallel.",
+                ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
+
+        final CompletableFuture<DescribeClustersResponse> describeClustersFuture = asyncProxyClient
+                .injectCredentialsAndInvokeV2Async(describeClustersRequest, asyncProxyClient.client()::describeClusters);
+        final CompletableFuture<DescribeLoggingStatusResponse> describeLoggingStatusFuture = asyncProxyClient
+                .injectCredentialsAndInvokeV2Async(describeLoggingStatusRequest, asyncProxyClient.client()::describeLoggingStatus);
+        final CompletableFuture<GetResourcePolicyRequest> getResourcePolicyRequestFuture = model.getClusterNamespaceArn() != null
+                ? CompletableFuture.completedFuture(Translator.translateToGetResourcePolicy(model))
+                : describeClustersFuture.thenApply(response -> Translator.translateToGetResourcePolicy(Translator.translateFromReadResponse(response)));
+        final CompletableFuture<GetResourcePolicyResponse> getResourcePolicyFuture = getResourcePolicyRequestFuture
+                .thenCompose(getResourcePolicyRequest -> asyncProxyClient
+                        .injectCredentialsAndInvokeV2Async(getResourcePolicyRequest, asyncProxyClient.client()::getResourcePolicy));
+
+        final DescribeClustersResponse describeClustersResponse;
+        try {
+            describeClustersResponse = describeCluster(describeClustersRequest, () -> join(describeClustersFuture));
+        } catch (final CfnNotFoundException e) {
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.FAILED)
+                    .errorCode(HandlerErrorCode.NotFound)
+                    .message(String.format("Cluster %s Not Found %s", model.getClusterIdentifier(),HandlerErrorCode.NotFound.getMessage()))
+                    .build();
+        }
+
+        final ResourceModel resultModel = Translator.translateFromReadResponse(describeClustersResponse);
+
+        final DescribeLoggingStatusResponse describeLoggingStatusResponse =
+                describeLoggingStatus(describeLoggingStatusRequest, () -> join(describeLoggingStatusFuture));
+        if (describeLoggingStatusResponse != null) {
+            callbackContext.setLoggingProperties(LoggingProperties.builder()
+                    .logDestinationType(describeLoggingStatusResponse.logDestinationTypeAsString())
+                    .logExports(describeLoggingStatusResponse.logExports())
+                    .bucketName(describeLoggingStatusResponse.bucketName())
+                    .s3KeyPrefix(describeLoggingStatusResponse.s3KeyPrefix())
+                    .build());
+        }
+        resultModel.setLoggingProperties(callbackContext.getLoggingProperties());
+
+        final GetResourcePolicyRequest getResourcePolicyRequest = join(getResourcePolicyRequestFuture);
+        final GetResourcePolicyResponse getResourcePolicyResponse =
+                getNamespaceResourcePolicy(getResourcePolicyRequest, () -> join(getResourcePolicyFuture));
+        resultModel.setNamespaceResourcePolicy(Translator.convertStringToJson(getResourcePolicyResponse.resourcePolicy().policy(), logger));
+
+        return ProgressEvent.defaultSuccessHandler(resultModel);
+    }
+
+    /**
+     * Waits for an async call and rethrows the service exception the future completed with, so the same
+     * exception handling applies to both the sync and async read paths.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Implement client invocation of the read request through the proxyClient, which is already initialised with
      * caller credentials, correct region and retry settings
@@ -112,11 +206,18 @@ public class ReadHandler extends BaseHandlerStd {
     private DescribeClustersResponse describeCluster (
             final DescribeClustersRequest awsRequest,
             final ProxyClient<RedshiftClient> proxyClient) {
+        logger.log(String.format("%s %s describeClusters.", ResourceModel.TYPE_NAME,
+                awsRequest.clusterIdentifier()));
+        return describeCluster(awsRequest,
+                () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters));
+    }
+
+    private DescribeClustersResponse describeCluster (
+            final DescribeClustersRequest awsRequest,
+            final Supplier<DescribeClustersResponse> serviceCall) {
         DescribeClustersResponse awsResponse = null;
         try {
-            logger.log(String.format("%s %s describeClusters.", ResourceModel.TYPE_NAME,
-                    awsRequest.clusterIdentifier()));
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusters);
+            awsResponse = serviceCall.get();
         } catch (final ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, awsRequest.clusterIdentifier(), e);
         } catch (final InvalidTagException e) {
@@ -132,9 +233,16 @@ public class ReadHandler extends BaseHandlerStd {
     private DescribeLoggingStatusResponse describeLoggingStatus(
             final DescribeLoggingStatusRequest awsRequest,
             final ProxyClient<RedshiftClient> proxyClient) {
+        return describeLoggingStatus(awsRequest,
+                () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLoggingStatus));
+    }
+
+    private DescribeLoggingStatusResponse describeLoggingStatus(
+            final DescribeLoggingStatusRequest awsRequest,
+            final Supplier<DescribeLoggingStatusResponse> serviceCall) {
         DescribeLoggingStatusResponse awsResponse = null;
         try {
-            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLoggingStatus);
+            awsResponse = serviceCall.get();
         } catch (final ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, awsRequest.clusterIdentifier(), e);
         } catch (final InvalidClusterStateException | InvalidRestoreException e ) {
@@ -164,11 +272,17 @@ public class ReadHandler extends BaseHandlerStd {
     private GetResourcePolicyResponse getNamespaceResourcePolicy(
             final GetResourcePolicyRequest awsRequest,
             final ProxyClient<RedshiftClient> proxyClient) {
+        return getNamespaceResourcePolicy(awsRequest,
+                () -> proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::getResourcePolicy));
+    }
+
+    private GetResourcePolicyResponse getNamespaceResourcePolicy(
+            final GetResourcePolicyRequest awsRequest,
+            final Supplier<GetResourcePolicyResponse> serviceCall) {
         GetResourcePolicyResponse getResponse = null;
 
         try {
-            getResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    awsRequest, proxyClient.client()::getResourcePolicy);
+            getResponse = serviceCall.get();
         } catch (ResourceNotFoundException e){
             logger.log(String.format("NamespaceResourcePolicy not found for namespace %s", awsRequest.resourceArn()));
             return noOpNamespaceResourcePoliy(awsRequest);
@@ -0,0 +1,192 @@
+package software.amazon.redshift.cluster;
+
+import com.amazonaws.util.StringUtils;
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DescribeNodeConfigurationOptionsResponse;
+import software.amazon.awssdk.services.redshift.model.NodeConfigurationOption;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks how a resize runs. An elastic resize redistributes the data slices of the cluster in place and takes
+ * minutes, a classic resize copies the data to a new set of nodes and takes hours, so elastic is used whenever the
+ * target qualifies and the model doesn't ask for one or the other through Classic.
+ *
+ * Whether the target qualifies is read from DescribeNodeConfigurationOptions with the resize-cluster action, which
+ * lists the configurations the cluster can reach with an elastic resize. Classic is only chosen when those options
+ * leave the target out. When they can't be read, Classic is left out of ResizeCluster as the model has it.
+ */
+final class ResizePlanner {
+  static final Duration OPTIONS_TTL = Duration.ofMinutes(30L);
+  private static final ResizePlanner SHARED = new ResizePlanner(Clock.systemUTC());
+
+  /*
+  The resize-cluster action lists the options of one cluster, it takes the ClusterIdentifier, so the options are
+  keyed by the cluster along with its region and the configuration it resizes from, which a resize of the cluster
+  changes. They are kept for the life of the warm container and expire as the options follow the capacity of the
+  region.
+   */
+  private final Map<OptionsKey, CachedOptions> elasticResizeOptions = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  ResizePlanner(final Clock clock) {
+    this.clock = clock;
+  }
+
+  static ResizePlanner shared() {
+    return SHARED;
+  }
+
+  enum ResizeType {
+    ELASTIC(Boolean.FALSE),
+    CLASSIC(Boolean.TRUE),
+    // Classic left out of ResizeCluster
+    UNSPECIFIED(null);
+
+    private final Boolean classic;
+
+    ResizeType(final Boolean classic) {
+      this.classic = classic;
+    }
+
+    /**
+     * @return Classic for ResizeCluster, null to leave it out
+     */
+    Boolean getClassic() {
+      return classic;
+    }
+  }
+
+  @Value
+  static class Decision {
+    ResizeType type;
+    String reason;
+
+    String render() {
+      return String.format("%s resize, %s", type, reason);
+    }
+  }
+
+  /**
+   * @param proxyClient client for DescribeNodeConfigurationOptions
+   * @param region region of the cluster, part of the options cache key
+   * @param previousModel model before the update, the configuration the cluster resizes from
+   * @param desiredModel model after the update
+   * @return how the resize should run and why
+   */
+  Decision plan(final ProxyClient<RedshiftClient> proxyClient,
+                final String region,
+                final ResourceModel previousModel,
+                final ResourceModel desiredModel,
+                final Logger logger) {
+    return decide(previousModel, desiredModel, desiredModel.getClassic() == null
+            ? elasticResizeOptions(proxyClient, region, previousModel, logger)
+            : null);
+  }
+
+  /**
+   * @param previousModel model before the update
+   * @param desiredModel model after the update
+   * @param elasticTargets configurations reachable with an elastic resize, see {@link #target}, null when unknown
+   * @return how the resize should run and why
+   */
+  static Decision decide(final ResourceModel previousModel,
+                         final ResourceModel desiredModel,
+                         final Set<String> elasticTargets) {
+    if (desiredModel.getClassic() != null) {
+      return desiredModel.getClassic()
+              ? new Decision(ResizeType.CLASSIC, "requested through Classic")
+              : new Decision(ResizeType.ELASTIC, "requested through Classic");
+    }
+    if (elasticTargets == null) {
+      return new Decision(ResizeType.UNSPECIFIED, "elastic resize options unknown, Classic left out");
+    }
+
+    final String targetNodeType = desiredModel.getNodeType() == null ? previousModel.getNodeType() : desiredModel.getNodeType();
+    final int targetNodes = numberOfNodes(desiredModel);
+    return elasticTargets.contains(target(targetNodeType, targetNodes))
+            ? new Decision(ResizeType.ELASTIC, String.format("%d x %s is an elastic resize option", targetNodes, targetNodeType))
+            : new Decision(ResizeType.CLASSIC, String.format("%d x %s is not an elastic resize option", targetNodes, targetNodeType));
+  }
+
+  static String target(final String nodeType, final int numberOfNodes) {
+    return String.format("%d x %s", numberOfNodes, nodeType == null ? null : nodeType.toLowerCase(Locale.ROOT));
+  }
+
+  private Set<String> elasticResizeOptions(final ProxyClient<RedshiftClient> proxyClient,
+                                           final String region,
+                                           final ResourceModel previousModel,
+                                           final Logger logger) {
+    final OptionsKey key = new OptionsKey(region, previousModel.getClusterIdentifier(), previousModel.getNodeType(),
+            numberOfNodes(previousModel));
+    final CachedOptions cached = elasticResizeOptions.get(key);
+    if (cached != null && clock.instant().isBefore(cached.getFetchedAt().plus(OPTIONS_TTL))) {
+      return cached.getTargets();
+    }
+    final Set<String> targets = describeElasticResizeOptions(proxyClient, previousModel, logger);
+    if (targets != null) {
+      elasticResizeOptions.put(key, new CachedOptions(targets, clock.instant()));
+    }
+    return targets;
+  }
+
+  private static Set<String> describeElasticResizeOptions(final ProxyClient<RedshiftClient> proxyClient,
+                                                          final ResourceModel model,
+                                                          final Logger logger) {
+    final Set<String> targets = new HashSet<>();
+    String marker = null;
+    do {
+      final DescribeNodeConfigurationOptionsResponse response;
+      try {
+        response = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToDescribeNodeConfigurationOptionsRequest(model, marker),
+                proxyClient.client()::describeNodeConfigurationOptions);
+      } catch (final AwsServiceException | SdkClientException e) {
+        logger.log(String.format("%s %s elastic resize options unavailable, leaving Classic out: %s",
+                ResourceModel.TYPE_NAME, model.getClusterIdentifier(), e.getMessage()));
+        return null;
+      }
+      if (response == null) {
+        return null;
+      }
+      for (NodeConfigurationOption option : response.nodeConfigurationOptionList()) {
+        if (option.numberOfNodes() != null) {
+          targets.add(target(option.nodeType(), option.numberOfNodes()));
+        }
+      }
+      marker = response.marker();
+    } while (!StringUtils.isNullOrEmpty(marker));
+    return Collections.unmodifiableSet(targets);
+  }
+
+  private static int numberOfNodes(final ResourceModel model) {
+    return model.getNumberOfNodes() == null ? 1 : model.getNumberOfNodes();
+  }
+
+  @Value
+  private static class OptionsKey {
+    String region;
+    String clusterIdentifier;
+    String nodeType;
+    int numberOfNodes;
+  }
+
+  @Value
+  private static class CachedOptions {
+    Set<String> targets;
+    Instant fetchedAt;
+  }
+}
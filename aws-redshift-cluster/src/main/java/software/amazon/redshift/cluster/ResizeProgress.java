@@ -0,0 +1,146 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.model.DescribeResizeResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Progress of a resize as the last DescribeResize reported it. It lives in the callback context, so the estimate
+ * survives the re-invocation and the poll counts cover the whole resize, which for a classic resize can be hours.
+ */
+@lombok.Data
+@lombok.NoArgsConstructor
+public class ResizeProgress implements ProgressEstimate {
+  static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+  static final String STATUS_CANCELLING = "CANCELLING";
+  static final String STATUS_FAILED = "FAILED";
+
+  private String status;
+  private String resizeType;
+  private String targetNodeType;
+  private Integer targetNumberOfNodes;
+  private Long progressInMegaBytes;
+  private Long totalResizeDataInMegaBytes;
+  private Double avgResizeRateInMegaBytesPerSecond;
+  private Long estimatedTimeToCompletionInSeconds;
+  private Long elapsedTimeInSeconds;
+  private String message;
+  private Long observedAt;
+  private int polls;
+  // polls whose delay came from the estimate rather than from the fallback schedule
+  private int pollsWithEstimate;
+  // a FAILED record for the same target can be left from an earlier attempt, it only counts once this resize ran
+  private boolean seenInProgress;
+
+  /**
+   * DescribeResize reports the latest resize of the cluster, which right after the call can still be an earlier
+   * one. Only a resize towards the node type and count of the model is the one the update started.
+   * @param resize the DescribeResize response, null when the cluster has no resize
+   * @param model desired state of the cluster
+   * @return whether the response describes a resize towards the model
+   */
+  static boolean isResizeTowards(final DescribeResizeResponse resize, final ResourceModel model) {
+    if (resize == null) {
+      return false;
+    }
+    return (model.getNodeType() == null || model.getNodeType().equalsIgnoreCase(resize.targetNodeType()))
+            && (model.getNumberOfNodes() == null || model.getNumberOfNodes().equals(resize.targetNumberOfNodes()));
+  }
+
+  /**
+   * Replaces the progress with what a stabilization poll saw.
+   * @param resize the DescribeResize response, null when there is no resize towards the model yet
+   * @param now time of the poll
+   */
+  void record(final DescribeResizeResponse resize, final Instant now) {
+    polls++;
+    observedAt = now.toEpochMilli();
+    if (resize == null) {
+      status = null;
+      estimatedTimeToCompletionInSeconds = null;
+      message = null;
+      return;
+    }
+    status = resize.status();
+    resizeType = resize.resizeType();
+    targetNodeType = resize.targetNodeType();
+    targetNumberOfNodes = resize.targetNumberOfNodes();
+    progressInMegaBytes = resize.progressInMegaBytes();
+    totalResizeDataInMegaBytes = resize.totalResizeDataInMegaBytes();
+    avgResizeRateInMegaBytesPerSecond = resize.avgResizeRateInMegaBytesPerSecond();
+    estimatedTimeToCompletionInSeconds = resize.estimatedTimeToCompletionInSeconds();
+    elapsedTimeInSeconds = resize.elapsedTimeInSeconds();
+    message = resize.message();
+    if (isInProgress()) {
+      seenInProgress = true;
+    }
+    if (estimatedTimeToCompletion() != null) {
+      pollsWithEstimate++;
+    }
+  }
+
+  /**
+   * @return whether the resize is still moving data or being cancelled, the cluster isn't done with it either way
+   */
+  boolean isInProgress() {
+    return STATUS_IN_PROGRESS.equalsIgnoreCase(status) || STATUS_CANCELLING.equalsIgnoreCase(status);
+  }
+
+  /**
+   * @return whether this resize failed, a FAILED record before the resize was seen in progress is an earlier one
+   */
+  boolean isFailed() {
+    return seenInProgress && STATUS_FAILED.equalsIgnoreCase(status);
+  }
+
+  /**
+   * The service estimate when it gives one, otherwise what is left to transfer at the average rate so far.
+   * @return time the resize still needs, null when the resize isn't running or nothing can be estimated
+   */
+  @Override
+  public Duration estimatedTimeToCompletion() {
+    if (!STATUS_IN_PROGRESS.equalsIgnoreCase(status)) {
+      return null;
+    }
+    if (estimatedTimeToCompletionInSeconds != null && estimatedTimeToCompletionInSeconds > 0) {
+      return Duration.ofSeconds(estimatedTimeToCompletionInSeconds);
+    }
+    if (totalResizeDataInMegaBytes != null && progressInMegaBytes != null
+            && avgResizeRateInMegaBytesPerSecond != null && avgResizeRateInMegaBytesPerSecond > 0) {
+      final long remainingMegaBytes = Math.max(totalResizeDataInMegaBytes - progressInMegaBytes, 0L);
+      return Duration.ofSeconds((long) (remainingMegaBytes / avgResizeRateInMegaBytesPerSecond));
+    }
+    return null;
+  }
+
+  /**
+   * @return one line for the handler log, e.g. "Resize of cluster c1 to 4 x ra3.4xlarge (ClassicResize): IN_PROGRESS,
+   * 2000 of 10000 MB, 600s elapsed, about 2400s left"
+   */
+  String summary(final String clusterIdentifier) {
+    final StringBuilder summary = new StringBuilder("Resize of cluster ").append(clusterIdentifier);
+    if (status == null) {
+      return summary.append(": not reported yet").toString();
+    }
+    summary.append(" to ").append(targetNumberOfNodes).append(" x ").append(targetNodeType);
+    if (resizeType != null) {
+      summary.append(" (").append(resizeType).append(')');
+    }
+    summary.append(": ").append(status);
+    if (progressInMegaBytes != null && totalResizeDataInMegaBytes != null) {
+      summary.append(", ").append(progressInMegaBytes).append(" of ").append(totalResizeDataInMegaBytes).append(" MB");
+    }
+    if (elapsedTimeInSeconds != null) {
+      summary.append(", ").append(elapsedTimeInSeconds).append("s elapsed");
+    }
+    final Duration remaining = estimatedTimeToCompletion();
+    if (remaining != null) {
+      summary.append(", about ").append(remaining.getSeconds()).append("s left");
+    }
+    if (message != null) {
+      summary.append(", ").append(message);
+    }
+    return summary.toString();
+  }
+}
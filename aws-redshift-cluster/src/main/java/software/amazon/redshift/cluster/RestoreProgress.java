@@ -0,0 +1,72 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.model.RestoreStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Progress of a snapshot restore as the last DescribeClusters reported it. It lives in the callback context, so
+ * the estimate survives the re-invocation and the poll counts cover the whole restore.
+ */
+@lombok.Data
+@lombok.NoArgsConstructor
+public class RestoreProgress implements ProgressEstimate {
+  private static final String STATUS_STARTING = "starting";
+  private static final String STATUS_RESTORING = "restoring";
+
+  private String status;
+  private Long progressInMegaBytes;
+  private Long snapshotSizeInMegaBytes;
+  private Double currentRestoreRateInMegaBytesPerSecond;
+  private Long estimatedTimeToCompletionInSeconds;
+  private Long elapsedTimeInSeconds;
+  private Long observedAt;
+  private int polls;
+  // polls whose delay came from the estimate rather than from the fallback schedule
+  private int pollsWithEstimate;
+
+  /**
+   * Replaces the progress with what a stabilization poll saw.
+   * @param restoreStatus restore status of the cluster, null once the cluster no longer reports one
+   * @param now time of the poll
+   */
+  void record(final RestoreStatus restoreStatus, final Instant now) {
+    polls++;
+    observedAt = now.toEpochMilli();
+    if (restoreStatus == null) {
+      status = null;
+      estimatedTimeToCompletionInSeconds = null;
+      return;
+    }
+    status = restoreStatus.status();
+    progressInMegaBytes = restoreStatus.progressInMegaBytes();
+    snapshotSizeInMegaBytes = restoreStatus.snapshotSizeInMegaBytes();
+    currentRestoreRateInMegaBytesPerSecond = restoreStatus.currentRestoreRateInMegaBytesPerSecond();
+    estimatedTimeToCompletionInSeconds = restoreStatus.estimatedTimeToCompletionInSeconds();
+    elapsedTimeInSeconds = restoreStatus.elapsedTimeInSeconds();
+    if (estimatedTimeToCompletion() != null) {
+      pollsWithEstimate++;
+    }
+  }
+
+  /**
+   * The service estimate when it gives one, otherwise what is left to restore at the current rate.
+   * @return time the restore still needs, null when the restore isn't running or nothing can be estimated
+   */
+  @Override
+  public Duration estimatedTimeToCompletion() {
+    if (!STATUS_STARTING.equalsIgnoreCase(status) && !STATUS_RESTORING.equalsIgnoreCase(status)) {
+      return null;
+    }
+    if (estimatedTimeToCompletionInSeconds != null && estimatedTimeToCompletionInSeconds > 0) {
+      return Duration.ofSeconds(estimatedTimeToCompletionInSeconds);
+    }
+    if (snapshotSizeInMegaBytes != null && progressInMegaBytes != null
+            && currentRestoreRateInMegaBytesPerSecond != null && currentRestoreRateInMegaBytesPerSecond > 0) {
+      final long remainingMegaBytes = Math.max(snapshotSizeInMegaBytes - progressInMegaBytes, 0L);
+      return Duration.ofSeconds((long) (remainingMegaBytes / currentRestoreRateInMegaBytesPerSecond));
+    }
+    return null;
+  }
+}
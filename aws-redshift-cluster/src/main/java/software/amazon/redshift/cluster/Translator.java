@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.ObjectUtils;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.ActionType;
 import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
 import software.amazon.awssdk.services.redshift.model.Cluster;
 import software.amazon.awssdk.services.redshift.model.ClusterIamRole;
@@ -21,10 +22,13 @@ import software.amazon.awssdk.services.redshift.model.DeleteClusterRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteSnapshotCopyGrantRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterDbRevisionsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeNodeConfigurationOptionsRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeSnapshotCopyGrantsRequest;
 import software.amazon.awssdk.services.redshift.model.DisableLoggingRequest;
 import software.amazon.awssdk.services.redshift.model.DisableSnapshotCopyRequest;
@@ -218,15 +222,31 @@ public class Translator {
   /**
    * Request to Resize Cluster
    * @param model resource model
+   * @param classic whether to run a classic resize rather than an elastic one, see ResizePlanner, null to leave it out
    * @return awsRequest the aws service request to modify a resource
    */
-  static ResizeClusterRequest translateToResizeClusterRequest(final ResourceModel model) {
+  static ResizeClusterRequest translateToResizeClusterRequest(final ResourceModel model, final Boolean classic) {
     return ResizeClusterRequest.builder()
             .clusterIdentifier(model.getClusterIdentifier())
             .clusterType(model.getClusterType())
             .nodeType(model.getNodeType())
             .numberOfNodes(model.getNumberOfNodes())
-            .classic(model.getClassic())
+            .classic(classic)
+            .build();
+  }
+
+  /**
+   * Request to list the elastic resize options of a cluster
+   * @param model resource model
+   * @param marker marker of the next page, null for the first one
+   * @return awsRequest the aws service request to describe the node configuration options
+   */
+  static DescribeNodeConfigurationOptionsRequest translateToDescribeNodeConfigurationOptionsRequest(final ResourceModel model,
+                                                                                                      final String marker) {
+    return DescribeNodeConfigurationOptionsRequest.builder()
+            .actionType(ActionType.RESIZE_CLUSTER)
+            .clusterIdentifier(model.getClusterIdentifier())
+            .marker(marker)
             .build();
   }
 
@@ -278,6 +298,28 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Request to describe the database revision of a cluster
+   * @param model resource model
+   * @return awsRequest the aws service request to describe the revision
+   */
+  static DescribeClusterDbRevisionsRequest translateToDescribeClusterDbRevisionsRequest(final ResourceModel model) {
+    return DescribeClusterDbRevisionsRequest.builder()
+            .clusterIdentifier(model.getClusterIdentifier())
+            .build();
+  }
+
+  /**
+   * Request to describe the latest resize of a cluster
+   * @param model resource model
+   * @return awsRequest the aws service request to describe the resize
+   */
+  static DescribeResizeRequest translateToDescribeResizeRequest(final ResourceModel model) {
+    return DescribeResizeRequest.builder()
+            .clusterIdentifier(model.getClusterIdentifier())
+            .build();
+  }
+
   /**
    * Request to describe logging properties
    * @param model resource model
@@ -774,6 +816,24 @@ public class Translator {
     return modifyClusterRequest;
   }
 
+  /**
+   * Request to modify the cluster attributes, optionally together with the parameter group name
+   * @param model resource model
+   * @param prevModel previous resource model
+   * @param includeParameterGroupName whether the parameter group change is folded into this request
+   * @return awsRequest the aws service request to modify a resource
+   */
+  static ModifyClusterRequest translateToUpdateRequest(final ResourceModel model, final ResourceModel prevModel,
+                                                       final boolean includeParameterGroupName) {
+    final ModifyClusterRequest modifyClusterRequest = translateToUpdateRequest(model, prevModel);
+    if (!includeParameterGroupName) {
+      return modifyClusterRequest;
+    }
+    return modifyClusterRequest.toBuilder()
+            .clusterParameterGroupName(translateToUpdateParameterGroupNameRequest(model, prevModel).clusterParameterGroupName())
+            .build();
+  }
+
   static ModifyClusterRequest translateToUpdateParameterGroupNameRequest(final ResourceModel model, final ResourceModel prevModel) {
     ModifyClusterRequest modifyClusterRequest =  ModifyClusterRequest.builder()
             .clusterIdentifier(model.getClusterIdentifier())
@@ -816,10 +876,10 @@ public class Translator {
    * @param model resource model
    * @return awsRequest the aws service request to modify a resource
    */
-  static DeleteTagsRequest translateToDeleteTagsRequest(ResourceModel model, List<Tag> deleteTags, String resourceName) {
+  static DeleteTagsRequest translateToDeleteTagsRequest(ResourceModel model, Collection<String> deleteTagKeys, String resourceName) {
     return DeleteTagsRequest.builder()
             .resourceName(resourceName)
-            .tagKeys(deleteTags.stream().map(Tag::getKey).collect(Collectors.toList()))
+            .tagKeys(deleteTagKeys)
             .build();
   }
 
@@ -7,7 +7,6 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudwatch.model.InvalidParameterValueException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
-import software.amazon.awssdk.services.redshift.model.BucketNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterAlreadyExistsException;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterOnLatestRevisionException;
@@ -24,12 +23,8 @@ import software.amazon.awssdk.services.redshift.model.DeleteTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DependentServiceRequestThrottlingException;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
-import software.amazon.awssdk.services.redshift.model.DisableLoggingRequest;
-import software.amazon.awssdk.services.redshift.model.DisableLoggingResponse;
 import software.amazon.awssdk.services.redshift.model.DisableSnapshotCopyRequest;
 import software.amazon.awssdk.services.redshift.model.DisableSnapshotCopyResponse;
-import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
-import software.amazon.awssdk.services.redshift.model.EnableLoggingResponse;
 import software.amazon.awssdk.services.redshift.model.EnableSnapshotCopyRequest;
 import software.amazon.awssdk.services.redshift.model.EnableSnapshotCopyResponse;
 import software.amazon.awssdk.services.redshift.model.FailoverPrimaryComputeRequest;
@@ -38,15 +33,12 @@ import software.amazon.awssdk.services.redshift.model.HsmClientCertificateNotFou
 import software.amazon.awssdk.services.redshift.model.HsmConfigurationNotFoundException;
 import software.amazon.awssdk.services.redshift.model.IncompatibleOrderableOptionsException;
 import software.amazon.awssdk.services.redshift.model.InsufficientClusterCapacityException;
-import software.amazon.awssdk.services.redshift.model.InsufficientS3BucketPolicyException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterSecurityGroupStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterTrackException;
 import software.amazon.awssdk.services.redshift.model.InvalidElasticIpException;
 import software.amazon.awssdk.services.redshift.model.InvalidPolicyException;
 import software.amazon.awssdk.services.redshift.model.InvalidRetentionPeriodException;
-import software.amazon.awssdk.services.redshift.model.InvalidS3BucketNameException;
-import software.amazon.awssdk.services.redshift.model.InvalidS3KeyPrefixException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
 import software.amazon.awssdk.services.redshift.model.LimitExceededException;
 import software.amazon.awssdk.services.redshift.model.ModifyAquaConfigurationRequest;
@@ -97,21 +89,24 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshift.cluster.ClusterUpdatePlan.Operation;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Collections;
-import java.util.Optional;
-import java.util.HashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static software.amazon.redshift.cluster.Translator.DEFAULT_TRACK_NAME;
 import static software.amazon.redshift.cluster.Translator.shouldModifyMaintenanceTrack;
 
 public class UpdateHandler extends BaseHandlerStd {
+    // reboot requests that don't come from a step of the update but from the cluster state
+    private static final String REBOOT_FOR_DRIFT = "Drift";
+    private static final String REBOOT_FOR_AQUA = "AquaApplying";
+
     private Logger logger;
 
     /*
@@ -119,45 +114,52 @@ public class UpdateHandler extends BaseHandlerStd {
     regardless of sensitive or insensitive.
 
     Detectable meaning we only support modifyClusterRequest if the included attributes in Cluster model change.
+
+    Every attribute carries its getter, the table is built once with the enum and diffing
+    two models is a plain loop over the getters, no reflection.
      */
     enum DetectableModifyClusterAttribute {
         // insensitive fields
-        ALLOW_VERSION_UPGRADE("AllowVersionUpgrade"),
-        AUTOMATED_SNAPSHOT_RETENTION_PERIOD("AutomatedSnapshotRetentionPeriod"),
-        AVAILABILITY_ZONE("AvailabilityZone"),
-        AVAILABILITY_ZONE_RELOCATION("AvailabilityZoneRelocation"),
-        CLUSTER_SECURITY_GROUPS("ClusterSecurityGroups"),
-        CLUSTER_VERSION("ClusterVersion"),
-        ELASTIC_IP("ElasticIp"),
-        ENCRYPTED("Encrypted"),
-        ENHANCED_VPC_ROUTING("EnhancedVpcRouting"),
-        HSM_CLIENT_CERTIFICATE_IDENTIFIER("HsmClientCertificateIdentifier"),
-        HSM_CONFIGURATION_IDENTIFIER("HsmConfigurationIdentifier"),
-        KMS_KEY_ID("KmsKeyId"),
-        MAINTENANCE_TRACK_NAME("MaintenanceTrackName"),
-        MANUAL_SNAPSHOT_RETENTION_PERIOD("ManualSnapshotRetentionPeriod"),
-        PORT("Port"),
-        PREFERRED_MAINTENANCE_WINDOW("PreferredMaintenanceWindow"),
-        PUBLICLY_ACCESSIBLE("PubliclyAccessible"),
-        VPC_SECURITY_GROUP_IDS("VpcSecurityGroupIds"),
-        MULTI_AZ("MultiAZ"),
-        MANAGE_MASTER_PASSWORD("ManageMasterPassword"),
-        MASTER_PASSWORD_SECRET_KMS_KEY_ID("MasterPasswordSecretKmsKeyId"),
+        ALLOW_VERSION_UPGRADE("AllowVersionUpgrade", ResourceModel::getAllowVersionUpgrade),
+        AUTOMATED_SNAPSHOT_RETENTION_PERIOD("AutomatedSnapshotRetentionPeriod", ResourceModel::getAutomatedSnapshotRetentionPeriod),
+        AVAILABILITY_ZONE("AvailabilityZone", ResourceModel::getAvailabilityZone),
+        AVAILABILITY_ZONE_RELOCATION("AvailabilityZoneRelocation", ResourceModel::getAvailabilityZoneRelocation),
+        CLUSTER_SECURITY_GROUPS("ClusterSecurityGroups", ResourceModel::getClusterSecurityGroups),
+        CLUSTER_VERSION("ClusterVersion", ResourceModel::getClusterVersion),
+        ELASTIC_IP("ElasticIp", ResourceModel::getElasticIp),
+        ENCRYPTED("Encrypted", ResourceModel::getEncrypted),
+        ENHANCED_VPC_ROUTING("EnhancedVpcRouting", ResourceModel::getEnhancedVpcRouting),
+        HSM_CLIENT_CERTIFICATE_IDENTIFIER("HsmClientCertificateIdentifier", ResourceModel::getHsmClientCertificateIdentifier),
+        HSM_CONFIGURATION_IDENTIFIER("HsmConfigurationIdentifier", ResourceModel::getHsmConfigurationIdentifier),
+        KMS_KEY_ID("KmsKeyId", ResourceModel::getKmsKeyId),
+        MAINTENANCE_TRACK_NAME("MaintenanceTrackName", ResourceModel::getMaintenanceTrackName),
+        MANUAL_SNAPSHOT_RETENTION_PERIOD("ManualSnapshotRetentionPeriod", ResourceModel::getManualSnapshotRetentionPeriod),
+        PORT("Port", ResourceModel::getPort),
+        PREFERRED_MAINTENANCE_WINDOW("PreferredMaintenanceWindow", ResourceModel::getPreferredMaintenanceWindow),
+        PUBLICLY_ACCESSIBLE("PubliclyAccessible", ResourceModel::getPubliclyAccessible),
+        VPC_SECURITY_GROUP_IDS("VpcSecurityGroupIds", ResourceModel::getVpcSecurityGroupIds),
+        MULTI_AZ("MultiAZ", ResourceModel::getMultiAZ),
+        MANAGE_MASTER_PASSWORD("ManageMasterPassword", ResourceModel::getManageMasterPassword),
+        MASTER_PASSWORD_SECRET_KMS_KEY_ID("MasterPasswordSecretKmsKeyId", ResourceModel::getMasterPasswordSecretKmsKeyId),
         // sensitive fields
-        MASTER_USER_PASSWORD("MasterUserPassword", true);
+        MASTER_USER_PASSWORD("MasterUserPassword", ResourceModel::getMasterUserPassword, true);
+
+        // values() clones the array on every call
+        private static final DetectableModifyClusterAttribute[] ATTRIBUTES = values();
 
         private final String stringValue;
+        private final Function<ResourceModel, ?> getter;
         private final boolean isSensitiveField;
 
         // Constructor to set the string value for each constant
-        DetectableModifyClusterAttribute(String stringValue, boolean isSensitiveField) {
+        DetectableModifyClusterAttribute(String stringValue, Function<ResourceModel, ?> getter, boolean isSensitiveField) {
             this.stringValue = stringValue;
+            this.getter = getter;
             this.isSensitiveField = isSensitiveField;
         }
 
-        DetectableModifyClusterAttribute(String stringValue) {
-            this.stringValue = stringValue;
-            this.isSensitiveField = false;
+        DetectableModifyClusterAttribute(String stringValue, Function<ResourceModel, ?> getter) {
+            this(stringValue, getter, false);
         }
 
         public String getStringValue() {
@@ -167,6 +169,53 @@ public class UpdateHandler extends BaseHandlerStd {
         public boolean isSensitiveField() {
             return this.isSensitiveField;
         }
+
+        Object getValue(final ResourceModel model) {
+            return getter.apply(model);
+        }
+
+        boolean hasChanged(final ResourceModel oldModel, final ResourceModel newModel) {
+            // if we don't provide any track name when we call create-cluster API,
+            // the default track name is "current"
+            // when cx updates the CFN template to include a track name, "current",
+            // we used to call modify-cluster with track("current"),
+            // and we'd get exception "track is already on 'current'".
+            // The following check is to avoid this unnecessary update call
+
+            // There is potentially better/cleaner solutions to provide default value for CFN property,
+            // but it'll take a while to set up.
+            // we will revisit this once CFN team tells us more how it works
+            if (this == MAINTENANCE_TRACK_NAME) {
+                return shouldModifyMaintenanceTrack(oldModel, newModel);
+            }
+            return ObjectUtils.notEqual(getValue(oldModel), getValue(newModel));
+        }
+
+        static ModifyClusterAttributeDiff diff(final ResourceModel oldModel, final ResourceModel newModel) {
+            final List<DetectableModifyClusterAttribute> changedAttributes = new ArrayList<>();
+            for (DetectableModifyClusterAttribute attribute : ATTRIBUTES) {
+                if (attribute.hasChanged(oldModel, newModel)) {
+                    changedAttributes.add(attribute);
+                }
+            }
+            return new ModifyClusterAttributeDiff(Collections.unmodifiableList(changedAttributes));
+        }
+    }
+
+    /*
+    Result of diffing two models over DetectableModifyClusterAttribute.
+     */
+    @lombok.Value
+    static class ModifyClusterAttributeDiff {
+        List<DetectableModifyClusterAttribute> changedAttributes;
+
+        boolean hasChanges() {
+            return !changedAttributes.isEmpty();
+        }
+
+        boolean hasSensitiveChanges() {
+            return changedAttributes.stream().anyMatch(DetectableModifyClusterAttribute::isSensitiveField);
+        }
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -180,16 +229,13 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        Map<String, String> allDesiredTags = new HashMap<>();
-        allDesiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
-        allDesiredTags.putAll(Optional.ofNullable(
-                Translator.translateFromResourceModelToSdkTags(model.getTags()))
-                .orElse(Collections.emptyMap()));
+        final Map<String, String> allDesiredTags = TagReconciler.effectiveTags(null,
+                request.getDesiredResourceTags(), Translator.translateFromResourceModelToSdkTags(model.getTags()));
+        final Map<String, String> allPreviousTags = TagReconciler.effectiveTags(null,
+                request.getPreviousResourceTags(), Translator.translateFromResourceModelToSdkTags(request.getPreviousResourceState().getTags()));
 
-        Map<String, String> allPreviousTags = new HashMap<>();
-        allPreviousTags.putAll(Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
-        allPreviousTags.putAll(Optional.ofNullable(Translator.translateFromResourceModelToSdkTags(
-                request.getPreviousResourceState().getTags())).orElse(Collections.emptyMap()));
+        final ClusterUpdatePlan plan = ClusterUpdatePlan.of(request.getPreviousResourceState(), model, this::shouldModifyCluster);
+        logger.log(plan.render());
 
         if (!callbackContext.getClusterExistsCheck()) {
             boolean clusterExists = doesClusterExist(proxyClient, model, model.getClusterIdentifier());
@@ -206,31 +252,28 @@ public class UpdateHandler extends BaseHandlerStd {
         //Redshift is Driftable
         if(request.getDriftable() != null && request.getDriftable().equals(true)) {
             logger.log(String.format("%s %s is Drifted", ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
-            if(isRebootRequired(model, proxyClient)) {
-                return proxy.initiate("AWS-Redshift-Cluster::RebootCluster", proxyClient, model, callbackContext)
-                        .translateToServiceRequest(Translator::translateToRebootClusterRequest)
-                        .makeServiceCall(this::rebootCluster)
-                        .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                        .progress();
+            if(!callbackContext.getRebootIssued() && isRebootRequired(model, proxyClient)) {
+                requestReboot(callbackContext, REBOOT_FOR_DRIFT, logger);
             }
         }
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
-                    if (model.getResourceAction() != null && RESUME_CLUSTER.equals(model.getResourceAction()) &&
-                            PAUSE_CLUSTER.equals(request.getPreviousResourceState().getResourceAction())) {
+                    if (plan.includes(Operation.RESUME)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ResumeCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToResumeClusterRequest)
-                                .makeServiceCall(this::resumeCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.PAUSE_RESUME.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::resumeCluster))
+                                .stabilize(trackingPhase("ResumeCluster", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    List<List<Tag>> updateTags = updateTags(Translator.translateTagsMapToTagCollection(allPreviousTags),
-                            Translator.translateTagsMapToTagCollection(allDesiredTags));
+                    // the previous state is authoritative for a cluster update, no need to read the tags back.
+                    // tagging never takes the cluster out of available, both calls are done once they returned
+                    final TagReconciler tags = TagReconciler.reconcile(allPreviousTags, allDesiredTags);
 
                     final String resourceName = Arn.builder()
                             .withService("redshift")
@@ -241,20 +284,20 @@ public class UpdateHandler extends BaseHandlerStd {
                             .build()
                             .toString();
 
-                    if (!CollectionUtils.isNullOrEmpty(updateTags) && !CollectionUtils.isNullOrEmpty(updateTags.get(DELETE_TAGS_INDEX))) {
-                        progress = proxy.initiate("AWS-Redshift-Cluster::DeleteTags", proxyClient, model, callbackContext)
-                                .translateToServiceRequest((deleteTagsRequest) -> Translator.translateToDeleteTagsRequest(model, updateTags.get(DELETE_TAGS_INDEX), resourceName))
-                                .makeServiceCall(this::deleteTags)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
+                    if (!tags.getTagKeysToRemove().isEmpty()) {
+                        progress = completeOperation(ClusterOperation.TAGS,
+                                proxy.initiate("AWS-Redshift-Cluster::DeleteTags", proxyClient, model, callbackContext)
+                                        .translateToServiceRequest((deleteTagsRequest) -> Translator.translateToDeleteTagsRequest(model, tags.getTagKeysToRemove(), resourceName))
+                                        .backoffDelay(ClusterOperation.TAGS.getBackoffStrategy())
+                                        .makeServiceCall(invalidatingClusterSnapshot(this::deleteTags)));
                     }
 
-                    if (!CollectionUtils.isNullOrEmpty(updateTags) && !CollectionUtils.isNullOrEmpty(updateTags.get(CREATE_TAGS_INDEX))) {
-                        progress = proxy.initiate("AWS-Redshift-Cluster::CreateTags", proxyClient, model, callbackContext)
-                                .translateToServiceRequest((createTagsRequest) -> Translator.translateToCreateTagsRequest(model, updateTags.get(CREATE_TAGS_INDEX), resourceName))
-                                .makeServiceCall(this::createTags)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
+                    if (!tags.getTagsToAdd().isEmpty()) {
+                        progress = completeOperation(ClusterOperation.TAGS,
+                                proxy.initiate("AWS-Redshift-Cluster::CreateTags", proxyClient, model, callbackContext)
+                                        .translateToServiceRequest((createTagsRequest) -> Translator.translateToCreateTagsRequest(model, Translator.translateTagsMapToTagCollection(tags.getTagsToAdd()), resourceName))
+                                        .backoffDelay(ClusterOperation.TAGS.getBackoffStrategy())
+                                        .makeServiceCall(invalidatingClusterSnapshot(this::createTags)));
                     }
 
                     return progress;
@@ -265,28 +308,20 @@ public class UpdateHandler extends BaseHandlerStd {
                     if ((!CollectionUtils.isNullOrEmpty(iamRolesForUpdate)) && (!CollectionUtils.isNullOrEmpty(iamRolesForUpdate.get(ADD_IAM_ROLES_INDEX)) || !CollectionUtils.isNullOrEmpty(iamRolesForUpdate.get(DELETE_IAM_ROLES_INDEX)))) {
                         return proxy.initiate("AWS-Redshift-Cluster::UpdateClusterIAMRoles", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((iamRolesModifyRequest) -> Translator.translateToUpdateIAMRolesRequest(model, iamRolesForUpdate))
-                                .makeServiceCall(this::updateIAMRoles)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::updateIAMRoles))
+                                .stabilize(trackingPhase("UpdateClusterIAMRoles", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    if (model.getLoggingProperties() == null && isLoggingEnabled(proxyClient, model)) {
-                        return proxy.initiate("AWS-Redshift-Cluster::DisableLogging", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToDisableLoggingRequest)
-                                .makeServiceCall(this::disableLogging)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
-                    } else if (model.getLoggingProperties() != null && (ObjectUtils.notEqual(model.getLoggingProperties(), request.getPreviousResourceState().getLoggingProperties()))) {
-                        return proxy.initiate("AWS-Redshift-Cluster::EnableLogging", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToEnableLoggingRequest)
-                                .makeServiceCall(this::enableLogging)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
+                    // most updates leave logging alone, the plan only has it when the properties changed or are absent
+                    if (!plan.includes(Operation.LOGGING)) {
+                        return progress;
                     }
-                    return progress;
+                    return reconcileLogging(proxy, proxyClient, progress, model, callbackContext, logger);
                 })
                 .then(progress -> {
                     progress = proxy.initiate("AWS-Redshift-Cluster::DescribeClustersReadOnly", proxyClient, model, callbackContext)
@@ -318,12 +353,12 @@ public class UpdateHandler extends BaseHandlerStd {
                     return progress;
                 })
                 .then(progress -> {
-                    if ((ObjectUtils.allNotNull(model.getSnapshotCopyRetentionPeriod()) && issueModifySnapshotCopyRetentionPeriod(request.getPreviousResourceState(), model)) &&
-                            isCrossRegionCopyEnabled(proxyClient, model)) {
+                    if (plan.includes(Operation.SNAPSHOT_COPY_RETENTION_PERIOD) && isCrossRegionCopyEnabled(proxyClient, model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifySnapshotCopyRetentionPeriod", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToModifySnapshotCopyRetentionPeriodRequest)
-                                .makeServiceCall(this::modifySnapshotCopyRetentionPeriod)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::modifySnapshotCopyRetentionPeriod))
+                                .stabilize(trackingPhase("ModifySnapshotCopyRetentionPeriod", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
@@ -334,16 +369,18 @@ public class UpdateHandler extends BaseHandlerStd {
                             && isCrossRegionCopyEnabled(proxyClient, model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::DisableSnapshotCopy", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDisableSnapshotRequest)
-                                .makeServiceCall(this::disableSnapshotCopy)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::disableSnapshotCopy))
+                                .stabilize(trackingPhase("DisableSnapshotCopy", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
 
                     } else if (model.getDestinationRegion() != null) {
                         if (!isCrossRegionCopyEnabled(proxyClient, model)) {
                             return proxy.initiate("AWS-Redshift-Cluster::EnableSnapshotCopy", proxyClient, model, callbackContext)
                                     .translateToServiceRequest(Translator::translateToEnableSnapshotRequest)
-                                    .makeServiceCall(this::enableSnapshotCopy)
-                                    .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                    .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                    .makeServiceCall(invalidatingClusterSnapshot(this::enableSnapshotCopy))
+                                    .stabilize(trackingPhase("EnableSnapshotCopy", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                     .progress();
                         } else if (isCrossRegionCopyEnabled(proxyClient, model) &&
                                 !model.getDestinationRegion().equals(destinationRegionForCrossRegionCopy(proxyClient, model))) {
@@ -358,22 +395,24 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if (issueModifyClusterMaintenanceRequest(model)) {
+                    if (plan.includes(Operation.MAINTENANCE)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterMaintenance", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyClusterMaintenanceRequest)
-                                .makeServiceCall(this::modifyClusterMaintenance)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.METADATA.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::modifyClusterMaintenance))
+                                .stabilize(trackingPhase("ModifyClusterMaintenance", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    if(model.getRevisionTarget() != null && !request.getPreviousResourceState().getRevisionTarget().equals(model.getRevisionTarget())) {
+                    if (plan.includes(Operation.DB_REVISION)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterDbRevision", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToModifyClusterDbRevisionRequest)
-                                .makeServiceCall(this::modifyClusterDbRevision)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterPatched(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.MODIFY.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::modifyClusterDbRevision))
+                                .stabilize(trackingPhase("ModifyClusterDbRevision", (_request, _response, _client, _model, _context) -> isClusterPatched(_client, _model, _context)))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterMaintenance()) {
                                         logger.log(String.format("Update Cluster Db Revision done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
@@ -388,11 +427,12 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if (model.getAquaConfigurationStatus() != null && !model.getAquaConfigurationStatus().equals(request.getPreviousResourceState().getAquaConfigurationStatus())) {
+                    if (plan.includes(Operation.AQUA)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyAQUAConfiguration", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyAquaConfigurationRequest)
-                                .makeServiceCall(this::modifyAquaConfiguration)
-                                .stabilize((_request, _response, _client, _model, _context) -> isAquaConfigurationStatusApplied(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.MODIFY.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::modifyAquaConfiguration))
+                                .stabilize(trackingPhase("ModifyAQUAConfiguration", (_request, _response, _client, _model, _context) -> isAquaConfigurationStatusApplied(_client, _model, _context)))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterAquaModify()) {
                                         logger.log(String.format("Update Aqua Configuration done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
@@ -407,12 +447,19 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if (issueResizeClusterRequest(request.getPreviousResourceState(), model)) {
+                    if (plan.includes(Operation.RESIZE)) {
+                        if (callbackContext.getResizeType() == null) {
+                            final ResizePlanner.Decision decision = ResizePlanner.shared().plan(proxyClient, request.getRegion(),
+                                    request.getPreviousResourceState(), model, logger);
+                            logger.log(String.format("%s %s %s.", ResourceModel.TYPE_NAME, model.getClusterIdentifier(), decision.render()));
+                            callbackContext.setResizeType(decision.getType().name());
+                        }
+                        final Boolean classic = ResizePlanner.ResizeType.valueOf(callbackContext.getResizeType()).getClassic();
                         return proxy.initiate("AWS-Redshift-Cluster::ResizeCluster", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator:: translateToResizeClusterRequest)
-                                .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::resizeCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .translateToServiceRequest(_model -> Translator.translateToResizeClusterRequest(_model, classic))
+                                .backoffDelay(new ProgressEstimateDelay(callbackContext.getResizeProgress(), ClusterOperation.RESIZE.getBackoffStrategy()))
+                                .makeServiceCall(invalidatingClusterSnapshot(this::resizeCluster))
+                                .stabilize(trackingPhase("ResizeCluster", (_request, _response, _client, _model, _context) -> isClusterResized(_client, _model, _context, logger)))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     logger.log(String.format("Resize Cluster complete. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                     if(!callbackContext.getCallBackAfterResize()) {
@@ -427,12 +474,18 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if (issueModifyClusterParameterGroupRequest(request.getPreviousResourceState(), model)) {
+                    if (plan.includes(Operation.PARAMETER_GROUP)) {
+                        final ModifyingStatusWait modifyingStatusWait = new ModifyingStatusWait(
+                                CallbackContext::getCallbackAfterClusterParameterGroupNameModifyIssued,
+                                CallbackContext::setCallbackAfterClusterParameterGroupNameModifyIssued,
+                                ClusterOperation.MODIFY.getBackoffStrategy());
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterParameterGroupName", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((modifyClusterRequest) -> Translator.translateToUpdateParameterGroupNameRequest(model, request.getPreviousResourceState()))
-                                .makeServiceCall(this::updateCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> stabilizeClusterAfterClusterParameterGroupUpdate(_client, _model, _context))
+                                .backoffDelay(modifyingStatusWait)
+                                .makeServiceCall(invalidatingClusterSnapshot(this::updateCluster))
+                                .stabilize(modifyingStatusWait.after(trackingPhase("ModifyClusterParameterGroupName", (_request, _response, _client, _model, _context) -> stabilizeClusterAfterClusterParameterGroupUpdate(_client, _model, _context))))
                                 .done((_request, _response, _client, _model, _context) -> {
+                                    requestReboot(callbackContext, "ModifyClusterParameterGroupName", logger);
                                     if(!callbackContext.getCallbackAfterClusterParameterGroupNameModify()) {
                                         logger.log(String.format("Modify Cluster Parameter Group Name done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                         callbackContext.setCallbackAfterClusterParameterGroupNameModify(true);
@@ -446,25 +499,24 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if ((issueModifyClusterParameterGroupRequest(request.getPreviousResourceState(), model) && isRebootRequired(model, proxyClient)) || isAQUAStatusApplying(model, proxyClient)){
-                        return proxy.initiate("AWS-Redshift-Cluster::RebootCluster", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToRebootClusterRequest)
-                                .makeServiceCall(this::rebootCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
-                                .progress();
-                    }
-                    return progress;
-                })
-
-                .then(progress -> {
-                    if (shouldModifyCluster(request.getPreviousResourceState(), model)) {
+                    if (plan.includes(Operation.MODIFY_CLUSTER)) {
+                        final ModifyingStatusWait modifyingStatusWait = new ModifyingStatusWait(
+                                CallbackContext::getCallbackAfterModifyClusterIssued,
+                                CallbackContext::setCallbackAfterModifyClusterIssued,
+                                ClusterOperation.MODIFY.getBackoffStrategy());
                         return proxy.initiate("AWS-Redshift-Cluster::UpdateCluster", proxyClient, model, callbackContext)
-                                .translateToServiceRequest((modifyClusterRequest) -> Translator.translateToUpdateRequest(model, request.getPreviousResourceState()))
-                                .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::updateCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> stabilizeCluster(_client, _model, _context, request))
+                                .translateToServiceRequest((modifyClusterRequest) -> Translator.translateToUpdateRequest(model, request.getPreviousResourceState(),
+                                        plan.isParameterGroupFoldedIntoModifyCluster()))
+                                .backoffDelay(modifyingStatusWait)
+                                .makeServiceCall(invalidatingClusterSnapshot(this::updateCluster))
+                                .stabilize(modifyingStatusWait.after(trackingPhase("UpdateCluster", (_request, _response, _client, _model, _context) -> plan.isParameterGroupFoldedIntoModifyCluster() ?
+                                        stabilizeClusterAfterClusterParameterGroupUpdate(_client, _model, _context) :
+                                        stabilizeCluster(_client, _model, _context, request))))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     logger.log(String.format("Modify Cluster complete. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
+                                    if (plan.isParameterGroupFoldedIntoModifyCluster()) {
+                                        requestReboot(callbackContext, "UpdateCluster", logger);
+                                    }
                                     if(!callbackContext.getCallBackForReboot()) {
                                         callbackContext.setCallBackForReboot(true);
                                         logger.log ("Initiate a CallBack Delay of "+CALLBACK_DELAY_SECONDS+" seconds after Modify Cluster.");
@@ -477,40 +529,86 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
 
                 .then(progress -> {
-                    if(model.getRotateEncryptionKey() != null && model.getRotateEncryptionKey()) {
+                    // the one reboot of the update, for every step that asked for it. Later steps don't leave
+                    // the cluster pending a reboot, and pause and failover have to come after it
+                    if (!callbackContext.getRebootIssued()) {
+                        if (isAQUAStatusApplying(model, proxyClient)) {
+                            requestReboot(callbackContext, REBOOT_FOR_AQUA, logger);
+                        }
+                        if (callbackContext.getRebootRequestedBy().isEmpty()) {
+                            return progress;
+                        }
+                        if (!callbackContext.getRebootRequestedBy().contains(REBOOT_FOR_AQUA) && !plan.isParameterGroupNameChanged()
+                                && !isRebootRequired(model, proxyClient)) {
+                            logger.log(String.format("%s %s no reboot pending any more for %s.", ResourceModel.TYPE_NAME,
+                                    model.getClusterIdentifier(), callbackContext.getRebootRequestedBy()));
+                            return progress;
+                        }
+                        logger.log(String.format("%s %s rebooting once for %s.", ResourceModel.TYPE_NAME,
+                                model.getClusterIdentifier(), callbackContext.getRebootRequestedBy()));
+                    }
+                    return proxy.initiate("AWS-Redshift-Cluster::RebootCluster", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(Translator::translateToRebootClusterRequest)
+                            .backoffDelay(ClusterOperation.REBOOT.getBackoffStrategy())
+                            .makeServiceCall(invalidatingClusterSnapshot((final RebootClusterRequest rebootClusterRequest, final ProxyClient<RedshiftClient> client) -> {
+                                callbackContext.setRebootIssued(true);
+                                return rebootCluster(rebootClusterRequest, client);
+                            }))
+                            // a reboot for Aqua is only done once Aqua stops applying
+                            .stabilize(trackingPhase("RebootCluster", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)
+                                    && !(_context.getRebootRequestedBy().contains(REBOOT_FOR_AQUA) && isAQUAStatusApplying(_model, _client))))
+                            .progress();
+                })
+
+                .then(progress -> {
+                    if (plan.includes(Operation.ROTATE_ENCRYPTION_KEY)) {
                         return proxy.initiate("AWS-Redshift-Cluster::RotateEncryptionKey", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToRotateEncryptionKeyRequest)
-                                .makeServiceCall(this::rotateEncryptionKey)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.MODIFY.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::rotateEncryptionKey))
+                                .stabilize(trackingPhase("RotateEncryptionKey", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    if (model.getResourceAction() != null && PAUSE_CLUSTER.equals(model.getResourceAction())) {
+                    if (plan.includes(Operation.PAUSE)) {
                         return proxy.initiate("AWS-Redshift-Cluster::PauseCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToPauseClusterRequest)
-                                .makeServiceCall(this::pauseCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterPaused(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.PAUSE_RESUME.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::pauseCluster))
+                                .stabilize(trackingPhase("PauseCluster", (_request, _response, _client, _model, _context) -> isClusterPaused(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    if (model.getResourceAction() != null && FAILOVER_PRIMARY_COMPUTE.equals(model.getResourceAction()) && model.getMultiAZ()) {
+                    if (plan.includes(Operation.FAILOVER)) {
                         return proxy.initiate("AWS-Redshift-Cluster::FailoverPrimaryCompute", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToFailoverPrimaryComputeRequest)
-                                .makeServiceCall(this::failoverPrimaryComputeCluster)
-                                .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .backoffDelay(ClusterOperation.FAILOVER.getBackoffStrategy())
+                                .makeServiceCall(invalidatingClusterSnapshot(this::failoverPrimaryComputeCluster))
+                                .stabilize(trackingPhase("FailoverPrimaryCompute", (_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context)))
                                 .progress();
                     }
                     return progress;
                 })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(asyncProxyClient).handleRequest(proxy, request, callbackContext, proxyClient, logger));
         }
 
+    /*
+    Records a step that left the cluster waiting for a reboot. The steps only record it, the reboot step reboots
+    once for all of them, so a drifted cluster that also gets a new parameter group is rebooted once.
+     */
+    private void requestReboot(final CallbackContext callbackContext, final String step, final Logger logger) {
+        if (!callbackContext.getRebootRequestedBy().contains(step)) {
+            callbackContext.getRebootRequestedBy().add(step);
+            logger.log(String.format("%s needs a reboot, deferred to the reboot step of the update.", step));
+        }
+    }
+
     private DescribeClustersResponse describeCluster (
             final DescribeClustersRequest awsRequest,
             final ProxyClient<RedshiftClient> proxyClient) {
@@ -552,21 +650,8 @@ public class UpdateHandler extends BaseHandlerStd {
             throw new CfnGeneralServiceException(e);
         }
 
-        /*
-        After the modify-cluster call, it takes 1 or more seconds for the ACTIVE cluster to be changed to MODIFYING,
-        we used to call stabilizer right after the modify-cluster call, and stabilizer immediately returns that the cluster
-        is ACTIVE, because the cluster didn't get a chance to be changed to be MODIFYING, which incorrectly tells
-        CFN that the modify-cluster is done.
-
-        We wait for 10 seconds just to be on the safe side, it's longer than we need most of the time, but 10 seconds
-        is acceptable because the modify-cluster usually takes minutes for the cluster to be ACTIVE again.
-         */
-        logger.log(String.format("%s %s modify cluster issued, waiting for %s seconds for cluster status to be Modifying",
-                ResourceModel.TYPE_NAME,
-                modifyRequest.clusterIdentifier(),
-                WAIT_TIME_IN_SECS_AFTER_INITIAL_MODIFY_CLUSTER_API_CALL));
-
-        sleep(WAIT_TIME_IN_SECS_AFTER_INITIAL_MODIFY_CLUSTER_API_CALL);
+        logger.log(String.format("%s %s modify cluster issued.", ResourceModel.TYPE_NAME,
+                modifyRequest.clusterIdentifier()));
 
         return awsResponse;
     }
@@ -732,47 +817,6 @@ public class UpdateHandler extends BaseHandlerStd {
         return deleteTagsResponse;
     }
 
-    private DisableLoggingResponse disableLogging(
-            final DisableLoggingRequest disableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
-        DisableLoggingResponse disableLoggingResponse = null;
-
-        try {
-            logger.log(String.format("%s %s disableLogging.", ResourceModel.TYPE_NAME,
-                    disableLoggingRequest.clusterIdentifier()));
-            disableLoggingResponse = proxyClient.injectCredentialsAndInvokeV2(disableLoggingRequest, proxyClient.client()::disableLogging);
-        } catch (final ClusterNotFoundException  e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (SdkClientException | AwsServiceException e) {
-            throw new CfnGeneralServiceException(e);
-        }
-        logger.log(String.format("%s %s disable logging properties issued.", ResourceModel.TYPE_NAME,
-                disableLoggingRequest.clusterIdentifier()));
-
-        return disableLoggingResponse;
-    }
-
-    private EnableLoggingResponse enableLogging(
-            final EnableLoggingRequest enableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
-        EnableLoggingResponse enableLoggingResponse = null;
-
-        try {
-            logger.log(String.format("%s %s enableLogging.", ResourceModel.TYPE_NAME,
-                    enableLoggingRequest.clusterIdentifier()));
-            enableLoggingResponse = proxyClient.injectCredentialsAndInvokeV2(enableLoggingRequest, proxyClient.client()::enableLogging);
-        } catch (final ClusterNotFoundException | BucketNotFoundException | InsufficientS3BucketPolicyException
-                | InvalidS3KeyPrefixException | InvalidS3BucketNameException | InvalidClusterStateException  e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (SdkClientException | AwsServiceException e) {
-            throw new CfnGeneralServiceException(e);
-        }
-        logger.log(String.format("%s %s enable logging properties issued.",
-                ResourceModel.TYPE_NAME, enableLoggingRequest.clusterIdentifier()));
-
-        return enableLoggingResponse;
-    }
-
     private EnableSnapshotCopyResponse enableSnapshotCopy(
             final EnableSnapshotCopyRequest enableSnapshotCopyRequest,
             final ProxyClient<RedshiftClient> proxyClient) {
@@ -990,11 +1034,10 @@ public class UpdateHandler extends BaseHandlerStd {
     notEqual(... more attributes)
 
     The above is type-safe, but when we need to provide detailed logs about which attributes changed,
-    adding logs for each attribute is tedious (I couldn't figure out how, feel free to PR if you know how).
+    adding logs for each attribute is tedious.
 
-    The approach below uses Reflection APIs to get the attribute dynamically,
-    which is not 100% type-safe, but unit tests are ensuring every hard-coded attributes
-    in the list (and their getter methods) exist on the ResourceModel (generated from aws-redshift-cluster.json).
+    The approach below walks the getter table on DetectableModifyClusterAttribute,
+    it stays type-safe (a typo in a getter doesn't compile) and logs every changed attribute.
 
     Pros of the approach below:
     - update attributes list (whether its change triggers modifyCluster) easily.
@@ -1003,76 +1046,30 @@ public class UpdateHandler extends BaseHandlerStd {
     As always, never log anything sensitive :)
      */
     private boolean shouldModifyCluster(ResourceModel oldModel, ResourceModel newModel) {
-        boolean shouldModifyCluster = false;
         logger.log("Checking cluster attribute values changes for ModifyCluster...");
 
-        // for loop to log every attribute's value change for debugging
-        for (DetectableModifyClusterAttribute attributeEnum : DetectableModifyClusterAttribute.values()) {
-            final String attribute = attributeEnum.getStringValue();
-
-            boolean attributeValueChanged;
+        final ModifyClusterAttributeDiff diff = DetectableModifyClusterAttribute.diff(oldModel, newModel);
 
-            final Object oldModelValue = getAttributeValue(oldModel, attribute);
-            final Object newModelValue = getAttributeValue(newModel, attribute);
-
-            // if we don't provide any track name when we call create-cluster API,
-            // the default track name is "current"
-            // when cx updates the CFN template to include a track name, "current",
-            // we used to call modify-cluster with track("current"),
-            // and we'd get exception "track is already on 'current'".
-            // The following check is to avoid this unnecessary update call
-
-            // There is potentially better/cleaner solutions to provide default value for CFN property,
-            // but it'll take a while to set up.
-            // we will revisit this once CFN team tells us more how it works
-
-            // we only need to check if attributeValueChanged is true (when modify-cluster is potentially needed)
-            if (attributeEnum == DetectableModifyClusterAttribute.MAINTENANCE_TRACK_NAME) {
-                attributeValueChanged = shouldModifyMaintenanceTrack(oldModel, newModel);
+        // if an attribute changed, we log both values,
+        // i.e. "PubliclyAccessible change from true to false"
+        for (DetectableModifyClusterAttribute attributeEnum : diff.getChangedAttributes()) {
+            final String attribute = attributeEnum.getStringValue();
+            if (attributeEnum.isSensitiveField()) {
+                // Be CAREFUL, we don't log any sensitive attribute values
+                logger.log(String.format("Sensitive attribute %s changed", attribute));
             } else {
-                attributeValueChanged = ObjectUtils.notEqual(oldModelValue, newModelValue);
-            }
-
-            // if an attribute changed, we log both values,
-            // i.e. "PubliclyAccessible change from true to false"
-            if (attributeValueChanged) {
-                if (attributeEnum.isSensitiveField()) {
-                    // Be CAREFUL, we don't log any sensitive attribute values
-                    logger.log(String.format("Sensitive attribute %s changed", attribute));
-                } else {
-                    // insensitive attributes
-                    logger.log(String.format("%s changed from %s to %s", attribute, oldModelValue, newModelValue));
-                }
+                // insensitive attributes
+                logger.log(String.format("%s changed from %s to %s", attribute,
+                        attributeEnum.getValue(oldModel), attributeEnum.getValue(newModel)));
             }
-
-            shouldModifyCluster = shouldModifyCluster || attributeValueChanged;
         }
 
-        if (shouldModifyCluster) {
+        if (diff.hasChanges()) {
             logger.log("Cluster attribute(s) changes detected, should issue modifyClusterRequest");
         } else {
             logger.log("No cluster attribute changes detected, should skip modifyClusterRequest");
         }
 
-        return shouldModifyCluster;
-    }
-
-    private Object getAttributeValue(ResourceModel model, String attribute) {
-        try {
-            Method getter = ResourceModel.class.getMethod("get" + attribute);
-            return getter.invoke(model);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            logger.log(e.getStackTrace().toString());
-            // This should never get triggered during runtime.
-            //
-            // we throw RuntimeException here to ensure unit test catches any attribute typos,
-            // for example, if developers mistype an attribute in the list,
-            // unit test would throw the following exception and fail,
-            // which stops build process.
-            //
-            // Only if the all attributes match the Model generated from aws-redshift-cluster.json,
-            // the tests will pass
-            throw new RuntimeException(String.format("Failed to get %s from cluster to decide whether to modifyCluster", attribute));
-        }
+        return diff.hasChanges();
     }
 }
@@ -13,6 +13,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.redshift.RedshiftAsyncClient;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.*;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -152,6 +153,49 @@ public class AbstractTestBase {
     };
   }
 
+  static ProxyClient<RedshiftAsyncClient> MOCK_ASYNC_PROXY(
+    final AmazonWebServicesClientProxy proxy,
+    final RedshiftAsyncClient sdkAsyncClient) {
+    return new ProxyClient<RedshiftAsyncClient>() {
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+      injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+      CompletableFuture<ResponseT>
+      injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+      IterableT
+      injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+      injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public RedshiftAsyncClient client() {
+        return sdkAsyncClient;
+      }
+    };
+  }
+
   public static Cluster basicCluster(){
     return Cluster.builder()
             .clusterStatus("available")
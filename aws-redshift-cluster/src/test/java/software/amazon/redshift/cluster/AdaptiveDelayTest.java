@@ -0,0 +1,54 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveDelayTest {
+
+    private final AdaptiveDelay delay = AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(10L))
+            .fastPollAttempts(2)
+            .fastPollDelay(Duration.ofSeconds(2L))
+            .baseDelay(Duration.ofSeconds(10L))
+            .maxDelay(Duration.ofSeconds(60L))
+            .jitterRatio(0)
+            .build();
+
+    @Test
+    public void nextDelay_FastPollThenExponentialUpToCap() {
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(10L));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(20L));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(40L));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(60L));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ofSeconds(60L));
+    }
+
+    @Test
+    public void nextDelay_PastTimeout_ReturnsZero() {
+        // 2 + 2 + 10 + 20 + 40 = 74s, then 60s per attempt: attempt 13 brings the schedule past 600s
+        assertThat(delay.nextDelay(12)).isEqualTo(Duration.ofSeconds(60L));
+        assertThat(delay.nextDelay(13)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_JitterStaysWithinRatio() {
+        final AdaptiveDelay jittered = AdaptiveDelay.of()
+                .timeout(Duration.ofMinutes(10L))
+                .fastPollAttempts(2)
+                .fastPollDelay(Duration.ofSeconds(2L))
+                .baseDelay(Duration.ofSeconds(10L))
+                .maxDelay(Duration.ofSeconds(60L))
+                .build();
+        for (int attempt = 2; attempt < 8; attempt++) {
+            final Duration scheduled = jittered.scheduledDelay(attempt);
+            final Duration next = jittered.nextDelay(attempt);
+            assertThat(next).isLessThanOrEqualTo(scheduled);
+            assertThat(next.toMillis()).isGreaterThanOrEqualTo((long) (scheduled.toMillis() * 0.8));
+        }
+    }
+}
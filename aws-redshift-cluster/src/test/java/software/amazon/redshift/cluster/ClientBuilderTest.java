@@ -0,0 +1,26 @@
+package software.amazon.redshift.cluster;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void getClient_SameRegion_ReusesClient() {
+        final RedshiftClient first = ClientBuilder.getClient(Region.US_EAST_1);
+        final RedshiftClient second = ClientBuilder.getClient(Region.US_EAST_1);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_DifferentRegion_BuildsNewClient() {
+        final RedshiftClient east = ClientBuilder.getClient(Region.US_EAST_1);
+        final RedshiftClient west = ClientBuilder.getClient(Region.US_WEST_2);
+
+        assertThat(west).isNotSameAs(east);
+    }
+}
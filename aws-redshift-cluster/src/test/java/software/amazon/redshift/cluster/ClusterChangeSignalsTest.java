@@ -0,0 +1,68 @@
+package software.amazon.redshift.cluster;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterDbRevision;
+import software.amazon.awssdk.services.redshift.model.PendingModifiedValues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterChangeSignalsTest {
+
+    private static final Cluster AVAILABLE = Cluster.builder()
+            .clusterStatus("available")
+            .clusterAvailabilityStatus("Available")
+            .build();
+
+    @Test
+    public void aqua_AppliedOnceConfigurationReportedWhileStillApplying() {
+        // applying only clears with a reboot, which comes after this step
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("enabled", "applying"), "enabled")).isTrue();
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("enabled", "enabled"), "enabled")).isTrue();
+    }
+
+    @Test
+    public void aqua_NotAppliedWhileClusterBusy() {
+        final Cluster modifying = aqua("enabled", "applying").toBuilder().clusterStatus("modifying").build();
+
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(modifying, "enabled")).isFalse();
+    }
+
+    @Test
+    public void aqua_NotAppliedBeforeTheClusterPicksUpTheChange() {
+        // right after the call the cluster still reports the old configuration, not applying yet
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("disabled", "disabled"), "enabled")).isFalse();
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("auto", "disabled"), "enabled")).isFalse();
+    }
+
+    @Test
+    public void aqua_AutoSettlesOnEitherStatus() {
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("auto", "disabled"), "auto")).isTrue();
+        assertThat(ClusterChangeSignals.isAquaConfigurationApplied(aqua("auto", "applying"), "auto")).isTrue();
+    }
+
+    @Test
+    public void dbRevision_AppliedOnceCurrentRevisionMatchesAndNothingPending() {
+        final ClusterDbRevision target = ClusterDbRevision.builder().currentDatabaseRevision("1.0.2").build();
+        final ClusterDbRevision previous = ClusterDbRevision.builder().currentDatabaseRevision("1.0.1").build();
+        final Cluster pending = AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder().maintenanceTrackName("current").build())
+                .build();
+
+        assertThat(ClusterChangeSignals.isDbRevisionApplied(AVAILABLE, target, "1.0.2")).isTrue();
+        assertThat(ClusterChangeSignals.isDbRevisionApplied(AVAILABLE, previous, "1.0.2")).isFalse();
+        assertThat(ClusterChangeSignals.isDbRevisionApplied(AVAILABLE, null, "1.0.2")).isFalse();
+        assertThat(ClusterChangeSignals.isDbRevisionApplied(pending, target, "1.0.2")).isFalse();
+        assertThat(ClusterChangeSignals.isDbRevisionApplied(AVAILABLE.toBuilder().clusterStatus("modifying").build(), target, "1.0.2")).isFalse();
+    }
+
+    private static Cluster aqua(final String configurationStatus, final String aquaStatus) {
+        return AVAILABLE.toBuilder()
+                .aquaConfiguration(AquaConfiguration.builder()
+                        .aquaConfigurationStatus(configurationStatus)
+                        .aquaStatus(aquaStatus)
+                        .build())
+                .build();
+    }
+}
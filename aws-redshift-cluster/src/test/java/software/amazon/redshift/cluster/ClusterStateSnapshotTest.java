@@ -0,0 +1,78 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ClusterStateSnapshotTest extends AbstractTestBase {
+
+    @Mock
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @Mock
+    RedshiftClient sdkClient;
+
+    private ClusterStateSnapshot snapshot;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        snapshot = new ClusterStateSnapshot();
+    }
+
+    @Test
+    public void get_ReusesDescribeUntilInvalidated() {
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(basicCluster().toBuilder().clusterStatus("modifying").build()).build())
+                .thenReturn(describeClustersResponseSdk());
+
+        assertThat(snapshot.get(proxyClient, CLUSTER_IDENTIFIER).clusterStatus()).isEqualTo("modifying");
+        assertThat(snapshot.get(proxyClient, CLUSTER_IDENTIFIER).clusterStatus()).isEqualTo("modifying");
+        verify(sdkClient, times(1)).describeClusters(any(DescribeClustersRequest.class));
+
+        snapshot.invalidate();
+
+        assertThat(snapshot.get(proxyClient, CLUSTER_IDENTIFIER).clusterStatus()).isEqualTo("available");
+        verify(sdkClient, times(2)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void refresh_AlwaysDescribes() {
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
+
+        snapshot.get(proxyClient, CLUSTER_IDENTIFIER);
+        snapshot.refresh(proxyClient, CLUSTER_IDENTIFIER);
+
+        verify(sdkClient, times(2)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void get_MissingCluster_ReturnsEmptyCluster() {
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(DescribeClustersResponse.builder().build());
+
+        final Cluster cluster = snapshot.get(proxyClient, CLUSTER_IDENTIFIER);
+
+        assertThat(cluster.clusterStatus()).isNull();
+        assertThat(cluster.clusterParameterGroups()).isEmpty();
+    }
+}
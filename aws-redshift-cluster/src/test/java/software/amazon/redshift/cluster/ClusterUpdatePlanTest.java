@@ -0,0 +1,90 @@
+package software.amazon.redshift.cluster;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.junit.jupiter.api.Test;
+import software.amazon.redshift.cluster.ClusterUpdatePlan.Operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterUpdatePlanTest {
+
+    private static final ResourceModel PREVIOUS_MODEL = ResourceModel.builder()
+            .clusterIdentifier("redshift-cluster-1")
+            .nodeType("ra3.4xlarge")
+            .numberOfNodes(2)
+            .clusterType("multi-node")
+            .clusterParameterGroupName("default.redshift-1.0")
+            .publiclyAccessible(false)
+            .loggingProperties(LoggingProperties.builder().bucketName("bucket").build())
+            .build();
+
+    private static ClusterUpdatePlan plan(final ResourceModel desiredModel) {
+        return ClusterUpdatePlan.of(PREVIOUS_MODEL, desiredModel,
+                (previous, desired) -> ObjectUtils.notEqual(previous.getPubliclyAccessible(), desired.getPubliclyAccessible()));
+    }
+
+    @Test
+    public void plan_NoChanges_IsEmpty() {
+        final ClusterUpdatePlan plan = plan(PREVIOUS_MODEL.toBuilder().build());
+
+        assertThat(plan.getOperations()).isEmpty();
+        assertThat(plan.isParameterGroupNameChanged()).isFalse();
+        assertThat(plan.render()).isEqualTo("Update plan for redshift-cluster-1: 0 operation(s)");
+    }
+
+    @Test
+    public void plan_ParameterGroupWithModifyCluster_FoldedIntoOneRequest() {
+        final ClusterUpdatePlan plan = plan(PREVIOUS_MODEL.toBuilder()
+                .clusterParameterGroupName("custom")
+                .publiclyAccessible(true)
+                .build());
+
+        assertThat(plan.isParameterGroupFoldedIntoModifyCluster()).isTrue();
+        assertThat(plan.getOperations()).containsExactly(Operation.MODIFY_CLUSTER);
+        assertThat(plan.render()).isEqualTo(String.format("Update plan for redshift-cluster-1: 1 operation(s)"
+                + "%n  1. MODIFY_CLUSTER [MODIFY] +ClusterParameterGroupName"
+                + "%n  then REBOOT to apply the new parameter group"));
+    }
+
+    @Test
+    public void plan_ParameterGroupOnly_StandaloneRequest() {
+        final ClusterUpdatePlan plan = plan(PREVIOUS_MODEL.toBuilder()
+                .clusterParameterGroupName("custom")
+                .build());
+
+        assertThat(plan.isParameterGroupNameChanged()).isTrue();
+        assertThat(plan.isParameterGroupFoldedIntoModifyCluster()).isFalse();
+        assertThat(plan.getOperations()).containsExactly(Operation.PARAMETER_GROUP);
+    }
+
+    @Test
+    public void plan_Pause_RendersInHandlerOrder() {
+        final ClusterUpdatePlan plan = plan(PREVIOUS_MODEL.toBuilder()
+                .resourceAction(BaseHandlerStd.PAUSE_CLUSTER)
+                .numberOfNodes(4)
+                .build());
+
+        assertThat(plan.getOperations()).containsExactly(Operation.RESIZE, Operation.PAUSE);
+        assertThat(plan.render()).isEqualTo(String.format("Update plan for redshift-cluster-1: 2 operation(s)"
+                + "%n  1. RESIZE [RESIZE]"
+                + "%n  2. PAUSE [PAUSE_RESUME]"));
+    }
+
+    @Test
+    public void plan_Tags_AreMetadataOnly() {
+        assertThat(ClusterOperation.TAGS.isStatusChanging()).isFalse();
+        assertThat(ClusterOperation.RESOURCE_POLICY.isStatusChanging()).isFalse();
+        assertThat(Operation.LOGGING.getClusterOperation().isStatusChanging()).isTrue();
+        assertThat(Operation.RESIZE.getClusterOperation().isStatusChanging()).isTrue();
+    }
+
+    @Test
+    public void plan_Resume_RunsFirst() {
+        final ClusterUpdatePlan plan = ClusterUpdatePlan.of(
+                PREVIOUS_MODEL.toBuilder().resourceAction(BaseHandlerStd.PAUSE_CLUSTER).build(),
+                PREVIOUS_MODEL.toBuilder().resourceAction(BaseHandlerStd.RESUME_CLUSTER).publiclyAccessible(true).build(),
+                (previous, desired) -> true);
+
+        assertThat(plan.getOperations()).containsExactly(Operation.RESUME, Operation.MODIFY_CLUSTER);
+    }
+}
@@ -164,8 +164,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
 
         when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
+                .thenReturn(describeLoggingStatusFalseResponseSdk())
                 .thenReturn(DescribeLoggingStatusResponse.builder()
                         .bucketName(BUCKET_NAME)
+                        .s3KeyPrefix("test/")
                         .loggingEnabled(true)
                         .lastSuccessfulDeliveryTime(Instant.now())
                         .build());
@@ -196,6 +198,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
 
         when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
+                .thenReturn(describeLoggingStatusFalseResponseSdk())
                 .thenReturn(DescribeLoggingStatusResponse.builder()
                         .logDestinationType(LOG_DESTINATION_TYPE_CW)
                         .logExports(LOG_EXPORTS_TYPES)
@@ -230,7 +233,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getLoggingProperties()).
                 isEqualTo(request.getDesiredResourceState().getLoggingProperties());
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(4))
+        verify(proxyClient.client()).enableLogging(any(EnableLoggingRequest.class));
+        // logging is stabilized on DescribeLoggingStatus, not on the cluster
+        verify(proxyClient.client(), times(3))
                 .describeClusters(any(DescribeClustersRequest.class));
 
     }
@@ -345,7 +350,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getResourceModel()).isEqualTo(responseModel);
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(4))
+        verify(proxyClient.client(), times(3))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
@@ -0,0 +1,45 @@
+package software.amazon.redshift.cluster;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.redshift.cluster.UpdateHandler.DetectableModifyClusterAttribute;
+import software.amazon.redshift.cluster.UpdateHandler.ModifyClusterAttributeDiff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.cluster.TestUtils.BASIC_MODEL;
+
+public class DetectableModifyClusterAttributeTest {
+
+    @Test
+    public void diff_NoChanges() {
+        final ModifyClusterAttributeDiff diff = DetectableModifyClusterAttribute.diff(BASIC_MODEL, BASIC_MODEL.toBuilder().build());
+
+        assertThat(diff.hasChanges()).isFalse();
+        assertThat(diff.hasSensitiveChanges()).isFalse();
+    }
+
+    @Test
+    public void diff_ListsChangedFieldsWithSensitiveFlag() {
+        final ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .port(5440)
+                .publiclyAccessible(!Boolean.TRUE.equals(BASIC_MODEL.getPubliclyAccessible()))
+                .masterUserPassword("new" + BASIC_MODEL.getMasterUserPassword())
+                .build();
+
+        final ModifyClusterAttributeDiff diff = DetectableModifyClusterAttribute.diff(BASIC_MODEL, updateModel);
+
+        assertThat(diff.getChangedAttributes()).containsExactly(
+                DetectableModifyClusterAttribute.PORT,
+                DetectableModifyClusterAttribute.PUBLICLY_ACCESSIBLE,
+                DetectableModifyClusterAttribute.MASTER_USER_PASSWORD);
+        assertThat(diff.hasSensitiveChanges()).isTrue();
+    }
+
+    @Test
+    public void diff_DefaultMaintenanceTrack_NotAChange() {
+        final ModifyClusterAttributeDiff diff = DetectableModifyClusterAttribute.diff(
+                BASIC_MODEL.toBuilder().maintenanceTrackName(null).build(),
+                BASIC_MODEL.toBuilder().maintenanceTrackName(Translator.DEFAULT_TRACK_NAME).build());
+
+        assertThat(diff.hasChanges()).isFalse();
+    }
+}
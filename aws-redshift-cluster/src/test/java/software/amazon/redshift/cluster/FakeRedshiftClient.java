@@ -0,0 +1,777 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.ActionType;
+import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterAlreadyExistsException;
+import software.amazon.awssdk.services.redshift.model.ClusterIamRole;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroup;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterStatus;
+import software.amazon.awssdk.services.redshift.model.CreateClusterRequest;
+import software.amazon.awssdk.services.redshift.model.CreateClusterResponse;
+import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
+import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DeferredMaintenanceWindow;
+import software.amazon.awssdk.services.redshift.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteClusterResponse;
+import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeNodeConfigurationOptionsRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeNodeConfigurationOptionsResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeResponse;
+import software.amazon.awssdk.services.redshift.model.DisableLoggingRequest;
+import software.amazon.awssdk.services.redshift.model.DisableLoggingResponse;
+import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
+import software.amazon.awssdk.services.redshift.model.EnableLoggingResponse;
+import software.amazon.awssdk.services.redshift.model.Endpoint;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.ModifyAquaConfigurationRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyAquaConfigurationResponse;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterIamRolesRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterIamRolesResponse;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterMaintenanceRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterMaintenanceResponse;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterResponse;
+import software.amazon.awssdk.services.redshift.model.NodeConfigurationOption;
+import software.amazon.awssdk.services.redshift.model.Parameter;
+import software.amazon.awssdk.services.redshift.model.PauseClusterRequest;
+import software.amazon.awssdk.services.redshift.model.PauseClusterResponse;
+import software.amazon.awssdk.services.redshift.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.RebootClusterRequest;
+import software.amazon.awssdk.services.redshift.model.RebootClusterResponse;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.awssdk.services.redshift.model.ResizeClusterRequest;
+import software.amazon.awssdk.services.redshift.model.ResizeClusterResponse;
+import software.amazon.awssdk.services.redshift.model.ResizeNotFoundException;
+import software.amazon.awssdk.services.redshift.model.ResourcePolicy;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterRequest;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterResponse;
+import software.amazon.awssdk.services.redshift.model.Tag;
+import software.amazon.awssdk.services.redshift.model.VpcSecurityGroupMembership;
+
+/**
+ * In-memory stand-in for the Redshift API, used to run the cluster handler chains end to end.
+ *
+ * Clusters go through the states the service reports (creating, modifying, rebooting, ...) and settle once the
+ * transition duration of the operation has passed on the simulated clock. Calls made while a cluster is busy fail
+ * with InvalidClusterStateException like they do against the service. Every call is counted per operation, and
+ * throttling or any other error can be queued up per operation.
+ *
+ * Only the operations the cluster handlers issue for create, update, read and delete are modelled, anything else
+ * throws UnsupportedOperationException from the SDK interface defaults.
+ */
+class FakeRedshiftClient implements RedshiftClient {
+    static final String STATUS_AVAILABLE = "available";
+    static final String STATUS_PAUSED = "paused";
+    static final String PARAMETER_APPLY_STATUS_IN_SYNC = "in-sync";
+    static final String PARAMETER_APPLY_STATUS_PENDING_REBOOT = "pending-reboot";
+    static final String AQUA_STATUS_APPLYING = "applying";
+    static final String DEFAULT_PARAMETER_GROUP = "default.redshift-1.0";
+    static final long RESIZE_RATE_IN_MEGA_BYTES_PER_SECOND = 10L;
+
+    private static final Map<String, Duration> DEFAULT_TRANSITIONS = new HashMap<>();
+
+    static {
+        DEFAULT_TRANSITIONS.put("createCluster", Duration.ofMinutes(10));
+        DEFAULT_TRANSITIONS.put("deleteCluster", Duration.ofMinutes(5));
+        DEFAULT_TRANSITIONS.put("modifyCluster", Duration.ofMinutes(5));
+        DEFAULT_TRANSITIONS.put("modifyClusterIamRoles", Duration.ofMinutes(1));
+        DEFAULT_TRANSITIONS.put("rebootCluster", Duration.ofMinutes(3));
+        DEFAULT_TRANSITIONS.put("modifyAquaConfiguration", Duration.ofMinutes(2));
+        DEFAULT_TRANSITIONS.put("resizeCluster", Duration.ofMinutes(15));
+        DEFAULT_TRANSITIONS.put("pauseCluster", Duration.ofMinutes(5));
+        DEFAULT_TRANSITIONS.put("resumeCluster", Duration.ofMinutes(5));
+    }
+
+    private final SimulatedClock clock;
+    private final Map<String, Duration> transitions = new HashMap<>(DEFAULT_TRANSITIONS);
+    private final Map<String, ClusterState> clusters = new LinkedHashMap<>();
+    private final Map<String, DescribeLoggingStatusResponse> loggingStatus = new HashMap<>();
+    // logging configuration DescribeLoggingStatus reports once the enableLogging transition is over
+    private final Map<String, PendingLoggingStatus> pendingLoggingStatus = new HashMap<>();
+    private final Map<String, String> resourcePolicies = new HashMap<>();
+    private final Map<String, Deque<RuntimeException>> injectedErrors = new HashMap<>();
+    private final Map<String, Integer> callCounts = new TreeMap<>();
+    private final Map<String, ClusterParameterGroup> parameterGroups = new HashMap<>();
+    private final Map<String, List<String>> parameterGroupParameters = new HashMap<>();
+    private final Map<String, List<Parameter>> familyParameters = new HashMap<>();
+
+    FakeRedshiftClient(final SimulatedClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Adds an available cluster, as if it had been created before the test.
+     */
+    FakeRedshiftClient withCluster(final Cluster cluster) {
+        clusters.put(cluster.clusterIdentifier(), new ClusterState(cluster));
+        return this;
+    }
+
+    /**
+     * Adds a parameter group whose listed parameters differ from the family defaults. A cluster switched to it
+     * reports these parameters as pending-reboot.
+     */
+    FakeRedshiftClient withParameterGroup(final String name, final String family, final String... parameterNames) {
+        parameterGroups.put(name, ClusterParameterGroup.builder().parameterGroupName(name).parameterGroupFamily(family).build());
+        parameterGroupParameters.put(name, Arrays.asList(parameterNames));
+        return this;
+    }
+
+    /**
+     * Adds a parameter to the family defaults, applyType is "static" or "dynamic".
+     */
+    FakeRedshiftClient withFamilyParameter(final String family, final String name, final String applyType) {
+        familyParameters.computeIfAbsent(family, key -> new ArrayList<>()).add(Parameter.builder()
+                .parameterName(name)
+                .applyType(applyType)
+                .dataType("string")
+                .source("engine-default")
+                .build());
+        return this;
+    }
+
+    /**
+     * Sets how long the cluster stays busy after the given operation, e.g. "modifyCluster". For "enableLogging" it
+     * is how long DescribeLoggingStatus keeps reporting the previous configuration, the cluster stays available.
+     */
+    FakeRedshiftClient withTransition(final String operation, final Duration duration) {
+        transitions.put(operation, duration);
+        return this;
+    }
+
+    /**
+     * Fails the next calls to the operation with a throttling error, as returned once the SDK retries are used up.
+     */
+    FakeRedshiftClient throttle(final String operation, final int times) {
+        for (int i = 0; i < times; i++) {
+            failNext(operation, serviceError(RedshiftException.builder(), 400, "Throttling", "Rate exceeded"));
+        }
+        return this;
+    }
+
+    /**
+     * Fails the next call to the operation with the given error. Errors queue up in the order they are added.
+     */
+    FakeRedshiftClient failNext(final String operation, final RuntimeException error) {
+        injectedErrors.computeIfAbsent(operation, key -> new ArrayDeque<>()).add(error);
+        return this;
+    }
+
+    /**
+     * @return the cluster as DescribeClusters would return it now, null once it is deleted
+     */
+    Cluster cluster(final String clusterIdentifier) {
+        settle();
+        final ClusterState state = clusters.get(clusterIdentifier);
+        return state == null ? null : state.current;
+    }
+
+    /**
+     * @return the request of the last resize of the cluster, null if it was never resized
+     */
+    ResizeClusterRequest lastResize(final String clusterIdentifier) {
+        final Resize resize = existingCluster(clusterIdentifier).resize;
+        return resize == null ? null : resize.request;
+    }
+
+    int callCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateClusterResponse createCluster(final CreateClusterRequest request) {
+        call("createCluster");
+        if (clusters.containsKey(request.clusterIdentifier())) {
+            throw serviceError(ClusterAlreadyExistsException.builder(), 400, "ClusterAlreadyExists",
+                    String.format("Cluster %s already exists", request.clusterIdentifier()));
+        }
+        final Cluster settled = Cluster.builder()
+                .clusterIdentifier(request.clusterIdentifier())
+                .clusterNamespaceArn("arn:aws:redshift:us-east-1:123456789012:namespace:"
+                        + UUID.nameUUIDFromBytes(request.clusterIdentifier().getBytes()))
+                .clusterStatus(STATUS_AVAILABLE)
+                .clusterAvailabilityStatus("Available")
+                .clusterCreateTime(clock.instant())
+                .nodeType(request.nodeType())
+                .numberOfNodes(request.numberOfNodes() == null ? 1 : request.numberOfNodes())
+                .masterUsername(request.masterUsername())
+                .dbName(request.dbName() == null ? "dev" : request.dbName())
+                .endpoint(Endpoint.builder()
+                        .address(request.clusterIdentifier() + ".fake.us-east-1.redshift.amazonaws.com")
+                        .port(request.port() == null ? 5439 : request.port())
+                        .build())
+                .allowVersionUpgrade(request.allowVersionUpgrade())
+                .automatedSnapshotRetentionPeriod(request.automatedSnapshotRetentionPeriod())
+                .manualSnapshotRetentionPeriod(request.manualSnapshotRetentionPeriod())
+                .publiclyAccessible(request.publiclyAccessible())
+                .encrypted(request.encrypted())
+                .enhancedVpcRouting(request.enhancedVpcRouting())
+                .availabilityZone(request.availabilityZone())
+                .preferredMaintenanceWindow(request.preferredMaintenanceWindow())
+                .clusterVersion(request.clusterVersion() == null ? "1.0" : request.clusterVersion())
+                .maintenanceTrackName(request.maintenanceTrackName() == null ? "current" : request.maintenanceTrackName())
+                .clusterParameterGroups(parameterGroup(request.clusterParameterGroupName() == null
+                        ? DEFAULT_PARAMETER_GROUP : request.clusterParameterGroupName(), PARAMETER_APPLY_STATUS_IN_SYNC))
+                .vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()))
+                .iamRoles(iamRoles(request.iamRoles()))
+                .tags(request.tags())
+                .build();
+        final ClusterState state = new ClusterState(settled);
+        state.begin(settled.toBuilder().clusterStatus("creating").clusterAvailabilityStatus("Unavailable").build(),
+                settled, transitionOf("createCluster"));
+        clusters.put(request.clusterIdentifier(), state);
+        return CreateClusterResponse.builder().cluster(state.current).build();
+    }
+
+    @Override
+    public DescribeClustersResponse describeClusters(final DescribeClustersRequest request) {
+        call("describeClusters");
+        settle();
+        if (request.clusterIdentifier() == null) {
+            return DescribeClustersResponse.builder()
+                    .clusters(clusters.values().stream().map(state -> state.current).collect(Collectors.toList()))
+                    .build();
+        }
+        return DescribeClustersResponse.builder()
+                .clusters(existingCluster(request.clusterIdentifier()).current)
+                .build();
+    }
+
+    @Override
+    public DeleteClusterResponse deleteCluster(final DeleteClusterRequest request) {
+        call("deleteCluster");
+        final ClusterState state = existingCluster(request.clusterIdentifier());
+        if (state.isBusy() && !STATUS_PAUSED.equals(state.current.clusterStatus())) {
+            throw clusterBusy(request.clusterIdentifier());
+        }
+        state.begin(state.current.toBuilder().clusterStatus("deleting").clusterAvailabilityStatus("Unavailable").build(),
+                null, transitionOf("deleteCluster"));
+        return DeleteClusterResponse.builder().cluster(state.current).build();
+    }
+
+    @Override
+    public ModifyClusterResponse modifyCluster(final ModifyClusterRequest request) {
+        call("modifyCluster");
+        final Cluster cluster = transition("modifyCluster", request.clusterIdentifier(), "modifying", builder -> {
+            if (request.publiclyAccessible() != null) {
+                builder.publiclyAccessible(request.publiclyAccessible());
+            }
+            if (request.allowVersionUpgrade() != null) {
+                builder.allowVersionUpgrade(request.allowVersionUpgrade());
+            }
+            if (request.automatedSnapshotRetentionPeriod() != null) {
+                builder.automatedSnapshotRetentionPeriod(request.automatedSnapshotRetentionPeriod());
+            }
+            if (request.manualSnapshotRetentionPeriod() != null) {
+                builder.manualSnapshotRetentionPeriod(request.manualSnapshotRetentionPeriod());
+            }
+            if (request.preferredMaintenanceWindow() != null) {
+                builder.preferredMaintenanceWindow(request.preferredMaintenanceWindow());
+            }
+            if (request.enhancedVpcRouting() != null) {
+                builder.enhancedVpcRouting(request.enhancedVpcRouting());
+            }
+            if (request.encrypted() != null) {
+                builder.encrypted(request.encrypted());
+            }
+            if (request.kmsKeyId() != null) {
+                builder.kmsKeyId(request.kmsKeyId());
+            }
+            if (request.maintenanceTrackName() != null) {
+                builder.maintenanceTrackName(request.maintenanceTrackName());
+            }
+            if (request.clusterVersion() != null) {
+                builder.clusterVersion(request.clusterVersion());
+            }
+            if (request.hasVpcSecurityGroupIds()) {
+                builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds()));
+            }
+            // a new parameter group is attached right away but only applied by a reboot
+            if (request.clusterParameterGroupName() != null) {
+                builder.clusterParameterGroups(parameterGroup(request.clusterParameterGroupName(),
+                        PARAMETER_APPLY_STATUS_PENDING_REBOOT));
+            }
+            return builder;
+        });
+        return ModifyClusterResponse.builder().cluster(cluster).build();
+    }
+
+    @Override
+    public ModifyClusterIamRolesResponse modifyClusterIamRoles(final ModifyClusterIamRolesRequest request) {
+        call("modifyClusterIamRoles");
+        final Cluster cluster = transition("modifyClusterIamRoles", request.clusterIdentifier(), "modifying", builder -> {
+            final List<String> iamRoles = new ArrayList<>();
+            for (ClusterIamRole iamRole : builder.build().iamRoles()) {
+                if (!request.removeIamRoles().contains(iamRole.iamRoleArn())) {
+                    iamRoles.add(iamRole.iamRoleArn());
+                }
+            }
+            iamRoles.addAll(request.addIamRoles());
+            return builder.iamRoles(iamRoles(iamRoles));
+        });
+        return ModifyClusterIamRolesResponse.builder().cluster(cluster).build();
+    }
+
+    @Override
+    public RebootClusterResponse rebootCluster(final RebootClusterRequest request) {
+        call("rebootCluster");
+        final Cluster cluster = transition("rebootCluster", request.clusterIdentifier(), "rebooting", builder -> {
+            builder.clusterParameterGroups(builder.build().clusterParameterGroups().stream()
+                    .map(parameterGroup -> parameterGroup.toBuilder()
+                            .parameterApplyStatus(PARAMETER_APPLY_STATUS_IN_SYNC)
+                            .clusterParameterStatusList(parameterStatuses(parameterGroup.parameterGroupName(), PARAMETER_APPLY_STATUS_IN_SYNC))
+                            .build())
+                    .collect(Collectors.toList()));
+            // an Aqua change only takes effect with the reboot, auto ends up disabled here
+            final AquaConfiguration aquaConfiguration = builder.build().aquaConfiguration();
+            if (aquaConfiguration != null && AQUA_STATUS_APPLYING.equals(aquaConfiguration.aquaStatusAsString())) {
+                builder.aquaConfiguration(aquaConfiguration.toBuilder()
+                        .aquaStatus("enabled".equals(aquaConfiguration.aquaConfigurationStatusAsString()) ? "enabled" : "disabled")
+                        .build());
+            }
+            return builder;
+        });
+        return RebootClusterResponse.builder().cluster(cluster).build();
+    }
+
+    @Override
+    public ModifyAquaConfigurationResponse modifyAquaConfiguration(final ModifyAquaConfigurationRequest request) {
+        call("modifyAquaConfiguration");
+        // the new configuration is reported once the cluster is available again, Aqua applies it until a reboot
+        final AquaConfiguration aquaConfiguration = AquaConfiguration.builder()
+                .aquaConfigurationStatus(request.aquaConfigurationStatusAsString())
+                .aquaStatus(AQUA_STATUS_APPLYING)
+                .build();
+        transition("modifyAquaConfiguration", request.clusterIdentifier(), "modifying", builder ->
+                builder.aquaConfiguration(aquaConfiguration));
+        return ModifyAquaConfigurationResponse.builder().aquaConfiguration(aquaConfiguration).build();
+    }
+
+    @Override
+    public ResizeClusterResponse resizeCluster(final ResizeClusterRequest request) {
+        call("resizeCluster");
+        final Cluster cluster = transition("resizeCluster", request.clusterIdentifier(), "resizing", builder -> {
+            if (request.nodeType() != null) {
+                builder.nodeType(request.nodeType());
+            }
+            if (request.numberOfNodes() != null) {
+                builder.numberOfNodes(request.numberOfNodes());
+            }
+            return builder;
+        });
+        existingCluster(request.clusterIdentifier()).resize = new Resize(request, clock.instant(), transitionOf("resizeCluster"));
+        return ResizeClusterResponse.builder().cluster(cluster).build();
+    }
+
+    /**
+     * Lists the elastic resize options of the cluster: its node type at anywhere from half to double its nodes.
+     */
+    @Override
+    public DescribeNodeConfigurationOptionsResponse describeNodeConfigurationOptions(final DescribeNodeConfigurationOptionsRequest request) {
+        call("describeNodeConfigurationOptions");
+        if (request.actionType() != ActionType.RESIZE_CLUSTER) {
+            throw new UnsupportedOperationException("Only the resize-cluster action is modelled");
+        }
+        final Cluster cluster = existingCluster(request.clusterIdentifier()).current;
+        final int numberOfNodes = cluster.numberOfNodes();
+        final List<NodeConfigurationOption> options = new ArrayList<>();
+        for (int nodes = Math.max((numberOfNodes + 1) / 2, 2); nodes <= numberOfNodes * 2; nodes++) {
+            options.add(NodeConfigurationOption.builder().nodeType(cluster.nodeType()).numberOfNodes(nodes).build());
+        }
+        return DescribeNodeConfigurationOptionsResponse.builder().nodeConfigurationOptionList(options).build();
+    }
+
+    /**
+     * Reports the last resize of the cluster. Data moves at a steady rate over the resize transition, so the
+     * estimate is exact.
+     */
+    @Override
+    public DescribeResizeResponse describeResize(final DescribeResizeRequest request) {
+        call("describeResize");
+        final Resize resize = existingCluster(request.clusterIdentifier()).resize;
+        if (resize == null) {
+            throw serviceError(ResizeNotFoundException.builder(), 404, "ResizeNotFound",
+                    String.format("Resize operation for Cluster %s not found.", request.clusterIdentifier()));
+        }
+        final Duration elapsed = Duration.between(resize.startedAt, clock.instant());
+        final boolean done = elapsed.compareTo(resize.duration) >= 0;
+        final long totalMegaBytes = Math.max(resize.duration.getSeconds(), 1L) * RESIZE_RATE_IN_MEGA_BYTES_PER_SECOND;
+        return DescribeResizeResponse.builder()
+                .status(done ? "SUCCEEDED" : "IN_PROGRESS")
+                .resizeType(Boolean.TRUE.equals(resize.request.classic()) ? "ClassicResize" : null)
+                .targetNodeType(resize.request.nodeType())
+                .targetNumberOfNodes(resize.request.numberOfNodes())
+                .totalResizeDataInMegaBytes(totalMegaBytes)
+                .progressInMegaBytes(done ? totalMegaBytes : elapsed.getSeconds() * RESIZE_RATE_IN_MEGA_BYTES_PER_SECOND)
+                .avgResizeRateInMegaBytesPerSecond((double) RESIZE_RATE_IN_MEGA_BYTES_PER_SECOND)
+                .elapsedTimeInSeconds(done ? resize.duration.getSeconds() : elapsed.getSeconds())
+                .estimatedTimeToCompletionInSeconds(done ? 0L : resize.duration.minus(elapsed).getSeconds())
+                .build();
+    }
+
+    @Override
+    public PauseClusterResponse pauseCluster(final PauseClusterRequest request) {
+        call("pauseCluster");
+        final Cluster cluster = transition("pauseCluster", request.clusterIdentifier(), "pausing", builder ->
+                builder.clusterStatus(STATUS_PAUSED).clusterAvailabilityStatus("Paused"));
+        return PauseClusterResponse.builder().cluster(cluster).build();
+    }
+
+    @Override
+    public ResumeClusterResponse resumeCluster(final ResumeClusterRequest request) {
+        call("resumeCluster");
+        final ClusterState state = existingCluster(request.clusterIdentifier());
+        if (state.isBusy() || !STATUS_PAUSED.equals(state.current.clusterStatus())) {
+            throw clusterBusy(request.clusterIdentifier());
+        }
+        state.begin(state.current.toBuilder().clusterStatus("resuming").clusterAvailabilityStatus("Modifying").build(),
+                state.current.toBuilder().clusterStatus(STATUS_AVAILABLE).clusterAvailabilityStatus("Available").build(),
+                transitionOf("resumeCluster"));
+        return ResumeClusterResponse.builder().cluster(state.current).build();
+    }
+
+    @Override
+    public ModifyClusterMaintenanceResponse modifyClusterMaintenance(final ModifyClusterMaintenanceRequest request) {
+        call("modifyClusterMaintenance");
+        final ClusterState state = existingCluster(request.clusterIdentifier());
+        final List<DeferredMaintenanceWindow> windows = Boolean.FALSE.equals(request.deferMaintenance())
+                ? Collections.<DeferredMaintenanceWindow>emptyList()
+                : Collections.singletonList(DeferredMaintenanceWindow.builder()
+                        .deferMaintenanceIdentifier(request.deferMaintenanceIdentifier())
+                        .deferMaintenanceStartTime(request.deferMaintenanceStartTime())
+                        .deferMaintenanceEndTime(request.deferMaintenanceEndTime())
+                        .build());
+        state.update(builder -> builder.deferredMaintenanceWindows(windows));
+        return ModifyClusterMaintenanceResponse.builder().cluster(state.current).build();
+    }
+
+    @Override
+    public CreateTagsResponse createTags(final CreateTagsRequest request) {
+        call("createTags");
+        final ClusterState state = existingCluster(clusterIdentifierOf(request.resourceName()));
+        state.update(builder -> {
+            final Map<String, Tag> tags = new LinkedHashMap<>();
+            builder.build().tags().forEach(tag -> tags.put(tag.key(), tag));
+            request.tags().forEach(tag -> tags.put(tag.key(), tag));
+            return builder.tags(new ArrayList<>(tags.values()));
+        });
+        return CreateTagsResponse.builder().build();
+    }
+
+    @Override
+    public DeleteTagsResponse deleteTags(final DeleteTagsRequest request) {
+        call("deleteTags");
+        final ClusterState state = existingCluster(clusterIdentifierOf(request.resourceName()));
+        state.update(builder -> builder.tags(builder.build().tags().stream()
+                .filter(tag -> !request.tagKeys().contains(tag.key()))
+                .collect(Collectors.toList())));
+        return DeleteTagsResponse.builder().build();
+    }
+
+    @Override
+    public DescribeLoggingStatusResponse describeLoggingStatus(final DescribeLoggingStatusRequest request) {
+        call("describeLoggingStatus");
+        existingCluster(request.clusterIdentifier());
+        final PendingLoggingStatus pending = pendingLoggingStatus.get(request.clusterIdentifier());
+        if (pending != null && !clock.instant().isBefore(pending.appliesAt)) {
+            loggingStatus.put(request.clusterIdentifier(), pending.status);
+            pendingLoggingStatus.remove(request.clusterIdentifier());
+        }
+        return loggingStatus.getOrDefault(request.clusterIdentifier(),
+                DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
+    }
+
+    @Override
+    public EnableLoggingResponse enableLogging(final EnableLoggingRequest request) {
+        call("enableLogging");
+        existingCluster(request.clusterIdentifier());
+        final DescribeLoggingStatusResponse status = DescribeLoggingStatusResponse.builder()
+                .loggingEnabled(true)
+                .bucketName(request.bucketName())
+                .s3KeyPrefix(request.s3KeyPrefix())
+                .logDestinationType(request.logDestinationTypeAsString())
+                .logExports(request.logExports())
+                .lastSuccessfulDeliveryTime(clock.instant())
+                .build();
+        pendingLoggingStatus.put(request.clusterIdentifier(),
+                new PendingLoggingStatus(status, clock.instant().plus(transitionOf("enableLogging"))));
+        return EnableLoggingResponse.builder()
+                .loggingEnabled(true)
+                .bucketName(status.bucketName())
+                .s3KeyPrefix(status.s3KeyPrefix())
+                .logDestinationType(status.logDestinationTypeAsString())
+                .logExports(status.logExports())
+                .lastSuccessfulDeliveryTime(status.lastSuccessfulDeliveryTime())
+                .build();
+    }
+
+    @Override
+    public DisableLoggingResponse disableLogging(final DisableLoggingRequest request) {
+        call("disableLogging");
+        existingCluster(request.clusterIdentifier());
+        loggingStatus.remove(request.clusterIdentifier());
+        pendingLoggingStatus.remove(request.clusterIdentifier());
+        return DisableLoggingResponse.builder().loggingEnabled(false).build();
+    }
+
+    /**
+     * Lists the parameters of a parameter group that differ from the family defaults, with the apply type the
+     * family gives them.
+     */
+    @Override
+    public DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest request) {
+        call("describeClusterParameters");
+        final ClusterParameterGroup parameterGroup = parameterGroups.get(request.parameterGroupName());
+        if (parameterGroup == null) {
+            throw serviceError(ClusterParameterGroupNotFoundException.builder(), 404, "ClusterParameterGroupNotFound",
+                    String.format("Parameter group %s not found.", request.parameterGroupName()));
+        }
+        final List<String> parameterNames = parameterGroupParameters.get(request.parameterGroupName());
+        return DescribeClusterParametersResponse.builder()
+                .parameters(familyParameters.getOrDefault(parameterGroup.parameterGroupFamily(), Collections.emptyList()).stream()
+                        .filter(parameter -> parameterNames.contains(parameter.parameterName()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    public GetResourcePolicyResponse getResourcePolicy(final GetResourcePolicyRequest request) {
+        call("getResourcePolicy");
+        return GetResourcePolicyResponse.builder()
+                .resourcePolicy(ResourcePolicy.builder()
+                        .resourceArn(request.resourceArn())
+                        .policy(resourcePolicies.get(request.resourceArn()))
+                        .build())
+                .build();
+    }
+
+    @Override
+    public PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest request) {
+        call("putResourcePolicy");
+        resourcePolicies.put(request.resourceArn(), request.policy());
+        return PutResourcePolicyResponse.builder()
+                .resourcePolicy(ResourcePolicy.builder().resourceArn(request.resourceArn()).policy(request.policy()).build())
+                .build();
+    }
+
+    @Override
+    public DeleteResourcePolicyResponse deleteResourcePolicy(final DeleteResourcePolicyRequest request) {
+        call("deleteResourcePolicy");
+        resourcePolicies.remove(request.resourceArn());
+        return DeleteResourcePolicyResponse.builder().build();
+    }
+
+    private void call(final String operation) {
+        callCounts.merge(operation, 1, Integer::sum);
+        final Deque<RuntimeException> errors = injectedErrors.get(operation);
+        if (errors != null && !errors.isEmpty()) {
+            throw errors.poll();
+        }
+    }
+
+    private void settle() {
+        final Iterator<ClusterState> iterator = clusters.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().settle()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private ClusterState existingCluster(final String clusterIdentifier) {
+        settle();
+        final ClusterState state = clusters.get(clusterIdentifier);
+        if (state == null) {
+            throw serviceError(ClusterNotFoundException.builder(), 404, "ClusterNotFound",
+                    String.format("Cluster %s not found.", clusterIdentifier));
+        }
+        return state;
+    }
+
+    /*
+    Starts a transition on an available cluster. The cluster keeps its current values while busy and
+    takes the changed values, available again, once the transition is over.
+     */
+    private Cluster transition(final String operation, final String clusterIdentifier, final String status,
+                               final UnaryOperator<Cluster.Builder> change) {
+        final ClusterState state = existingCluster(clusterIdentifier);
+        if (state.isBusy() || !STATUS_AVAILABLE.equals(state.current.clusterStatus())) {
+            throw clusterBusy(clusterIdentifier);
+        }
+        final Cluster settled = change.apply(state.current.toBuilder()
+                .clusterStatus(STATUS_AVAILABLE)
+                .clusterAvailabilityStatus("Available")).build();
+        state.begin(state.current.toBuilder().clusterStatus(status).clusterAvailabilityStatus("Modifying").build(),
+                settled, transitionOf(operation));
+        return state.current;
+    }
+
+    private Duration transitionOf(final String operation) {
+        return transitions.getOrDefault(operation, Duration.ZERO);
+    }
+
+    private static String clusterIdentifierOf(final String resourceName) {
+        // arn:aws:redshift:<region>:<account>:cluster:<identifier>
+        return resourceName.substring(resourceName.lastIndexOf(':') + 1);
+    }
+
+    private ClusterParameterGroupStatus parameterGroup(final String name, final String applyStatus) {
+        return ClusterParameterGroupStatus.builder()
+                .parameterGroupName(name)
+                .parameterApplyStatus(applyStatus)
+                .clusterParameterStatusList(parameterStatuses(name, applyStatus))
+                .build();
+    }
+
+    private List<ClusterParameterStatus> parameterStatuses(final String parameterGroupName, final String applyStatus) {
+        return parameterGroupParameters.getOrDefault(parameterGroupName, Collections.emptyList()).stream()
+                .map(parameterName -> ClusterParameterStatus.builder()
+                        .parameterName(parameterName)
+                        .parameterApplyStatus(applyStatus)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<VpcSecurityGroupMembership> vpcSecurityGroups(final List<String> vpcSecurityGroupIds) {
+        return vpcSecurityGroupIds.stream()
+                .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status("active").build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<ClusterIamRole> iamRoles(final List<String> iamRoleArns) {
+        return iamRoleArns.stream()
+                .map(arn -> ClusterIamRole.builder().iamRoleArn(arn).applyStatus(PARAMETER_APPLY_STATUS_IN_SYNC).build())
+                .collect(Collectors.toList());
+    }
+
+    private static RedshiftException clusterBusy(final String clusterIdentifier) {
+        return serviceError(InvalidClusterStateException.builder(), 400, "InvalidClusterState",
+                String.format("There is an operation running on the Cluster %s. Please try to modify it later.", clusterIdentifier));
+    }
+
+    private static RedshiftException serviceError(final RedshiftException.Builder builder, final int statusCode,
+                                                  final String errorCode, final String message) {
+        return (RedshiftException) builder
+                .message(message)
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .serviceName(SERVICE_NAME)
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+
+    private static final class Resize {
+        private final ResizeClusterRequest request;
+        private final Instant startedAt;
+        private final Duration duration;
+
+        private Resize(final ResizeClusterRequest request, final Instant startedAt, final Duration duration) {
+            this.request = request;
+            this.startedAt = startedAt;
+            this.duration = duration;
+        }
+    }
+
+    private static final class PendingLoggingStatus {
+        private final DescribeLoggingStatusResponse status;
+        private final Instant appliesAt;
+
+        private PendingLoggingStatus(final DescribeLoggingStatusResponse status, final Instant appliesAt) {
+            this.status = status;
+            this.appliesAt = appliesAt;
+        }
+    }
+
+    private final class ClusterState {
+        private Cluster current;
+        // last resize, reported by DescribeResize
+        private Resize resize;
+        // state the cluster reaches at settlesAt, null with a pending transition means the cluster goes away
+        private Cluster settled;
+        private Instant settlesAt;
+
+        private ClusterState(final Cluster current) {
+            this.current = current;
+        }
+
+        private boolean isBusy() {
+            return settlesAt != null;
+        }
+
+        private void begin(final Cluster transitional, final Cluster settled, final Duration duration) {
+            this.current = transitional;
+            this.settled = settled;
+            this.settlesAt = clock.instant().plus(duration);
+        }
+
+        private void update(final UnaryOperator<Cluster.Builder> change) {
+            current = change.apply(current.toBuilder()).build();
+            if (settled != null) {
+                settled = change.apply(settled.toBuilder()).build();
+            }
+        }
+
+        /**
+         * @return true if the cluster finished deleting
+         */
+        private boolean settle() {
+            if (settlesAt == null || clock.instant().isBefore(settlesAt)) {
+                return false;
+            }
+            settlesAt = null;
+            if (settled == null) {
+                return true;
+            }
+            current = settled;
+            settled = null;
+            return false;
+        }
+    }
+}
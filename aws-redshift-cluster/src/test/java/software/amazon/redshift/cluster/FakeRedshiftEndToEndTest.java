@@ -0,0 +1,460 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.AquaConfiguration;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterStatus;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
+import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the handler chains against FakeRedshiftClient, asserting on the end state, the simulated
+ * time the operation took and the number of API calls it made.
+ */
+public class FakeRedshiftEndToEndTest extends AbstractTestBase {
+
+    private SimulatedClock clock;
+    private FakeRedshiftClient redshift;
+    private HandlerRunner runner;
+
+    @BeforeEach
+    public void setup() {
+        clock = new SimulatedClock();
+        redshift = new FakeRedshiftClient(clock);
+        runner = new HandlerRunner(redshift, clock);
+    }
+
+    @Test
+    public void create_ThenDelete() {
+        redshift.withTransition("createCluster", Duration.ofMinutes(10))
+                .withTransition("deleteCluster", Duration.ofMinutes(5));
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = runner.run(CreateHandler::new, request(createClusterRequestModel()));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getClusterNamespaceArn()).isNotNull();
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterStatus()).isEqualTo(FakeRedshiftClient.STATUS_AVAILABLE);
+        assertThat(clock.elapsed()).isGreaterThanOrEqualTo(Duration.ofMinutes(10));
+        assertThat(redshift.callCount("createCluster")).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = runner.run(DeleteHandler::new, request(createClusterRequestModel()));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER)).isNull();
+        assertThat(redshift.callCount("deleteCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_ParameterGroupWithModify_OneModifyAndOneReboot() {
+        redshift.withCluster(availableCluster());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .clusterParameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .clusterParameterGroupName("custom")
+                .publiclyAccessible(true)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final Cluster cluster = redshift.cluster(CLUSTER_IDENTIFIER);
+        assertThat(cluster.publiclyAccessible()).isTrue();
+        assertThat(cluster.clusterParameterGroups().get(0).parameterGroupName()).isEqualTo("custom");
+        assertThat(cluster.clusterParameterGroups().get(0).parameterApplyStatus())
+                .isEqualTo(FakeRedshiftClient.PARAMETER_APPLY_STATUS_IN_SYNC);
+        assertThat(redshift.callCount("modifyCluster")).isEqualTo(1);
+        assertThat(redshift.callCount("rebootCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_ParameterGroupWithOnlyDynamicChanges_StillReboots() {
+        withRedshiftFamilyParameters();
+        redshift.withCluster(availableCluster())
+                .withParameterGroup("custom", "redshift-1.0", "statement_timeout");
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .clusterParameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .clusterParameterGroupName("custom")
+                .publiclyAccessible(true)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterParameterGroups().get(0).parameterGroupName()).isEqualTo("custom");
+        // the cluster only moves to a new parameter group with a reboot, dynamic parameters or not
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterParameterGroups().get(0).parameterApplyStatus())
+                .isEqualTo(FakeRedshiftClient.PARAMETER_APPLY_STATUS_IN_SYNC);
+        assertThat(redshift.callCount("modifyCluster")).isEqualTo(1);
+        assertThat(redshift.callCount("rebootCluster")).isEqualTo(1);
+        assertThat(redshift.callCount("describeClusterParameters")).isZero();
+    }
+
+    @Test
+    public void update_DriftedWithOnlyDynamicParametersPending_NoReboot() {
+        withRedshiftFamilyParameters();
+        redshift.withParameterGroup("custom", "redshift-1.0", "statement_timeout")
+                .withCluster(availableCluster().toBuilder()
+                        .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                                .parameterGroupName("custom")
+                                .parameterApplyStatus(FakeRedshiftClient.PARAMETER_APPLY_STATUS_PENDING_REBOOT)
+                                .clusterParameterStatusList(ClusterParameterStatus.builder()
+                                        .parameterName("statement_timeout")
+                                        .parameterApplyStatus(FakeRedshiftClient.PARAMETER_APPLY_STATUS_PENDING_REBOOT)
+                                        .build())
+                                .build())
+                        .build());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .clusterParameterGroupName("custom")
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .publiclyAccessible(true)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new,
+                request(desiredModel, previousModel).toBuilder().driftable(true).build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.callCount("describeClusterParameters")).isGreaterThanOrEqualTo(1);
+        assertThat(redshift.callCount("rebootCluster")).isZero();
+    }
+
+    @Test
+    public void update_ParameterGroupWithStaticChange_Reboots() {
+        withRedshiftFamilyParameters();
+        redshift.withCluster(availableCluster())
+                .withParameterGroup("custom", "redshift-1.0", "statement_timeout", "enable_user_activity_logging");
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .clusterParameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .clusterParameterGroupName("custom")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterParameterGroups().get(0).parameterApplyStatus())
+                .isEqualTo(FakeRedshiftClient.PARAMETER_APPLY_STATUS_IN_SYNC);
+        assertThat(redshift.callCount("rebootCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_DriftedPendingRebootWithParameterGroupChange_RebootsOnce() {
+        redshift.withCluster(availableCluster().toBuilder()
+                .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                        .parameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                        .parameterApplyStatus(FakeRedshiftClient.PARAMETER_APPLY_STATUS_PENDING_REBOOT)
+                        .build())
+                .build());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .clusterParameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .clusterParameterGroupName("custom")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new,
+                request(desiredModel, previousModel).toBuilder().driftable(true).build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterParameterGroups().get(0).parameterGroupName()).isEqualTo("custom");
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).clusterParameterGroups().get(0).parameterApplyStatus())
+                .isEqualTo(FakeRedshiftClient.PARAMETER_APPLY_STATUS_IN_SYNC);
+        // the drift and the new parameter group share one reboot, after the parameter group change
+        assertThat(redshift.callCount("rebootCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_TagsOnly_NoClusterModification() {
+        redshift.withCluster(availableCluster());
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .tags(Collections.singletonList(Tag.builder().key("foo").value("bar").build()))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).tags()).containsExactly(TAG);
+        assertThat(redshift.callCount("createTags")).isEqualTo(1);
+        assertThat(redshift.callCount("modifyCluster")).isZero();
+        assertThat(redshift.callCount("rebootCluster")).isZero();
+    }
+
+    @Test
+    public void update_TagsOnly_NotStabilized() {
+        redshift.withCluster(availableCluster());
+        final ResourceModel previousModel = createClusterResponseModel();
+        runner.run(UpdateHandler::new, request(previousModel.toBuilder().build(), previousModel));
+        final int noOpDescribeClusters = redshift.callCount("describeClusters");
+        final int noOpInvocations = runner.invocations();
+
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .tags(Collections.singletonList(Tag.builder().key("foo").value("bar").build()))
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.callCount("createTags")).isEqualTo(1);
+        // tagging costs the CreateTags call and nothing else, no poll and no callback
+        assertThat(redshift.callCount("describeClusters")).isEqualTo(2 * noOpDescribeClusters);
+        assertThat(runner.invocations()).isEqualTo(2 * noOpInvocations);
+    }
+
+    @Test
+    public void update_TagValueChange_OnlyCreatesTag() {
+        redshift.withCluster(availableCluster().toBuilder().tags(TAG).build());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .tags(Collections.singletonList(Tag.builder().key(TAG.key()).value(TAG.value()).build()))
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .tags(Collections.singletonList(Tag.builder().key(TAG.key()).value("changed").build()))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).tags())
+                .extracting(software.amazon.awssdk.services.redshift.model.Tag::value)
+                .containsExactly("changed");
+        assertThat(redshift.callCount("createTags")).isEqualTo(1);
+        assertThat(redshift.callCount("deleteTags")).isZero();
+        assertThat(redshift.callCount("describeTags")).isZero();
+    }
+
+    @Test
+    public void update_LoggingAlreadyApplied_NoLoggingCall() {
+        redshift.withCluster(availableCluster());
+        redshift.enableLogging(EnableLoggingRequest.builder()
+                .clusterIdentifier(CLUSTER_IDENTIFIER)
+                .bucketName(BUCKET_NAME)
+                .s3KeyPrefix("test/")
+                .build());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .loggingProperties(LOGGING_PROPERTIES_S3)
+                .build();
+        // same configuration as far as EnableLogging goes, the prefix only gains the slash Translator adds anyway
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .loggingProperties(LoggingProperties.builder().bucketName(BUCKET_NAME).s3KeyPrefix("test/").build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.callCount("enableLogging")).isEqualTo(1);
+        assertThat(redshift.callCount("disableLogging")).isZero();
+    }
+
+    @Test
+    public void update_AquaConfiguration_AppliedByTheReboot() {
+        redshift.withCluster(availableCluster().toBuilder()
+                .aquaConfiguration(AquaConfiguration.builder()
+                        .aquaConfigurationStatus("disabled")
+                        .aquaStatus("disabled")
+                        .build())
+                .build());
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .aquaConfigurationStatus("disabled")
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .aquaConfigurationStatus("enabled")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        // Aqua stays applying after ModifyAquaConfiguration until the cluster is rebooted
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final AquaConfiguration aquaConfiguration = redshift.cluster(CLUSTER_IDENTIFIER).aquaConfiguration();
+        assertThat(aquaConfiguration.aquaConfigurationStatusAsString()).isEqualTo("enabled");
+        assertThat(aquaConfiguration.aquaStatusAsString()).isEqualTo("enabled");
+        assertThat(redshift.callCount("modifyAquaConfiguration")).isEqualTo(1);
+        assertThat(redshift.callCount("rebootCluster")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_LoggingBucketChange_WaitsForNewConfiguration() {
+        final Duration loggingDelay = Duration.ofMinutes(2);
+        redshift.withCluster(availableCluster());
+        redshift.enableLogging(EnableLoggingRequest.builder()
+                .clusterIdentifier(CLUSTER_IDENTIFIER)
+                .bucketName("previous-bucket")
+                .s3KeyPrefix("test/")
+                .build());
+        // logging stays enabled on the previous bucket until the new configuration shows up
+        redshift.withTransition("enableLogging", loggingDelay);
+        final ResourceModel previousModel = createClusterResponseModel().toBuilder()
+                .loggingProperties(LoggingProperties.builder().bucketName("previous-bucket").s3KeyPrefix("test").build())
+                .build();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .loggingProperties(LOGGING_PROPERTIES_S3)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(clock.elapsed()).isGreaterThanOrEqualTo(loggingDelay);
+        assertThat(redshift.callCount("enableLogging")).isEqualTo(2);
+        assertThat(redshift.describeLoggingStatus(DescribeLoggingStatusRequest.builder()
+                .clusterIdentifier(CLUSTER_IDENTIFIER)
+                .build()).bucketName()).isEqualTo(BUCKET_NAME);
+    }
+
+    @Test
+    public void update_LoggingStatusClusterNotFound_FailsNotFound() {
+        redshift.withCluster(availableCluster())
+                .failNext("describeLoggingStatus", ClusterNotFoundException.builder().message("Cluster not found.").build());
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .loggingProperties(LOGGING_PROPERTIES_S3)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(redshift.callCount("enableLogging")).isZero();
+    }
+
+    @Test
+    public void create_WithLogging_StabilizesOnLoggingStatus() {
+        final ResourceModel model = createClusterRequestModel();
+        model.setLoggingProperties(LOGGING_PROPERTIES_CW);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(CreateHandler::new, request(model));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.callCount("enableLogging")).isEqualTo(1);
+        assertThat(redshift.describeLoggingStatus(DescribeLoggingStatusRequest.builder()
+                .clusterIdentifier(CLUSTER_IDENTIFIER)
+                .build()).loggingEnabled()).isTrue();
+    }
+
+    @Test
+    public void update_ClassicResize_PolledFromResizeEstimate() {
+        final Duration resizeDuration = Duration.ofHours(6);
+        redshift.withCluster(availableCluster())
+                .withTransition("resizeCluster", resizeDuration);
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .numberOfNodes(previousModel.getNumberOfNodes() * 2)
+                .classic(true)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER).numberOfNodes()).isEqualTo(desiredModel.getNumberOfNodes());
+        assertThat(redshift.callCount("resizeCluster")).isEqualTo(1);
+        assertThat(clock.elapsed()).isGreaterThanOrEqualTo(resizeDuration);
+        // polled at most every 10 minutes on the estimate, the fallback schedule would poll every 5
+        assertThat(redshift.callCount("describeResize"))
+                .isLessThan((int) (resizeDuration.getSeconds() / ProgressEstimateDelay.MAX_DELAY.getSeconds()) + 10);
+        // the cluster is only described once the resize is over
+        assertThat(redshift.callCount("describeClusters")).isLessThan(10);
+    }
+
+    @Test
+    public void update_NodeCountWithinElasticRange_ElasticResize() {
+        redshift.withCluster(availableCluster());
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .numberOfNodes(previousModel.getNumberOfNodes() * 2)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.lastResize(CLUSTER_IDENTIFIER).classic()).isFalse();
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_ElasticResizeOptionsUnavailable_ClassicLeftOut() {
+        redshift.withCluster(availableCluster())
+                .failNext("describeNodeConfigurationOptions", RedshiftException.builder()
+                        .message("User is not authorized to perform: redshift:DescribeNodeConfigurationOptions")
+                        .statusCode(403)
+                        .build());
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder()
+                .numberOfNodes(previousModel.getNumberOfNodes() * 4)
+                .build();
+
+        // a region of its own, the shared planner may hold the options of the other resize tests
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new,
+                request(desiredModel, previousModel).toBuilder().region("eu-west-1").build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.lastResize(CLUSTER_IDENTIFIER).classic()).isNull();
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_Throttled_FailsWithServiceError() {
+        redshift.throttle("createCluster", 1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(CreateHandler::new, request(createClusterRequestModel()));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+        assertThat(redshift.cluster(CLUSTER_IDENTIFIER)).isNull();
+    }
+
+    @Test
+    public void update_ClusterBusy_FailsWithInvalidRequest() {
+        redshift.withCluster(availableCluster().toBuilder().clusterStatus("modifying").build());
+        final ResourceModel previousModel = createClusterResponseModel();
+        final ResourceModel desiredModel = previousModel.toBuilder().publiclyAccessible(true).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    }
+
+    private void withRedshiftFamilyParameters() {
+        redshift.withFamilyParameter("redshift-1.0", "statement_timeout", "dynamic")
+                .withFamilyParameter("redshift-1.0", "enable_user_activity_logging", "static");
+    }
+
+    private static Cluster availableCluster() {
+        return responseCluster().toBuilder()
+                .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                        .parameterGroupName(FakeRedshiftClient.DEFAULT_PARAMETER_GROUP)
+                        .parameterApplyStatus(FakeRedshiftClient.PARAMETER_APPLY_STATUS_IN_SYNC)
+                        .build())
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desiredModel) {
+        return request(desiredModel, null);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .region(AWS_REGION)
+                .awsPartition(AWS_PARTITION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * Drives a handler the way CloudFormation does: re-invokes it with the returned callback context
+ * until it stops reporting IN_PROGRESS, and moves the simulated clock forward by every callback delay.
+ *
+ * The proxy hands every wait back as a callback delay instead of waiting inside the invocation, like the
+ * Lambda entry point does, so the clock ends up at the total time the operation would take.
+ */
+class HandlerRunner {
+    private static final int MAX_INVOCATIONS = 1000;
+
+    private final SimulatedClock clock;
+    private final AmazonWebServicesClientProxy proxy;
+    private final ProxyClient<RedshiftClient> proxyClient;
+    private int invocations;
+
+    HandlerRunner(final FakeRedshiftClient client, final SimulatedClock clock) {
+        this.clock = clock;
+        this.proxy = new AmazonWebServicesClientProxy(AbstractTestBase.logger, AbstractTestBase.MOCK_CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+        this.proxyClient = AbstractTestBase.MOCK_PROXY(proxy, client);
+    }
+
+    /**
+     * @param handlerFactory a new handler per invocation, like a fresh Lambda container would have
+     * @param request the request, its desired state is replaced by the model of every progress event
+     * @return the first event that is not IN_PROGRESS, handler exceptions are turned into FAILED events
+     */
+    ProgressEvent<ResourceModel, CallbackContext> run(final Supplier<? extends BaseHandlerStd> handlerFactory,
+                                                      final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext callbackContext = new CallbackContext();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            invocations++;
+            final ProgressEvent<ResourceModel, CallbackContext> event;
+            try {
+                event = handlerFactory.get().handleRequest(proxy, request, callbackContext, proxyClient, AbstractTestBase.logger);
+            } catch (final BaseHandlerException e) {
+                return ProgressEvent.failed(request.getDesiredResourceState(), callbackContext, e.getErrorCode(), e.getMessage());
+            }
+            if (!event.isInProgress()) {
+                return event;
+            }
+            clock.advance(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+            if (event.getCallbackContext() != null) {
+                callbackContext = event.getCallbackContext();
+            }
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        throw new AssertionError(String.format("Handler still in progress after %d invocations", MAX_INVOCATIONS));
+    }
+
+    /**
+     * @return handler invocations across every run of this runner
+     */
+    int invocations() {
+        return invocations;
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InstrumentedProxyClientTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RedshiftClient sdkClient;
+    private ApiCallMetrics metrics;
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        metrics = new ApiCallMetrics();
+        proxyClient = new InstrumentedProxyClient<>(MOCK_PROXY(proxy, sdkClient), metrics, Tracer.disabled());
+    }
+
+    @Test
+    public void publish_CallsErrorsThrottlesAndRetries() throws Exception {
+        final RuntimeException throttling = RedshiftException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .build();
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenAnswer(invocation -> {
+                    // stands in for the SDK reporting two retries of this call
+                    final DescribeClustersRequest request = invocation.getArgument(0);
+                    final MetricCollector collector = MetricCollector.create("ApiCall");
+                    collector.reportMetric(CoreMetric.RETRY_COUNT, 2);
+                    request.overrideConfiguration().get().metricPublishers().forEach(publisher -> publisher.publish(collector.collect()));
+                    return DescribeClustersResponse.builder().build();
+                })
+                .thenThrow(throttling);
+
+        final DescribeClustersRequest request = DescribeClustersRequest.builder().clusterIdentifier(CLUSTER_IDENTIFIER).build();
+        proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeClusters);
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeClusters))
+                .isSameAs(throttling);
+
+        final List<String> lines = new ArrayList<>();
+        metrics.publish(lines::add);
+
+        assertThat(lines).hasSize(2);
+        final JsonNode callLine = MAPPER.readTree(lines.get(0));
+        assertThat(callLine.at("/_aws/CloudWatchMetrics/0/Namespace").asText()).isEqualTo(ApiCallMetrics.NAMESPACE);
+        assertThat(callLine.at("/_aws/CloudWatchMetrics/0/Dimensions/0/1").asText()).isEqualTo("Operation");
+        assertThat(callLine.get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(callLine.get("Operation").asText()).isEqualTo("DescribeClusters");
+        assertThat(callLine.get("Calls").asInt()).isEqualTo(2);
+        assertThat(callLine.get("Latency").size()).isEqualTo(2);
+        assertThat(callLine.get("Errors").asInt()).isEqualTo(1);
+        assertThat(callLine.get("Throttles").asInt()).isEqualTo(1);
+        assertThat(callLine.get("Retries").asInt()).isEqualTo(2);
+        assertThat(callLine.get("LatencyHistogram").size()).isEqualTo(ApiCallMetrics.LATENCY_BUCKETS_MILLIS.length + 1);
+
+        final JsonNode errorLine = MAPPER.readTree(lines.get(1));
+        assertThat(errorLine.at("/_aws/CloudWatchMetrics/0/Dimensions/0/2").asText()).isEqualTo("ErrorCode");
+        assertThat(errorLine.get("ErrorCode").asText()).isEqualTo("Throttling");
+        assertThat(errorLine.get("Errors").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void publish_ResetsAfterEachInvocation() {
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(DescribeClustersResponse.builder().build());
+        proxyClient.injectCredentialsAndInvokeV2(DescribeClustersRequest.builder().build(), proxyClient.client()::describeClusters);
+
+        final List<String> lines = new ArrayList<>();
+        metrics.publish(lines::add);
+        metrics.publish(lines::add);
+
+        assertThat(lines).hasSize(1);
+    }
+
+    @Test
+    public void operationName_DropsRequestSuffix() {
+        assertThat(InstrumentedProxyClient.operationName(DescribeClustersRequest.builder().build())).isEqualTo("DescribeClusters");
+    }
+}
@@ -0,0 +1,64 @@
+package software.amazon.redshift.cluster;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.redshift.cluster.LoggingReconciler.Action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoggingReconcilerTest {
+
+    private static final DescribeLoggingStatusResponse DISABLED = DescribeLoggingStatusResponse.builder()
+            .loggingEnabled(false)
+            .build();
+    private static final DescribeLoggingStatusResponse S3_ENABLED = DescribeLoggingStatusResponse.builder()
+            .loggingEnabled(true)
+            .bucketName("bucket")
+            .s3KeyPrefix("prefix/")
+            .build();
+
+    @Test
+    public void reconcile_NoLoggingWanted() {
+        assertThat(LoggingReconciler.reconcile(null, DISABLED)).isEqualTo(Action.NONE);
+        assertThat(LoggingReconciler.reconcile(null, null)).isEqualTo(Action.NONE);
+        assertThat(LoggingReconciler.reconcile(null, S3_ENABLED)).isEqualTo(Action.DISABLE);
+    }
+
+    @Test
+    public void reconcile_S3_ComparesBucketAndPrefix() {
+        assertThat(LoggingReconciler.reconcile(s3("bucket", "prefix"), S3_ENABLED)).isEqualTo(Action.NONE);
+        assertThat(LoggingReconciler.reconcile(s3("bucket", "prefix/"), S3_ENABLED)).isEqualTo(Action.NONE);
+        assertThat(LoggingReconciler.reconcile(s3("bucket", "other"), S3_ENABLED)).isEqualTo(Action.ENABLE);
+        assertThat(LoggingReconciler.reconcile(s3("other", "prefix"), S3_ENABLED)).isEqualTo(Action.ENABLE);
+        assertThat(LoggingReconciler.reconcile(s3("bucket", "prefix"), DISABLED)).isEqualTo(Action.ENABLE);
+    }
+
+    @Test
+    public void reconcile_CloudWatch_ComparesExportsAsSet() {
+        final DescribeLoggingStatusResponse current = DescribeLoggingStatusResponse.builder()
+                .loggingEnabled(true)
+                .logDestinationType("cloudwatch")
+                .logExports("connectionlog", "userlog")
+                .build();
+
+        assertThat(LoggingReconciler.reconcile(cloudWatch("userlog", "connectionlog"), current)).isEqualTo(Action.NONE);
+        assertThat(LoggingReconciler.reconcile(cloudWatch("userlog"), current)).isEqualTo(Action.ENABLE);
+        assertThat(LoggingReconciler.reconcile(s3("bucket", "prefix"), current)).isEqualTo(Action.ENABLE);
+    }
+
+    private static LoggingProperties s3(final String bucketName, final String s3KeyPrefix) {
+        return LoggingProperties.builder()
+                .bucketName(bucketName)
+                .s3KeyPrefix(s3KeyPrefix)
+                .build();
+    }
+
+    private static LoggingProperties cloudWatch(final String... logExports) {
+        return LoggingProperties.builder()
+                .logDestinationType("cloudwatch")
+                .logExports(Arrays.asList(logExports))
+                .build();
+    }
+}
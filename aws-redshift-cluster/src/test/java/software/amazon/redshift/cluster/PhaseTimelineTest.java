@@ -0,0 +1,86 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.OperationStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PhaseTimelineTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void recordPoll_OnePhaseAcrossPolls() {
+        final PhaseTimeline timeline = new PhaseTimeline();
+
+        timeline.recordPoll("ResizeCluster", START, "resizing", false);
+        timeline.recordPoll("ResizeCluster", START.plus(Duration.ofMinutes(10)), "resizing", false);
+        timeline.recordPoll("ResizeCluster", START.plus(Duration.ofMinutes(20)), "available", true);
+
+        assertThat(timeline.getPhases()).hasSize(1);
+        final PhaseTimeline.Phase phase = timeline.getPhases().get(0);
+        assertThat(phase.getStartedAt()).isEqualTo(START.toEpochMilli());
+        assertThat(phase.getEndedAt()).isEqualTo(START.plus(Duration.ofMinutes(20)).toEpochMilli());
+        assertThat(phase.getPolls()).isEqualTo(3);
+        assertThat(phase.getLastStatus()).isEqualTo("available");
+    }
+
+    @Test
+    public void recordPoll_EndedPhaseStartsOver() {
+        final PhaseTimeline timeline = new PhaseTimeline();
+
+        timeline.recordPoll("RebootCluster", START, "available", true);
+        timeline.recordPoll("RebootCluster", START.plus(Duration.ofMinutes(5)), "rebooting", false);
+
+        assertThat(timeline.getPhases()).hasSize(2);
+        assertThat(timeline.getPhases().get(1).getEndedAt()).isNull();
+    }
+
+    @Test
+    public void recordPoll_NullStatusKeepsLastObserved() {
+        final PhaseTimeline timeline = new PhaseTimeline();
+
+        timeline.recordPoll("Delete", START, "deleting", false);
+        timeline.recordPoll("Delete", START.plus(Duration.ofMinutes(5)), null, true);
+
+        assertThat(timeline.getPhases().get(0).getLastStatus()).isEqualTo("deleting");
+    }
+
+    @Test
+    public void summary_ReportsOpenPhasesUpToNow() throws Exception {
+        final PhaseTimeline timeline = new PhaseTimeline();
+        timeline.recordPoll("UpdateCluster", START, "modifying", false);
+        timeline.recordPoll("UpdateCluster", START.plus(Duration.ofMinutes(30)), "available", true);
+        timeline.recordPoll("RebootCluster", START.plus(Duration.ofMinutes(31)), "rebooting", false);
+
+        final JsonNode summary = MAPPER.readTree(timeline.summary("redshift-cluster-1", OperationStatus.FAILED,
+                START.plus(Duration.ofMinutes(41))));
+
+        assertThat(summary.get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(summary.get("ClusterIdentifier").asText()).isEqualTo("redshift-cluster-1");
+        assertThat(summary.get("Status").asText()).isEqualTo("FAILED");
+        assertThat(summary.get("TotalSeconds").asLong()).isEqualTo(Duration.ofMinutes(41).getSeconds());
+        assertThat(summary.get("Phases").size()).isEqualTo(2);
+        assertThat(summary.at("/Phases/0/Phase").asText()).isEqualTo("UpdateCluster");
+        assertThat(summary.at("/Phases/0/DurationSeconds").asLong()).isEqualTo(Duration.ofMinutes(30).getSeconds());
+        assertThat(summary.at("/Phases/0/Polls").asInt()).isEqualTo(2);
+        assertThat(summary.at("/Phases/1/EndedAt").isNull()).isTrue();
+        assertThat(summary.at("/Phases/1/DurationSeconds").asLong()).isEqualTo(Duration.ofMinutes(10).getSeconds());
+        assertThat(summary.at("/Phases/1/LastStatus").asText()).isEqualTo("rebooting");
+    }
+
+    @Test
+    public void serialization_RoundTrips() throws Exception {
+        final PhaseTimeline timeline = new PhaseTimeline();
+        timeline.recordPoll("createCluster", START, "creating", false);
+
+        final PhaseTimeline restored = MAPPER.readValue(MAPPER.writeValueAsString(timeline), PhaseTimeline.class);
+
+        assertThat(restored).isEqualTo(timeline);
+    }
+}
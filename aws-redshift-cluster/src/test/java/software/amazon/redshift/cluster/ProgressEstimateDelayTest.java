@@ -0,0 +1,67 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.RestoreStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProgressEstimateDelayTest {
+
+    private final AdaptiveDelay fallback = AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(10L))
+            .baseDelay(Duration.ofSeconds(10L))
+            .maxDelay(Duration.ofSeconds(60L))
+            .jitterRatio(0)
+            .build();
+    private final RestoreProgress progress = new RestoreProgress();
+    private final ProgressEstimateDelay delay = new ProgressEstimateDelay(progress, fallback);
+
+    @Test
+    public void nextDelay_HalfOfTheEstimateWithinBounds() {
+        progress.record(restoring(3600L), Instant.now());
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofMinutes(10L));
+
+        progress.record(restoring(600L), Instant.now());
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMinutes(5L));
+
+        progress.record(restoring(20L), Instant.now());
+        assertThat(delay.nextDelay(2)).isEqualTo(ProgressEstimateDelay.MIN_DELAY);
+    }
+
+    @Test
+    public void nextDelay_EstimatesFromRateWithoutServiceEstimate() {
+        progress.record(RestoreStatus.builder()
+                .status("restoring")
+                .snapshotSizeInMegaBytes(100_000L)
+                .progressInMegaBytes(40_000L)
+                .currentRestoreRateInMegaBytesPerSecond(100.0)
+                .build(), Instant.now());
+
+        // 60 000 MB left at 100 MB/s
+        assertThat(progress.estimatedTimeToCompletion()).isEqualTo(Duration.ofSeconds(600L));
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofMinutes(5L));
+    }
+
+    @Test
+    public void nextDelay_WithoutEstimate_FallbackStartsAfterEstimatedPolls() {
+        progress.record(restoring(7200L), Instant.now());
+        progress.record(restoring(3600L), Instant.now());
+        progress.record(RestoreStatus.builder().status("completed").build(), Instant.now());
+
+        assertThat(progress.getPolls()).isEqualTo(3);
+        assertThat(progress.getPollsWithEstimate()).isEqualTo(2);
+        // third poll overall, first one on the fallback schedule
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(10L));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(20L));
+    }
+
+    private static RestoreStatus restoring(final long estimatedTimeToCompletionInSeconds) {
+        return RestoreStatus.builder()
+                .status("restoring")
+                .estimatedTimeToCompletionInSeconds(estimatedTimeToCompletionInSeconds)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshift.RedshiftAsyncClient;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadHandlerAsyncTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @Mock
+    private ProxyClient<RedshiftAsyncClient> asyncProxyClient;
+
+    @Mock
+    RedshiftClient sdkClient;
+
+    @Mock
+    RedshiftAsyncClient sdkAsyncClient;
+
+    private ReadHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        sdkAsyncClient = mock(RedshiftAsyncClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        asyncProxyClient = MOCK_ASYNC_PROXY(proxy, sdkAsyncClient);
+        handler = new ReadHandler(asyncProxyClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        // the parallel read never falls back to the sync client
+        verifyZeroInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_ParallelRead_SimpleSuccess() {
+        final ResourceModel model = createClusterResponseModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(sdkAsyncClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeClustersResponseSdk()));
+        when(sdkAsyncClient.describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeLoggingStatusFalseResponseSdk()));
+        when(sdkAsyncClient.getResourcePolicy(any(GetResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(getEmptyResourcePolicyResponseSdk()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        response.getResourceModel().setLoggingProperties(LOGGING_PROPERTIES_DISABLED);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+
+        // DescribeClusters doubles as the existence check
+        verify(sdkAsyncClient, times(1)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParallelRead_UnauthorizedLoggingAndPolicyTolerated() {
+        final ResourceModel model = ResourceModel.builder()
+                .clusterIdentifier(CLUSTER_IDENTIFIER)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CompletableFuture<DescribeLoggingStatusResponse> unauthorizedLogging = new CompletableFuture<>();
+        unauthorizedLogging.completeExceptionally(RedshiftException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("403")
+                        .errorMessage("User is not authorized to perform: redshift:DescribeLoggingStatus")
+                        .build())
+                .build());
+        final CompletableFuture<GetResourcePolicyResponse> unauthorizedPolicy = new CompletableFuture<>();
+        unauthorizedPolicy.completeExceptionally(RedshiftException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("403")
+                        .errorMessage("User is not authorized to perform: redshift:GetResourcePolicy")
+                        .build())
+                .build());
+
+        when(sdkAsyncClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeClustersResponseSdk()));
+        when(sdkAsyncClient.describeLoggingStatus(any(DescribeLoggingStatusRequest.class))).thenReturn(unauthorizedLogging);
+        when(sdkAsyncClient.getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(unauthorizedPolicy);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getClusterNamespaceArn()).isEqualTo(CLUSTER_NAMESPACE_ARN);
+        assertThat(response.getResourceModel().getLoggingProperties()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ParallelRead_ClusterNotFound() {
+        final ResourceModel model = createClusterResponseModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CompletableFuture<DescribeClustersResponse> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(ClusterNotFoundException.builder().build());
+        final CompletableFuture<DescribeLoggingStatusResponse> loggingNotFound = new CompletableFuture<>();
+        loggingNotFound.completeExceptionally(ClusterNotFoundException.builder().build());
+
+        when(sdkAsyncClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(notFound);
+        when(sdkAsyncClient.describeLoggingStatus(any(DescribeLoggingStatusRequest.class))).thenReturn(loggingNotFound);
+        when(sdkAsyncClient.getResourcePolicy(any(GetResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(getEmptyResourcePolicyResponseSdk()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+}
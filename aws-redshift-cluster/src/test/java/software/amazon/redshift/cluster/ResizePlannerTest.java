@@ -0,0 +1,118 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResizePlannerTest extends AbstractTestBase {
+
+    private static final ResourceModel PREVIOUS = ResourceModel.builder()
+            .clusterIdentifier(CLUSTER_IDENTIFIER)
+            .clusterType("multi-node")
+            .nodeType(NODETYPE)
+            .numberOfNodes(NUMBER_OF_NODES)
+            .build();
+
+    private SimulatedClock clock;
+    private FakeRedshiftClient redshift;
+    private ProxyClient<RedshiftClient> proxyClient;
+    private ResizePlanner planner;
+
+    @BeforeEach
+    public void setup() {
+        clock = new SimulatedClock();
+        redshift = new FakeRedshiftClient(clock).withCluster(responseCluster());
+        proxyClient = MOCK_PROXY(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()), redshift);
+        planner = new ResizePlanner(clock);
+    }
+
+    @Test
+    public void decide_ClassicFromTheModelWins() {
+        assertThat(ResizePlanner.decide(PREVIOUS, nodes(4).toBuilder().classic(true).build(), elasticTargets(4)).getType())
+                .isEqualTo(ResizePlanner.ResizeType.CLASSIC);
+        assertThat(ResizePlanner.decide(PREVIOUS, nodes(16).toBuilder().classic(false).build(), elasticTargets(4)).getType())
+                .isEqualTo(ResizePlanner.ResizeType.ELASTIC);
+    }
+
+    @Test
+    public void decide_FromElasticResizeOptions() {
+        assertThat(ResizePlanner.decide(PREVIOUS, nodes(3), elasticTargets(3, 4)).getType())
+                .isEqualTo(ResizePlanner.ResizeType.ELASTIC);
+        assertThat(ResizePlanner.decide(PREVIOUS, nodes(8), elasticTargets(3, 4)).getType())
+                .isEqualTo(ResizePlanner.ResizeType.CLASSIC);
+        // a node type change the options allow
+        assertThat(ResizePlanner.decide(PREVIOUS, nodes(4).toBuilder().nodeType("ra3.xlplus").build(),
+                Collections.singleton(ResizePlanner.target("ra3.xlplus", 4))).getType())
+                .isEqualTo(ResizePlanner.ResizeType.ELASTIC);
+    }
+
+    @Test
+    public void decide_WithoutOptions_ClassicLeftOut() {
+        final ResizePlanner.Decision decision = ResizePlanner.decide(PREVIOUS, nodes(5), null);
+
+        assertThat(decision.getType()).isEqualTo(ResizePlanner.ResizeType.UNSPECIFIED);
+        assertThat(decision.getType().getClassic()).isNull();
+        assertThat(Translator.translateToResizeClusterRequest(nodes(5), decision.getType().getClassic()).classic()).isNull();
+    }
+
+    @Test
+    public void plan_OptionsCachedPerRegionAndCluster() {
+        assertThat(planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(4), logger).getType())
+                .isEqualTo(ResizePlanner.ResizeType.ELASTIC);
+        assertThat(planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(3), logger).getType())
+                .isEqualTo(ResizePlanner.ResizeType.ELASTIC);
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(1);
+
+        planner.plan(proxyClient, "eu-west-1", PREVIOUS, nodes(4), logger);
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(2);
+
+        clock.advance(ResizePlanner.OPTIONS_TTL);
+        planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(4), logger);
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(3);
+    }
+
+    @Test
+    public void plan_NoOptionsCallWhenClassicIsSet() {
+        planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(4).toBuilder().classic(true).build(), logger);
+
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isZero();
+    }
+
+    @Test
+    public void plan_OptionsUnavailable_ClassicLeftOutWithoutCaching() {
+        redshift.failNext("describeNodeConfigurationOptions", (RedshiftException) RedshiftException.builder()
+                .message("User is not authorized to perform: redshift:DescribeNodeConfigurationOptions")
+                .statusCode(403)
+                .build());
+
+        // outside the elastic resize options, still not classic while they are unknown
+        assertThat(planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(8), logger).getType())
+                .isEqualTo(ResizePlanner.ResizeType.UNSPECIFIED);
+
+        assertThat(planner.plan(proxyClient, AWS_REGION, PREVIOUS, nodes(8), logger).getType())
+                .isEqualTo(ResizePlanner.ResizeType.CLASSIC);
+        assertThat(redshift.callCount("describeNodeConfigurationOptions")).isEqualTo(2);
+    }
+
+    private static ResourceModel nodes(final int numberOfNodes) {
+        return PREVIOUS.toBuilder().numberOfNodes(numberOfNodes).build();
+    }
+
+    private static Set<String> elasticTargets(final int... numberOfNodes) {
+        final Set<String> targets = new HashSet<>();
+        for (int nodes : numberOfNodes) {
+            targets.add(ResizePlanner.target(NODETYPE, nodes));
+        }
+        return targets;
+    }
+}
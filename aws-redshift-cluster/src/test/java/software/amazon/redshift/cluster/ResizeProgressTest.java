@@ -0,0 +1,81 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResizeProgressTest {
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .clusterIdentifier("redshift-cluster-1")
+            .nodeType("ra3.4xlarge")
+            .numberOfNodes(4)
+            .build();
+
+    private final ResizeProgress progress = new ResizeProgress();
+
+    @Test
+    public void isResizeTowards_OnlyTheResizeToTheModel() {
+        assertThat(ResizeProgress.isResizeTowards(resize("IN_PROGRESS", "ra3.4xlarge", 4).build(), MODEL)).isTrue();
+        // an earlier resize, still reported until the new one shows up
+        assertThat(ResizeProgress.isResizeTowards(resize("SUCCEEDED", "ra3.4xlarge", 2).build(), MODEL)).isFalse();
+        assertThat(ResizeProgress.isResizeTowards(resize("SUCCEEDED", "dc2.large", 4).build(), MODEL)).isFalse();
+        assertThat(ResizeProgress.isResizeTowards(null, MODEL)).isFalse();
+    }
+
+    @Test
+    public void estimate_FromServiceEstimateOrTransferRate() {
+        progress.record(resize("IN_PROGRESS", "ra3.4xlarge", 4).estimatedTimeToCompletionInSeconds(3600L).build(), Instant.now());
+        assertThat(progress.estimatedTimeToCompletion()).isEqualTo(Duration.ofHours(1L));
+
+        progress.record(resize("IN_PROGRESS", "ra3.4xlarge", 4)
+                .totalResizeDataInMegaBytes(100_000L)
+                .progressInMegaBytes(40_000L)
+                .avgResizeRateInMegaBytesPerSecond(100.0)
+                .build(), Instant.now());
+        // 60 000 MB left at 100 MB/s
+        assertThat(progress.estimatedTimeToCompletion()).isEqualTo(Duration.ofSeconds(600L));
+        assertThat(progress.getPollsWithEstimate()).isEqualTo(2);
+        assertThat(progress.isInProgress()).isTrue();
+    }
+
+    @Test
+    public void record_FailedOrDoneResize_NoEstimate() {
+        progress.record(resize("IN_PROGRESS", "ra3.4xlarge", 4).build(), Instant.now());
+        progress.record(resize("FAILED", "ra3.4xlarge", 4).estimatedTimeToCompletionInSeconds(0L).message("Resize failed").build(), Instant.now());
+        assertThat(progress.isFailed()).isTrue();
+        assertThat(progress.estimatedTimeToCompletion()).isNull();
+        assertThat(progress.summary(MODEL.getClusterIdentifier())).contains("FAILED").contains("Resize failed");
+
+        progress.record(null, Instant.now());
+        assertThat(progress.isFailed()).isFalse();
+        assertThat(progress.isInProgress()).isFalse();
+        assertThat(progress.getPolls()).isEqualTo(3);
+        assertThat(progress.getPollsWithEstimate()).isZero();
+    }
+
+    @Test
+    public void record_FailedBeforeSeenInProgress_EarlierResize() {
+        // an earlier attempt at the same target, reported until the retried resize shows up
+        progress.record(resize("FAILED", "ra3.4xlarge", 4).message("Resize failed").build(), Instant.now());
+        assertThat(progress.isFailed()).isFalse();
+        assertThat(progress.isInProgress()).isFalse();
+
+        progress.record(resize("IN_PROGRESS", "ra3.4xlarge", 4).build(), Instant.now());
+        progress.record(resize("FAILED", "ra3.4xlarge", 4).message("Resize failed").build(), Instant.now());
+        assertThat(progress.isSeenInProgress()).isTrue();
+        assertThat(progress.isFailed()).isTrue();
+    }
+
+    private static DescribeResizeResponse.Builder resize(final String status, final String targetNodeType,
+                                                         final int targetNumberOfNodes) {
+        return DescribeResizeResponse.builder()
+                .status(status)
+                .targetNodeType(targetNodeType)
+                .targetNumberOfNodes(targetNumberOfNodes);
+    }
+}
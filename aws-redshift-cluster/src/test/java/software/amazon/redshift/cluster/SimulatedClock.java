@@ -0,0 +1,48 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves when told to. The handler runner advances it by every callback delay,
+ * so the fake service sees the same elapsed time CloudFormation would have waited.
+ */
+class SimulatedClock extends Clock {
+    private final Instant start;
+    private Instant now;
+
+    SimulatedClock() {
+        this(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    SimulatedClock(final Instant start) {
+        this.start = start;
+        this.now = start;
+    }
+
+    void advance(final Duration duration) {
+        now = now.plus(duration);
+    }
+
+    Duration elapsed() {
+        return Duration.between(start, now);
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        throw new UnsupportedOperationException("SimulatedClock is always UTC");
+    }
+}
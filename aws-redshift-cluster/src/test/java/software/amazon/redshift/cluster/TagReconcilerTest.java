@@ -0,0 +1,55 @@
+package software.amazon.redshift.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagReconcilerTest {
+
+    @Test
+    public void reconcile_ComparesByKey() {
+        final Map<String, String> current = new HashMap<>();
+        current.put("unchanged", "value");
+        current.put("changed", "old");
+        current.put("removed", "value");
+        current.put("aws:cloudformation:stack-name", "stack");
+        final Map<String, String> desired = new HashMap<>();
+        desired.put("unchanged", "value");
+        desired.put("changed", "new");
+        desired.put("added", "value");
+
+        final TagReconciler tags = TagReconciler.reconcile(current, desired);
+
+        assertThat(tags.hasChanges()).isTrue();
+        assertThat(tags.getTagsToAdd().keySet()).containsExactlyInAnyOrder("changed", "added");
+        assertThat(tags.getTagsToAdd().get("changed")).isEqualTo("new");
+        assertThat(tags.getTagKeysToRemove()).containsExactly("removed");
+    }
+
+    @Test
+    public void reconcile_NullsAreEmpty() {
+        assertThat(TagReconciler.reconcile(null, null).hasChanges()).isFalse();
+        assertThat(TagReconciler.reconcile(null, TagReconciler.effectiveTags(null, null, null)).hasChanges()).isFalse();
+    }
+
+    @Test
+    public void effectiveTags_ResourceTagsWin() {
+        final Map<String, String> system = new HashMap<>();
+        system.put("aws:cloudformation:stack-name", "stack");
+        final Map<String, String> stack = new HashMap<>();
+        stack.put("team", "stack");
+        stack.put("env", "stack");
+        final Map<String, String> resource = new HashMap<>();
+        resource.put("team", "resource");
+
+        final Map<String, String> tags = TagReconciler.effectiveTags(system, stack, resource);
+
+        assertThat(tags).hasSize(3);
+        assertThat(tags.get("team")).isEqualTo("resource");
+        assertThat(tags.get("env")).isEqualTo("stack");
+        assertThat(tags.get("aws:cloudformation:stack-name")).isEqualTo("stack");
+    }
+}
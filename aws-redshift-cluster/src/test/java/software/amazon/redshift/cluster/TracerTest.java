@@ -0,0 +1,70 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TracerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void spans_ApiCallsNestUnderCurrentSpan() throws Exception {
+        final List<String> lines = new ArrayList<>();
+        final Tracer tracer = new Tracer(Tracer.traceId("token"), lines::add);
+        final RedshiftClient sdkClient = mock(RedshiftClient.class);
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(DescribeClustersResponse.builder().build());
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<RedshiftClient> proxyClient = new InstrumentedProxyClient<>(MOCK_PROXY(proxy, sdkClient), new ApiCallMetrics(), tracer);
+
+        final Tracer.Span invocation = tracer.startInvocationSpan(ResourceHandlerRequest.<ResourceModel>builder()
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .build(), "UpdateHandler");
+        final Tracer.Span poll = tracer.startSpan("ResizeCluster stabilize").attribute("cfn.call_graph", "ResizeCluster").makeCurrent();
+        proxyClient.injectCredentialsAndInvokeV2(DescribeClustersRequest.builder().build(), proxyClient.client()::describeClusters);
+        poll.end();
+        invocation.end();
+
+        assertThat(lines).hasSize(3);
+        final JsonNode apiCall = MAPPER.readTree(lines.get(0));
+        final JsonNode pollSpan = MAPPER.readTree(lines.get(1));
+        final JsonNode invocationSpan = MAPPER.readTree(lines.get(2));
+        assertThat(apiCall.get("name").asText()).isEqualTo("Redshift.DescribeClusters");
+        assertThat(apiCall.at("/attributes/rpc.method").asText()).isEqualTo("DescribeClusters");
+        assertThat(apiCall.get("parentSpanId").asText()).isEqualTo(pollSpan.get("spanId").asText());
+        assertThat(pollSpan.get("parentSpanId").asText()).isEqualTo(invocationSpan.get("spanId").asText());
+        assertThat(invocationSpan.get("parentSpanId").isNull()).isTrue();
+        assertThat(invocationSpan.at("/attributes/aws.cfn.handler").asText()).isEqualTo("UpdateHandler");
+        assertThat(invocationSpan.at("/status/code").asText()).isEqualTo("OK");
+        assertThat(apiCall.get("traceId").asText()).isEqualTo(invocationSpan.get("traceId").asText());
+    }
+
+    @Test
+    public void traceId_StableForClientRequestToken() {
+        assertThat(Tracer.traceId("token")).isEqualTo(Tracer.traceId("token")).hasSize(32);
+        assertThat(Tracer.traceId("token")).isNotEqualTo(Tracer.traceId("other-token"));
+    }
+
+    @Test
+    public void disabled_ExportsNothing() {
+        final Tracer.Span span = Tracer.disabled().startSpan("span").attribute("key", "value").makeCurrent();
+        span.error(new IllegalStateException()).end();
+
+        assertThat(Tracer.disabled().isEnabled()).isFalse();
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
 import software.amazon.awssdk.services.redshift.model.ClusterIamRole;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
@@ -22,6 +23,8 @@ import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeResizeResponse;
 import software.amazon.awssdk.services.redshift.model.DisableLoggingRequest;
 import software.amazon.awssdk.services.redshift.model.DisableLoggingResponse;
 import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
@@ -37,11 +40,14 @@ import software.amazon.awssdk.services.redshift.model.PutResourcePolicyResponse;
 import software.amazon.awssdk.services.redshift.model.ResizeClusterRequest;
 import software.amazon.awssdk.services.redshift.model.ResizeClusterResponse;
 import software.amazon.awssdk.services.redshift.model.ResourcePolicy;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,13 +56,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshift.cluster.TestUtils.BASIC_CLUSTER;
@@ -87,7 +95,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(RedshiftClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        lenient().doNothing().when(handler).sleep(anyInt());
     }
 
     @AfterEach
@@ -406,6 +413,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().enableLogging(any(EnableLoggingRequest.class)))
                 .thenReturn(EnableLoggingResponse.builder().loggingEnabled(true).bucketName(BUCKET_NAME).s3KeyPrefix("test/").build());
 
+        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
+                .thenReturn(describeLoggingStatusFalseResponseSdk())
+                .thenReturn(DescribeLoggingStatusResponse.builder()
+                        .loggingEnabled(true)
+                        .logDestinationType(LOG_DESTINATION_TYPE_CW)
+                        .logExports(LOG_EXPORTS_TYPES)
+                        .build());
+
         when(proxyClient.client().resizeCluster(any(ResizeClusterRequest.class)))
                 .thenReturn(ResizeClusterResponse.builder()
                         .cluster(modifiedCluster_tagAdded_iamRoleAdded_loggingEnabled_NodeTypeModify)
@@ -441,8 +456,100 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testResize_FailedAfterInProgress_FailsWithoutWaitingForCluster() {
+        scheduleWaitsAsCallbacks();
+
+        ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .numberOfNodes(NUMBER_OF_NODES * 2)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER)
+                        .build());
+
+        when(proxyClient.client().resizeCluster(any(ResizeClusterRequest.class)))
+                .thenReturn(ResizeClusterResponse.builder()
+                        .cluster(BASIC_CLUSTER.toBuilder().clusterStatus("resizing").build())
+                        .build());
+
+        when(proxyClient.client().describeResize(any(DescribeResizeRequest.class)))
+                .thenReturn(DescribeResizeResponse.builder()
+                        .status("IN_PROGRESS")
+                        .targetNodeType(updateModel.getNodeType())
+                        .targetNumberOfNodes(updateModel.getNumberOfNodes())
+                        .build())
+                .thenReturn(DescribeResizeResponse.builder()
+                        .status("FAILED")
+                        .targetNodeType(updateModel.getNodeType())
+                        .targetNumberOfNodes(updateModel.getNumberOfNodes())
+                        .message("Resize failed")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getResizeProgress().isSeenInProgress()).isTrue();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnNotStabilizedException.class);
+
+        // the existence check of each invocation only, the failure is read from DescribeResize
+        verify(proxyClient.client(), times(2)).describeClusters(any(DescribeClustersRequest.class));
+        verify(proxyClient.client()).resizeCluster(any(ResizeClusterRequest.class));
+    }
+
+    @Test
+    public void testResize_EarlierFailedResizeToSameTarget_Ignored() {
+        ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .numberOfNodes(NUMBER_OF_NODES * 2)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER)
+                        .build());
+
+        when(proxyClient.client().resizeCluster(any(ResizeClusterRequest.class)))
+                .thenReturn(ResizeClusterResponse.builder()
+                        .cluster(BASIC_CLUSTER.toBuilder().clusterStatus("resizing").build())
+                        .build());
+
+        // left over from an attempt at the same target that failed, the retried resize is never reported
+        when(proxyClient.client().describeResize(any(DescribeResizeRequest.class)))
+                .thenReturn(DescribeResizeResponse.builder()
+                        .status("FAILED")
+                        .targetNodeType(updateModel.getNodeType())
+                        .targetNumberOfNodes(updateModel.getNumberOfNodes())
+                        .message("Resize failed")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackContext().getCallBackAfterResize()).isTrue();
+        assertThat(response.getCallbackContext().getResizeProgress().isFailed()).isFalse();
+    }
+
     @Test
     public void testModifyMasterUserPasswordAndPubliclyAccessible() {
+        scheduleWaitsAsCallbacks();
         ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
 
         ResourceModel updateModel = BASIC_MODEL.toBuilder()
@@ -477,6 +584,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -487,9 +601,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         verify(proxyClient.client()).modifyCluster(any(ModifyClusterRequest.class));
 
-        // todo: make tests more independent so we can add tests like this elsewhere
-        verify(handler).sleep(10);
-
         List<String> sensitiveAttributes = Arrays
                 .stream(UpdateHandler.DetectableModifyClusterAttribute.values())
                 .filter(e -> e.isSensitiveField()) // Filter enums with true booleanValue
@@ -532,8 +643,60 @@ public class UpdateHandlerTest extends AbstractTestBase {
         }
     }
 
+    @Test
+    public void testModifyClusterParameterGroupName_WaitsBeforeFirstRead() {
+        scheduleWaitsAsCallbacks();
+        ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .clusterParameterGroupName("custom-parameter-group")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        Cluster modifiedCluster = BASIC_CLUSTER.toBuilder()
+                .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                        .parameterGroupName("custom-parameter-group")
+                        .parameterApplyStatus("pending-reboot")
+                        .build())
+                .build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER)
+                        .build())
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(modifiedCluster)
+                        .build());
+
+        when(proxyClient.client().modifyCluster(any(ModifyClusterRequest.class)))
+                .thenReturn(ModifyClusterResponse.builder()
+                        .cluster(modifiedCluster)
+                        .build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        // one read after the wait finds the group pending reboot, the modify isn't issued again
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackContext().getRebootRequestedBy()).contains("ModifyClusterParameterGroupName");
+        verify(proxyClient.client()).modifyCluster(any(ModifyClusterRequest.class));
+        verify(proxyClient.client(), times(2)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
     @Test
     public void testModifyEncrypted_EnableMultiAZ() {
+        scheduleWaitsAsCallbacks();
         ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
 
         ResourceModel updateModel = BASIC_MODEL.toBuilder()
@@ -569,6 +732,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -578,13 +748,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         verify(proxyClient.client()).modifyCluster(any(ModifyClusterRequest.class));
-
-        // todo: make tests more independent so we can add tests like this elsewhere
-        verify(handler).sleep(10);
     }
 
     @Test
     public void testModify_OptInManagedMasterPassword() {
+        scheduleWaitsAsCallbacks();
         ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
 
         ResourceModel updateModel = BASIC_MODEL.toBuilder()
@@ -619,6 +787,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -640,6 +815,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @Test
     public void testModify_OptOutManagedMasterPassword() {
+        scheduleWaitsAsCallbacks();
         ResourceModel previousModel = BASIC_MODEL.toBuilder()
                 .masterUserPassword(null)
                 .manageMasterPassword(true)
@@ -675,6 +851,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -692,6 +875,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @Test
     public void testModify_UpdateMasterPasswordSecretKmsKeyId() {
+        scheduleWaitsAsCallbacks();
         ResourceModel previousModel = BASIC_MODEL.toBuilder()
                 .manageMasterPassword(true)
                 .masterPasswordSecretKmsKeyId(MASTER_PASSWORD_SECRET_KMS_KEY_ID)
@@ -730,6 +914,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -788,6 +979,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             Object beforeValue,
             Object afterValue
     ) throws Exception {
+        scheduleWaitsAsCallbacks();
         if (modifyClusterAttribute.equals("ClusterSecurityGroups")) {
             return;
         }
@@ -842,6 +1034,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertModifyClusterWasLastCall();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
@@ -928,4 +1127,21 @@ public class UpdateHandlerTest extends AbstractTestBase {
             assertThat(Objects.equals(captor.getValue().maintenanceTrackName(), expectedModifyTrackName));
         }
     }
+
+    // hand every wait back as a callback, like the service does between invocations
+    private void scheduleWaitsAsCallbacks() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                WaitStrategy.scheduleForCallbackStrategy());
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    // the cluster isn't read right after ModifyCluster, it would still be available: the invocation ends on the call
+    private void assertModifyClusterWasLastCall() {
+        final List<String> calls = mockingDetails(sdkClient).getInvocations().stream()
+                .map(invocation -> invocation.getMethod().getName())
+                .filter(name -> !"serviceName".equals(name))
+                .collect(Collectors.toList());
+        assertThat(calls).isNotEmpty();
+        assertThat(calls.get(calls.size() - 1)).isEqualTo("modifyCluster");
+    }
 }
@@ -0,0 +1,80 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Diff of a parameter group update, several hundred parameters on each side, a tenth of them changed, and WLM
+ * documents of a few dozen queues that only differ in formatting and key order between the two sides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterDiffBenchmark {
+
+    private static final int WLM_QUEUES = 40;
+
+    @Param({"100", "500"})
+    private int parameters;
+
+    private List<Parameter> desiredParameters;
+    private List<Parameter> currentParameters;
+
+    @Setup
+    public void setup() {
+        desiredParameters = new ArrayList<>();
+        currentParameters = new ArrayList<>();
+        for (int i = 0; i < parameters; i++) {
+            desiredParameters.add(parameter("Parameter_" + i, "value-" + (i % 10 == 0 ? "changed-" : "") + i));
+            currentParameters.add(parameter("parameter_" + i, "value-" + i));
+        }
+        desiredParameters.add(parameter("wlm_json_configuration", wlmConfiguration(false)));
+        currentParameters.add(parameter("wlm_json_configuration", wlmConfiguration(true)));
+    }
+
+    @Benchmark
+    public ParameterDiff between() {
+        return ParameterDiff.between(desiredParameters, currentParameters);
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return Parameter.builder().parameterName(name).parameterValue(value).build();
+    }
+
+    private static String wlmConfiguration(final boolean reformatted) {
+        final StringBuilder wlm = new StringBuilder("[");
+        for (int queue = 0; queue < WLM_QUEUES; queue++) {
+            if (queue > 0) {
+                wlm.append(reformatted ? ", " : ",");
+            }
+            final String userGroups = "[\"etl_" + queue + "\",\"reporting_" + queue + "\",\"adhoc_" + queue + "\"]";
+            final String queryGroup = "\"query_group_" + queue + "\"";
+            if (reformatted) {
+                wlm.append("{ \"query_concurrency\": 5, \"query_group\": ").append(queryGroup)
+                        .append(", \"user_group\": ").append(userGroups)
+                        .append(", \"memory_percent_to_use\": 2, \"max_execution_time\": 60000 }");
+            } else {
+                wlm.append("{\"user_group\":").append(userGroups)
+                        .append(",\"query_group\":").append(queryGroup)
+                        .append(",\"query_concurrency\":5,\"max_execution_time\":60000,\"memory_percent_to_use\":2}");
+            }
+        }
+        return wlm.append("]").toString();
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
+
+/**
+ * Translator paths the parameter group handlers run on every read and update. The describe response is the
+ * size of a full redshift-1.0 family (every parameter, a handful of them set by the user).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int PARAMETERS = 300;
+    private static final int USER_PARAMETERS = 20;
+
+    private DescribeClusterParametersResponse describeClusterParametersResponse;
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        final List<software.amazon.awssdk.services.redshift.model.Parameter> sdkParameters = new ArrayList<>();
+        final List<Parameter> parameters = new ArrayList<>();
+        for (int i = 0; i < PARAMETERS; i++) {
+            final boolean user = i % (PARAMETERS / USER_PARAMETERS) == 0;
+            sdkParameters.add(software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                    .parameterName("parameter_" + i)
+                    .parameterValue("value-" + i)
+                    .description("Description of parameter_" + i)
+                    .source(user ? "user" : "engine-default")
+                    .dataType("string")
+                    .applyType(i % 2 == 0 ? "static" : "dynamic")
+                    .isModifiable(true)
+                    .build());
+            if (user) {
+                parameters.add(Parameter.builder().parameterName("parameter_" + i).parameterValue("value-" + i).build());
+            }
+        }
+        describeClusterParametersResponse = DescribeClusterParametersResponse.builder()
+                .parameters(sdkParameters)
+                .build();
+        model = ResourceModel.builder()
+                .parameterGroupName("logicalid-kvw2fztz3cvh")
+                .parameterGroupFamily("redshift-1.0")
+                .description("description")
+                .parameters(parameters)
+                .build();
+    }
+
+    @Benchmark
+    public List<Parameter> translateFromReadParametersPage() {
+        return Translator.translateFromReadParametersPage(describeClusterParametersResponse);
+    }
+
+    @Benchmark
+    public ModifyClusterParameterGroupRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.redshift.clusterparametergroup;
 
 import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -8,6 +9,8 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
@@ -15,11 +18,15 @@ import software.amazon.awssdk.services.redshift.model.InvalidTagException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.ResourceNotFoundException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected Logger logger;
     protected static final String CALL_GRAPH_TYPE_NAME = StringUtils.replace(ResourceModel.TYPE_NAME, "::", "-");
+    protected static final int THROTTLED_CALLBACK_DELAY_SECONDS = 30;
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,13 +34,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
+        final Tracer tracer = Tracer.fromEnvironment(request, logger);
+        final Tracer.Span invocationSpan = tracer.startInvocationSpan(request, getClass().getSimpleName());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), apiCallMetrics, tracer),
+                    logger
+            );
+            invocationSpan.attribute("aws.cfn.operation_status", String.valueOf(progress.getStatus()));
+            return progress;
+        } catch (final RuntimeException e) {
+            invocationSpan.error(e);
+            throw e;
+        } finally {
+            invocationSpan.end();
+            apiCallMetrics.publish(logger);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -43,6 +63,62 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger);
 
+    /*
+    walks every page of the (source=user) DescribeClusterParameters request through the paginator. Each page is
+    translated into model parameters as it arrives and then dropped, only names and values are held, never all the
+    SDK pages at once. The result is a model holding nothing but the parameters, it is what the call graph keeps in
+    the callback context
+     */
+    protected ResourceModel describeAllClusterParameters(final DescribeClusterParametersRequest awsRequest,
+                                                         final ProxyClient<RedshiftClient> proxyClient) {
+        final List<Parameter> parameters = new ArrayList<>();
+        for (DescribeClusterParametersResponse page : proxyClient.injectCredentialsAndInvokeIterableV2(
+                awsRequest, proxyClient.client()::describeClusterParametersPaginator)) {
+            parameters.addAll(Translator.translateFromReadParametersPage(page));
+        }
+        return ResourceModel.builder()
+                .parameters(parameters)
+                .build();
+    }
+
+    /*
+    checks the desired parameters against the family metadata before any mutating call. The metadata comes from
+    DescribeDefaultClusterParameters, when it can't be read the parameters go to the service unchecked, the way
+    they always did
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> validateParameters(final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                               final ProxyClient<RedshiftClient> proxyClient) {
+        final ResourceModel model = progress.getResourceModel();
+        if (model.getParameters() == null || model.getParameters().isEmpty() || model.getParameterGroupFamily() == null) {
+            return progress;
+        }
+        final ParameterMetadata metadata;
+        try {
+            metadata = ParameterMetadata.forFamily(model.getParameterGroupFamily(), proxyClient);
+        } catch (final RuntimeException e) {
+            logger.log(String.format("Parameters of %s not validated, family metadata unavailable: %s", model.getParameterGroupName(), e.getMessage()));
+            return progress;
+        }
+        if (metadata.isEmpty()) {
+            return progress;
+        }
+        final List<String> unknown = ParameterValidator.unknownParameters(model.getParameters(), metadata);
+        if (!unknown.isEmpty()) {
+            logger.log(String.format("Parameters %s of %s are not in the %s defaults, left to the service to check",
+                    unknown, model.getParameterGroupName(), metadata.getFamily()));
+        }
+        final List<String> errors = ParameterValidator.validate(model.getParameters(), metadata);
+        if (!errors.isEmpty()) {
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest,
+                    String.format("Invalid parameters: %s", String.join("; ", errors)));
+        }
+        return progress;
+    }
+
+    protected boolean isThrottled(final Exception exception) {
+        return exception instanceof AwsServiceException && ((AwsServiceException) exception).isThrottlingException();
+    }
+
     protected DescribeTagsResponse readTags(final DescribeTagsRequest awsRequest,
                                           final ProxyClient<RedshiftClient> proxyClient) {
         DescribeTagsResponse awsResponse;
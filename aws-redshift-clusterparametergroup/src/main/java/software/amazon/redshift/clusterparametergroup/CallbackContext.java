@@ -2,6 +2,8 @@ package software.amazon.redshift.clusterparametergroup;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.List;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,4 +12,6 @@ public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
     private String marker;
     private boolean clusterStabilized;
+    private List<ParameterBatch> parameterBatches;
+    private int parameterBatchesApplied;
 }
@@ -57,6 +57,7 @@ public class CreateHandler extends BaseHandlerStd {
         mergedTags.putAll(Optional.ofNullable(convertedTags).orElse(Collections.emptyMap()));
 
         return ProgressEvent.progress(resourceModel, callbackContext)
+                .then(progress -> validateParameters(progress, proxyClient))
                 .then(progress -> proxy.initiate(String.format("%s::Create", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, mergedTags))
                         .makeServiceCall(this::createClusterParameterGroup)
@@ -0,0 +1,61 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_TO_BE_RESET;
+
+/**
+ * One API sized slice of a parameter group update, applied either through ResetClusterParameterGroup or through
+ * ModifyClusterParameterGroup. Batches are kept in the callback context, so they need to stay serializable.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ParameterBatch {
+    /*
+    ModifyClusterParameterGroup and ResetClusterParameterGroup accept at most 20 parameters per call
+     */
+    static final int MAX_PARAMETERS_PER_REQUEST = 20;
+
+    private boolean reset;
+    private List<Parameter> parameters;
+
+    /**
+     * Splits the updatable parameters into batches of at most MAX_PARAMETERS_PER_REQUEST parameters,
+     * the reset batches first, then the modify batches.
+     *
+     * @param updatableParameters parameters to apply, the ones set to NEED_TO_BE_RESET are reset
+     * @return the batches in the order they have to be applied
+     */
+    static List<ParameterBatch> plan(final List<Parameter> updatableParameters) {
+        final List<Parameter> resets = new ArrayList<>();
+        final List<Parameter> modifies = new ArrayList<>();
+        for (Parameter parameter : Optional.ofNullable(updatableParameters).orElse(Collections.emptyList())) {
+            if (StringUtils.equalsIgnoreCase(parameter.getParameterValue(), NEED_TO_BE_RESET)) {
+                resets.add(parameter);
+            } else {
+                modifies.add(parameter);
+            }
+        }
+
+        final List<ParameterBatch> batches = new ArrayList<>();
+        addBatches(batches, resets, true);
+        addBatches(batches, modifies, false);
+        return batches;
+    }
+
+    private static void addBatches(final List<ParameterBatch> batches, final List<Parameter> parameters, final boolean reset) {
+        for (int from = 0; from < parameters.size(); from += MAX_PARAMETERS_PER_REQUEST) {
+            final int to = Math.min(from + MAX_PARAMETERS_PER_REQUEST, parameters.size());
+            batches.add(new ParameterBatch(reset, new ArrayList<>(parameters.subList(from, to))));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_TO_BE_RESET;
+
+/**
+ * Diff between the desired parameters and the ones currently set on the parameter group. Every parameter is
+ * classified once, names compare case insensitively, and values that are JSON documents (wlm_json_configuration
+ * and any other JSON valued parameter) compare by their canonical form, so whitespace and key order don't count
+ * as changes. Canonical forms are cached by raw value, the same WLM document is only parsed once per container.
+ */
+class ParameterDiff {
+    enum Kind {
+        ADD,
+        CHANGE,
+        RESET,
+        UNCHANGED
+    }
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final int CANONICAL_CACHE_SIZE = 256;
+    /*
+    raw value -> canonical JSON, an empty string marks values that are not valid JSON
+     */
+    private static final Map<String, String> CANONICAL_CACHE = Collections.synchronizedMap(new LruCache());
+
+    private final Map<String, Kind> kinds = new LinkedHashMap<>();
+    private final List<Parameter> updatableParameters = new ArrayList<>();
+
+    private ParameterDiff() {
+    }
+
+    /**
+     * @param desiredParameters parameters of the desired model
+     * @param currentParameters user parameters currently set on the parameter group
+     * @return the diff, keyed by lower cased parameter name
+     */
+    static ParameterDiff between(final List<Parameter> desiredParameters, final List<Parameter> currentParameters) {
+        final Map<String, String> current = toValueMap(currentParameters);
+        final ParameterDiff diff = new ParameterDiff();
+
+        for (Map.Entry<String, String> desired : toValueMap(desiredParameters).entrySet()) {
+            final String name = desired.getKey();
+            final Kind kind = !current.containsKey(name) ? Kind.ADD
+                    : sameValue(desired.getValue(), current.get(name)) ? Kind.UNCHANGED
+                    : Kind.CHANGE;
+            diff.add(name, kind, desired.getValue());
+        }
+        for (Map.Entry<String, String> previous : current.entrySet()) {
+            if (!diff.kinds.containsKey(previous.getKey())) {
+                diff.add(previous.getKey(), Kind.RESET, NEED_TO_BE_RESET);
+            }
+        }
+        return diff;
+    }
+
+    Map<String, Kind> getKinds() {
+        return Collections.unmodifiableMap(kinds);
+    }
+
+    /**
+     * @return added and changed parameters with their desired value, then the reset ones with NEED_TO_BE_RESET
+     */
+    List<Parameter> getUpdatableParameters() {
+        return Collections.unmodifiableList(updatableParameters);
+    }
+
+    private void add(final String name, final Kind kind, final String value) {
+        kinds.put(name, kind);
+        if (kind != Kind.UNCHANGED) {
+            updatableParameters.add(Parameter.builder()
+                    .parameterName(name)
+                    .parameterValue(value)
+                    .build());
+        }
+    }
+
+    /*
+    like before, we assume there's no duplicated parameters like [{key1: value1}, {key1: value2}], the last one wins
+     */
+    private static Map<String, String> toValueMap(final List<Parameter> parameters) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (Parameter parameter : Optional.ofNullable(parameters).orElse(Collections.emptyList())) {
+            values.put(StringUtils.lowerCase(parameter.getParameterName()), parameter.getParameterValue());
+        }
+        return values;
+    }
+
+    static boolean sameValue(final String desired, final String current) {
+        if (Objects.equals(desired, current)) {
+            return true;
+        }
+        if (!looksLikeJson(desired) || !looksLikeJson(current)) {
+            return false;
+        }
+        /*
+        invalid JSON is compared as is and counted as a change, the ModifyClusterParameterGroup JSON validation
+        reports it
+         */
+        final String canonicalDesired = canonicalJson(desired);
+        final String canonicalCurrent = canonicalJson(current);
+        return !canonicalDesired.isEmpty()
+                && canonicalDesired.hashCode() == canonicalCurrent.hashCode()
+                && canonicalDesired.equals(canonicalCurrent);
+    }
+
+    private static boolean looksLikeJson(final String value) {
+        final String trimmed = StringUtils.trimToEmpty(value);
+        return trimmed.startsWith("{") || trimmed.startsWith("[");
+    }
+
+    static String canonicalJson(final String value) {
+        final String cached = CANONICAL_CACHE.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        String canonical;
+        try {
+            // reading into plain maps lets ORDER_MAP_ENTRIES_BY_KEYS sort object keys, arrays keep their order
+            canonical = CANONICAL_MAPPER.writeValueAsString(CANONICAL_MAPPER.readValue(value, Object.class));
+        } catch (final IOException e) {
+            canonical = "";
+        }
+        CANONICAL_CACHE.put(value, canonical);
+        return canonical;
+    }
+
+    private static class LruCache extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        LruCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > CANONICAL_CACHE_SIZE;
+        }
+    }
+}
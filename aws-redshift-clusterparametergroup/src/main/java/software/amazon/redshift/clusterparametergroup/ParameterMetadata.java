@@ -0,0 +1,162 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parameters of a parameter group family as DescribeDefaultClusterParameters reports them: apply type, data type,
+ * allowed values. Family defaults don't change, so they are cached per family for the life of the container, and
+ * spilled to /tmp so a fresh handler instance in a warm container doesn't read them again. An empty read is never
+ * cached, the next request reads the family again.
+ */
+class ParameterMetadata {
+    static final String APPLY_TYPE_STATIC = "static";
+
+    private static final Map<String, ParameterMetadata> FAMILIES = new ConcurrentHashMap<>();
+    private static final Path SPILL_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "redshift-parameter-metadata");
+    private static final Duration SPILL_TTL = Duration.ofHours(24);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String family;
+    private final Map<String, software.amazon.awssdk.services.redshift.model.Parameter> parameters;
+
+    ParameterMetadata(final String family, final Map<String, software.amazon.awssdk.services.redshift.model.Parameter> parameters) {
+        this.family = family;
+        this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * @param family parameter group family, e.g. redshift-1.0
+     * @param proxyClient client to read the family defaults with, only used on a cache miss
+     * @return the family metadata
+     */
+    static ParameterMetadata forFamily(final String family, final ProxyClient<RedshiftClient> proxyClient) {
+        final ParameterMetadata cached = FAMILIES.get(family);
+        if (cached != null) {
+            return cached;
+        }
+        ParameterMetadata metadata = readSpill(family);
+        if (metadata == null) {
+            metadata = load(family, proxyClient);
+            if (metadata.isEmpty()) {
+                return metadata;
+            }
+            writeSpill(metadata);
+        }
+        FAMILIES.put(family, metadata);
+        return metadata;
+    }
+
+    private static ParameterMetadata load(final String family, final ProxyClient<RedshiftClient> proxyClient) {
+        final Map<String, software.amazon.awssdk.services.redshift.model.Parameter> parameters = new HashMap<>();
+        final DescribeDefaultClusterParametersRequest request = DescribeDefaultClusterParametersRequest.builder()
+                .parameterGroupFamily(family)
+                .build();
+        for (DescribeDefaultClusterParametersResponse page : proxyClient.injectCredentialsAndInvokeIterableV2(
+                request, proxyClient.client()::describeDefaultClusterParametersPaginator)) {
+            if (page.defaultClusterParameters() != null) {
+                page.defaultClusterParameters().parameters()
+                        .forEach(parameter -> parameters.put(StringUtils.lowerCase(parameter.parameterName()), parameter));
+            }
+        }
+        return new ParameterMetadata(family, parameters);
+    }
+
+    static Path spillFile(final String family) {
+        return SPILL_DIRECTORY.resolve(family.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    /*
+    the spill is only an optimization, a missing, stale or unreadable file means reading the family again
+     */
+    private static ParameterMetadata readSpill(final String family) {
+        final Path file = spillFile(family);
+        try {
+            if (!Files.isRegularFile(file)
+                    || Files.getLastModifiedTime(file).toInstant().isBefore(Instant.now().minus(SPILL_TTL))) {
+                return null;
+            }
+            final List<Map<String, String>> spilled = MAPPER.readValue(file.toFile(), new TypeReference<List<Map<String, String>>>() { });
+            final Map<String, software.amazon.awssdk.services.redshift.model.Parameter> parameters = new HashMap<>();
+            for (Map<String, String> parameter : spilled) {
+                parameters.put(StringUtils.lowerCase(parameter.get("ParameterName")), software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                        .parameterName(parameter.get("ParameterName"))
+                        .applyType(parameter.get("ApplyType"))
+                        .dataType(parameter.get("DataType"))
+                        .allowedValues(parameter.get("AllowedValues"))
+                        .isModifiable(parameter.get("IsModifiable") == null ? null : Boolean.valueOf(parameter.get("IsModifiable")))
+                        .build());
+            }
+            return new ParameterMetadata(family, parameters);
+        } catch (final IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeSpill(final ParameterMetadata metadata) {
+        final List<Map<String, String>> spilled = new ArrayList<>();
+        for (software.amazon.awssdk.services.redshift.model.Parameter parameter : metadata.parameters.values()) {
+            final Map<String, String> entry = new LinkedHashMap<>();
+            entry.put("ParameterName", parameter.parameterName());
+            entry.put("ApplyType", parameter.applyType());
+            entry.put("DataType", parameter.dataType());
+            entry.put("AllowedValues", parameter.allowedValues());
+            entry.put("IsModifiable", parameter.isModifiable() == null ? null : parameter.isModifiable().toString());
+            spilled.add(entry);
+        }
+        try {
+            Files.createDirectories(SPILL_DIRECTORY);
+            // written aside then moved, a concurrent reader never sees half a file
+            final Path partial = Files.createTempFile(SPILL_DIRECTORY, "family", ".partial");
+            MAPPER.writeValue(partial.toFile(), spilled);
+            Files.move(partial, spillFile(metadata.family), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | RuntimeException e) {
+            // the in memory copy is enough
+        }
+    }
+
+    String getFamily() {
+        return family;
+    }
+
+    boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    Optional<software.amazon.awssdk.services.redshift.model.Parameter> get(final String parameterName) {
+        return Optional.ofNullable(parameters.get(StringUtils.lowerCase(parameterName)));
+    }
+
+    /**
+     * Parameters the family doesn't know are taken as static, a reboot too many beats a change never applied.
+     *
+     * @param parameterName parameter name, any case
+     * @return whether changing the parameter only applies after a reboot
+     */
+    boolean requiresReboot(final String parameterName) {
+        return get(parameterName)
+                .map(parameter -> APPLY_TYPE_STATIC.equalsIgnoreCase(parameter.applyType()))
+                .orElse(true);
+    }
+}
@@ -0,0 +1,111 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the desired parameters against the family metadata before anything is changed, so a typo in a name or a
+ * value out of range fails the operation right away instead of after the tags or earlier batches were applied.
+ * Only what the metadata states unambiguously is checked: whether the parameter can be modified, boolean and integer
+ * values, integer ranges, and JSON for JSON valued parameters. String values are left to the service, and so are
+ * names the metadata doesn't know, the cached defaults may predate a parameter the service added since.
+ */
+class ParameterValidator {
+    private static final String DATA_TYPE_BOOLEAN = "boolean";
+    private static final String DATA_TYPE_INTEGER = "integer";
+    private static final Pattern INTEGER_RANGE = Pattern.compile("^\\s*(-?\\d+)\\s*-\\s*(-?\\d+)\\s*$");
+
+    private ParameterValidator() {
+    }
+
+    /**
+     * @param parameters desired parameters
+     * @param metadata metadata of the parameter group family
+     * @return one message per invalid parameter, empty when all of them are valid or unknown to the metadata
+     */
+    static List<String> validate(final List<Parameter> parameters, final ParameterMetadata metadata) {
+        final List<String> errors = new ArrayList<>();
+        for (Parameter parameter : Optional.ofNullable(parameters).orElse(Collections.emptyList())) {
+            final String name = parameter.getParameterName();
+            final String value = parameter.getParameterValue();
+            final Optional<software.amazon.awssdk.services.redshift.model.Parameter> definition = metadata.get(name);
+            if (!definition.isPresent()) {
+                continue;
+            }
+            if (Boolean.FALSE.equals(definition.get().isModifiable())) {
+                errors.add(String.format("%s can't be modified", name));
+            } else {
+                validateValue(name, value, definition.get()).ifPresent(errors::add);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * @param parameters desired parameters
+     * @param metadata metadata of the parameter group family
+     * @return names of the parameters the metadata doesn't know, left for the service to accept or reject
+     */
+    static List<String> unknownParameters(final List<Parameter> parameters, final ParameterMetadata metadata) {
+        final List<String> unknown = new ArrayList<>();
+        for (Parameter parameter : Optional.ofNullable(parameters).orElse(Collections.emptyList())) {
+            if (!metadata.get(parameter.getParameterName()).isPresent()) {
+                unknown.add(parameter.getParameterName());
+            }
+        }
+        return unknown;
+    }
+
+    private static Optional<String> validateValue(final String name,
+                                                  final String value,
+                                                  final software.amazon.awssdk.services.redshift.model.Parameter definition) {
+        if (value == null) {
+            return Optional.of(String.format("%s has no value", name));
+        }
+        final String dataType = StringUtils.lowerCase(definition.dataType());
+        if (DATA_TYPE_BOOLEAN.equals(dataType)) {
+            return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)
+                    ? Optional.empty()
+                    : Optional.of(String.format("%s must be true or false, got %s", name, value));
+        }
+        if (DATA_TYPE_INTEGER.equals(dataType)) {
+            return validateInteger(name, value, definition.allowedValues());
+        }
+        // same parse the diff does, and the canonical form is cached for it
+        if (isJson(value) && ParameterDiff.canonicalJson(value).isEmpty()) {
+            return Optional.of(String.format("%s is not valid JSON", name));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> validateInteger(final String name, final String value, final String allowedValues) {
+        final long number;
+        try {
+            number = Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            return Optional.of(String.format("%s must be an integer, got %s", name, value));
+        }
+        final Matcher range = INTEGER_RANGE.matcher(StringUtils.defaultString(allowedValues));
+        if (range.matches()) {
+            try {
+                if (number < Long.parseLong(range.group(1)) || number > Long.parseLong(range.group(2))) {
+                    return Optional.of(String.format("%s must be within %s, got %s", name, allowedValues.trim(), value));
+                }
+            } catch (final NumberFormatException e) {
+                // bounds beyond long, nothing we can check
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isJson(final String value) {
+        final String trimmed = value.trim();
+        return trimmed.startsWith("{") || trimmed.startsWith("[");
+    }
+}
@@ -5,7 +5,6 @@ import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFo
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -41,8 +40,8 @@ public class ReadHandler extends BaseHandlerStd {
                         .translateToServiceRequest(Translator::translateToReadParametersRequest)
                         .makeServiceCall(this::describeClusterParameters)
                         .handleError(this::describeClusterParametersErrorHandler)
-                        .done(awsResponse -> {
-                            return ProgressEvent.progress(Translator.translateFromReadParametersResponse(awsResponse, progress.getResourceModel()), callbackContext);
+                        .done(userParameters -> {
+                            return ProgressEvent.progress(Translator.translateFromReadParametersResponse(userParameters, progress.getResourceModel()), callbackContext);
                         })
                 )
                 .then(progress -> proxy.initiate(String.format("%s::Read::ReadTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -79,16 +78,15 @@ public class ReadHandler extends BaseHandlerStd {
         }
     }
 
-    private DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
-                                                                        final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeClusterParametersResponse awsResponse;
+    private ResourceModel describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
+                                                    final ProxyClient<RedshiftClient> proxyClient) {
+        ResourceModel userParameters;
         logger.log("Describe Cluster Parameters before call");
         logger.log(awsRequest.toString());
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusterParameters);
+        userParameters = describeAllClusterParameters(awsRequest, proxyClient);
 
-        logger.log(awsResponse.toString());
         logger.log(String.format("%s's Parameters has successfully been read.", ResourceModel.TYPE_NAME));
-        return awsResponse;
+        return userParameters;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> describeClusterParametersErrorHandler(final DescribeClusterParametersRequest awsRequest,
@@ -17,8 +17,8 @@ import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGrou
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.TaggedResource;
 
-import java.util.Collections;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.stream.Stream;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +29,7 @@ import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_
 
 public class Translator {
     private static final Gson GSON = new GsonBuilder().create();
+    private static final String USER_SOURCE = "user";
 
     /**
      * Request to create a resource
@@ -54,22 +55,34 @@ public class Translator {
     static DescribeClusterParametersRequest translateToReadParametersRequest(final ResourceModel model) {
         return DescribeClusterParametersRequest.builder()
                 .parameterGroupName(model.getParameterGroupName())
+                .source(USER_SOURCE)
                 .build();
     }
 
     /**
-     * Translates resource object from sdk into a resource model
+     * Translates one page of parameters from sdk into the model parameters the user set
      *
-     * @param awsResponse the aws service describe resource Parameters response
+     * @param awsResponse a page of the aws service describe resource Parameters response
+     * @return the user parameters of the page
+     */
+    static List<Parameter> translateFromReadParametersPage(final DescribeClusterParametersResponse awsResponse) {
+        return translateToModelParameters(awsResponse.parameters()
+                .stream()
+                .filter(parameter -> USER_SOURCE.equalsIgnoreCase(parameter.source()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Translates the parameters read from every page into a resource model
+     *
+     * @param userParameters model holding the user parameters of every page
+     * @param model resource model
      * @return model resource model
      */
-    static ResourceModel translateFromReadParametersResponse(final DescribeClusterParametersResponse awsResponse,
+    static ResourceModel translateFromReadParametersResponse(final ResourceModel userParameters,
                                                              final ResourceModel model) {
         return model.toBuilder()
-                .parameters(translateToModelParameters(awsResponse.parameters()
-                        .stream()
-                        .filter(parameter -> parameter.source().equalsIgnoreCase("user"))
-                        .collect(Collectors.toList())))
+                .parameters(userParameters.getParameters())
                 .build();
     }
 
@@ -170,30 +183,36 @@ public class Translator {
 
     }
 
+    /**
+     * Translates the tags read back from the resource into a key value map
+     *
+     * @param awsResponse the aws service describe tags response
+     * @return the tags currently on the resource
+     */
+    static Map<String, String> translateTagsFromReadTagsResponse(final DescribeTagsResponse awsResponse) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        streamOfOrEmpty(awsResponse.taggedResources())
+                .map(TaggedResource::tag)
+                .forEach(tag -> tags.put(tag.key(), tag.value()));
+        return tags;
+    }
+
     /**
      * Request to update tags for a resource
      *
-     * @param desiredResourceState the resource model request to update tags
-     * @param currentResourceState the resource model request to delete tags
-     * @param resourceName         the arn of the requested resource
+     * @param tags         the reconciled tags to create and delete
+     * @param resourceName the arn of the requested resource
      * @return awsRequest the aws service request to update tags of a resource
      */
-    static ModifyTagsRequest translateToUpdateTagsRequest(List<Tag> desiredTags,
-                                                          List<Tag> currentTags,
+    static ModifyTagsRequest translateToUpdateTagsRequest(final TagReconciler tags,
                                                           final String resourceName) {
-        List<Tag> toBeCreatedTags = subtract(desiredTags, currentTags);
-        List<Tag> toBeDeletedTags = subtract(currentTags, desiredTags);
-
         return ModifyTagsRequest.builder()
                 .createNewTagsRequest(CreateTagsRequest.builder()
-                        .tags(translateToSdkTags(toBeCreatedTags))
+                        .tags(translateToSdkTags(translateTagsMapToTagCollection(tags.getTagsToAdd())))
                         .resourceName(resourceName)
                         .build())
                 .deleteOldTagsRequest(DeleteTagsRequest.builder()
-                        .tagKeys(toBeDeletedTags
-                                .stream()
-                                .map(Tag::getKey)
-                                .collect(Collectors.toList()))
+                        .tagKeys(tags.getTagKeysToRemove())
                         .resourceName(resourceName)
                         .build())
                 .build();
@@ -234,6 +253,35 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Request to reset one batch of parameters
+     *
+     * @param model resource model
+     * @param batch parameters to reset
+     * @return awsRequest the aws service request to reset the batch
+     */
+    static ResetClusterParameterGroupRequest translateToResetRequest(final ResourceModel model, final ParameterBatch batch) {
+        return ResetClusterParameterGroupRequest.builder()
+                .parameterGroupName(model.getParameterGroupName())
+                .resetAllParameters(false)
+                .parameters(translateToSdkParameters(batch.getParameters()))
+                .build();
+    }
+
+    /**
+     * Request to modify one batch of parameters
+     *
+     * @param model resource model
+     * @param batch parameters to modify
+     * @return awsRequest the aws service request to modify the batch
+     */
+    static ModifyClusterParameterGroupRequest translateToUpdateRequest(final ResourceModel model, final ParameterBatch batch) {
+        return ModifyClusterParameterGroupRequest.builder()
+                .parameterGroupName(model.getParameterGroupName())
+                .parameters(translateToSdkParameters(batch.getParameters()))
+                .build();
+    }
+
     private static software.amazon.awssdk.services.redshift.model.Parameter translateToSdkParameter(Parameter parameter) {
         return GSON.fromJson(GSON.toJson(parameter), software.amazon.awssdk.services.redshift.model.Parameter.class);
     }
@@ -306,23 +354,4 @@ public class Translator {
                 .map(Collection::stream)
                 .orElseGet(Stream::empty);
     }
-
-    /**
-     * Do subtract for two lists: a - b
-     *
-     * @param a   the list that wants to minus b
-     * @param b   the list that would be subtracted by a
-     * @param <T> the class of a's and b's elements
-     * @return (a - b) a.k.a (a minus b)
-     */
-    private static <T> List<T> subtract(List<T> a, List<T> b) {
-        return Optional.ofNullable(a)
-                .map(aIfNotNull -> aIfNotNull
-                        .stream()
-                        .filter(ao -> Optional.ofNullable(b)
-                                .map(bIfNotNull -> !bIfNotNull.contains(ao))
-                                .orElse(true))
-                        .collect(Collectors.toList()))
-                .orElse(Collections.emptyList());
-    }
 }
@@ -1,17 +1,9 @@
 package software.amazon.redshift.clusterparametergroup;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
-import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterParameterGroupStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
@@ -28,18 +20,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
     public static final String NEED_TO_BE_RESET = "needToBeReset";
-    private static final String WLM_JSON_CONFIGURATION = "wlm_json_configuration";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -51,42 +38,25 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
         final String resourceName = String.format("arn:%s:redshift:%s:%s:parametergroup:%s", request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(), desiredResourceState.getParameterGroupName());
-        Map<String, String> allDesiredTags = new HashMap<>();
-        allDesiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
-        allDesiredTags.putAll(Optional.ofNullable(
-                        Translator.translateFromResourceModelToSdkTags(desiredResourceState.getTags()))
-                .orElse(Collections.emptyMap()));
-        List<Tag> desiredTags = Translator.translateTagsMapToTagCollection(allDesiredTags);
-
-
-        List<Tag> previousTags = request.getPreviousResourceState() == null ? null : request.getPreviousResourceState().getTags();
-        Map<String, String> allPreviousTags = new HashMap<>();
-        allPreviousTags.putAll(Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
-        allPreviousTags.putAll(Optional.ofNullable(Translator.translateFromResourceModelToSdkTags(previousTags))
-                .orElse(Collections.emptyMap()));
-        List<Tag> currentTags = Translator.translateTagsMapToTagCollection(allPreviousTags);
+        final Map<String, String> allDesiredTags = TagReconciler.effectiveTags(null,
+                request.getDesiredResourceTags(), Translator.translateFromResourceModelToSdkTags(desiredResourceState.getTags()));
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
-                .then(progress -> proxy.initiate(String.format("%s::Update::ReadTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
-                        .makeServiceCall(this::readTags)
-                        .handleError(this::operateTagsErrorHandler)
-                        .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .callbackContext(callbackContext)
-                                .callbackDelaySeconds(0)
-                                .resourceModel(Translator.translateFromReadTagsResponse(model, tagsResponse))
-                                .status(OperationStatus.IN_PROGRESS)
-                                .build()))
-                .then(progress -> proxy.initiate(String.format("%s::Update::UpdateTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(model -> Translator.translateToUpdateTagsRequest(desiredTags, currentTags, resourceName))
-                        .makeServiceCall(this::updateTags)
-                        .handleError(this::operateTagsErrorHandler)
-                        .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .callbackContext(callbackContext)
-                                .callbackDelaySeconds(0)
-                                .resourceModel(desiredResourceState)
-                                .status(OperationStatus.IN_PROGRESS)
-                                .build()))
+                .then(progress -> validateParameters(progress, proxyClient))
+                .then(progress -> {
+                    // with a previous state the tags CloudFormation applied are known, only Create hands over without one
+                    if (request.getPreviousResourceState() != null) {
+                        final Map<String, String> allPreviousTags = TagReconciler.effectiveTags(null,
+                                request.getPreviousResourceTags(), Translator.translateFromResourceModelToSdkTags(request.getPreviousResourceState().getTags()));
+                        return updateTags(proxy, proxyClient, progress, TagReconciler.reconcile(allPreviousTags, allDesiredTags), resourceName, desiredResourceState);
+                    }
+                    return proxy.initiate(String.format("%s::Update::ReadTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
+                            .makeServiceCall(this::readTags)
+                            .handleError(this::operateTagsErrorHandler)
+                            .done((tagsRequest, tagsResponse, client, model, context) -> updateTags(proxy, proxyClient, progress,
+                                    TagReconciler.reconcile(Translator.translateTagsFromReadTagsResponse(tagsResponse), allDesiredTags), resourceName, desiredResourceState));
+                })
 
                 .then(progress -> proxy.initiate(String.format("%s::Update::ReadParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadParametersRequest)
@@ -99,151 +69,152 @@ public class UpdateHandler extends BaseHandlerStd {
                                 .status(OperationStatus.IN_PROGRESS)
                                 .build()))
 
-                .then(progress -> proxy.initiate(String.format("%s::Update::ResetParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToResetRequest)
-                        .makeServiceCall(this::resetClusterParameterGroup)
-                        .handleError(this::resetClusterParameterGroupErrorHandler)
-                        .progress())
-
-                .then(progress -> proxy.initiate(String.format("%s::Update::UpdateParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToUpdateRequest)
-                        .makeServiceCall(this::modifyClusterParameterGroup)
-                        .handleError(this::modifyClusterParameterGroupErrorHandler)
-                        .progress())
+                .then(progress -> applyParameterBatches(proxy, proxyClient, progress, desiredResourceState))
 
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(final AmazonWebServicesClientProxy proxy,
+                                                                     final ProxyClient<RedshiftClient> proxyClient,
+                                                                     final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                     final TagReconciler tags,
+                                                                     final String resourceName,
+                                                                     final ResourceModel desiredResourceState) {
+        if (!tags.hasChanges()) {
+            logger.log(String.format("Tags of %s are up to date.", ResourceModel.TYPE_NAME));
+            return ProgressEvent.progress(desiredResourceState, progress.getCallbackContext());
+        }
+        return proxy.initiate(String.format("%s::Update::UpdateTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.translateToUpdateTagsRequest(tags, resourceName))
+                .makeServiceCall(this::updateTags)
+                .handleError(this::operateTagsErrorHandler)
+                .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.progress(desiredResourceState, context));
+    }
+
+    /*
+    applies the updatable parameters in API sized batches, resets first. The batches and how many of them were
+    applied are kept in the callback context, so when a batch gets throttled we ask to be called back and carry on
+    from that batch instead of applying the whole update again
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> applyParameterBatches(final AmazonWebServicesClientProxy proxy,
+                                                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                                                final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                final ResourceModel desiredResourceState) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getParameterBatches() == null) {
+            callbackContext.setParameterBatches(ParameterBatch.plan(progress.getResourceModel().getParameters()));
+            reportRebootRequiredParameters(desiredResourceState, progress.getResourceModel().getParameters(), proxyClient);
+        }
+
+        final List<ParameterBatch> batches = callbackContext.getParameterBatches();
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (int index = callbackContext.getParameterBatchesApplied(); index < batches.size(); index++) {
+            final ParameterBatch batch = batches.get(index);
+            final int batchNumber = index + 1;
+            result = result.then(batchProgress -> applyParameterBatch(proxy, proxyClient, batchProgress, batch, batchNumber, batches.size(), desiredResourceState));
+        }
+        return result;
+    }
+
+    /*
+    static parameters only take effect on the clusters using this group after a reboot, dynamic ones are applied
+    right away. The family metadata only serves this report, failing to read it doesn't fail the update
+     */
+    private void reportRebootRequiredParameters(final ResourceModel model,
+                                                final List<Parameter> updatableParameters,
+                                                final ProxyClient<RedshiftClient> proxyClient) {
+        if (CollectionUtils.isEmpty(updatableParameters) || model.getParameterGroupFamily() == null) {
+            return;
+        }
+        try {
+            final ParameterMetadata metadata = ParameterMetadata.forFamily(model.getParameterGroupFamily(), proxyClient);
+            final List<String> rebootRequired = new ArrayList<>();
+            for (Parameter parameter : updatableParameters) {
+                if (metadata.requiresReboot(parameter.getParameterName())) {
+                    rebootRequired.add(parameter.getParameterName());
+                }
+            }
+            if (rebootRequired.isEmpty()) {
+                logger.log(String.format("All %d parameter changes are dynamic, clusters using %s apply them without a reboot.",
+                        updatableParameters.size(), model.getParameterGroupName()));
+            } else {
+                logger.log(String.format("Parameter changes %s are static, clusters using %s apply them after a reboot.",
+                        rebootRequired, model.getParameterGroupName()));
+            }
+        } catch (final RuntimeException e) {
+            logger.log(String.format("Could not read the parameters of family %s: %s", model.getParameterGroupFamily(), e.getMessage()));
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> applyParameterBatch(final AmazonWebServicesClientProxy proxy,
+                                                                              final ProxyClient<RedshiftClient> proxyClient,
+                                                                              final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                              final ParameterBatch batch,
+                                                                              final int batchNumber,
+                                                                              final int batchCount,
+                                                                              final ResourceModel desiredResourceState) {
+        logger.log(String.format("Applying %s parameter batch %d of %d with %d parameters.",
+                batch.isReset() ? "reset" : "modify", batchNumber, batchCount, batch.getParameters().size()));
+
+        if (batch.isReset()) {
+            return proxy.initiate(String.format("%s::Update::ResetParameters::%d", CALL_GRAPH_TYPE_NAME, batchNumber), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(model -> Translator.translateToResetRequest(model, batch))
+                    .makeServiceCall(this::resetClusterParameterGroup)
+                    .handleError((awsRequest, exception, client, model, context) -> isThrottled(exception)
+                            ? throttledBatch(context, batchNumber, desiredResourceState)
+                            : resetClusterParameterGroupErrorHandler(awsRequest, exception, client, model, context))
+                    .done(awsResponse -> parameterBatchApplied(progress, batchNumber));
+        }
+
+        return proxy.initiate(String.format("%s::Update::UpdateParameters::%d", CALL_GRAPH_TYPE_NAME, batchNumber), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, batch))
+                .makeServiceCall(this::modifyClusterParameterGroup)
+                .handleError((awsRequest, exception, client, model, context) -> isThrottled(exception)
+                        ? throttledBatch(context, batchNumber, desiredResourceState)
+                        : modifyClusterParameterGroupErrorHandler(awsRequest, exception, client, model, context))
+                .done(awsResponse -> parameterBatchApplied(progress, batchNumber));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> parameterBatchApplied(final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                final int batchNumber) {
+        progress.getCallbackContext().setParameterBatchesApplied(batchNumber);
+        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+    }
+
+    /*
+    the desired model goes back with the callback, the batch diff only lives in the callback context
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> throttledBatch(final CallbackContext context,
+                                                                         final int batchNumber,
+                                                                         final ResourceModel desiredResourceState) {
+        logger.log(String.format("Parameter batch %d was throttled, retrying it in %d seconds.", batchNumber, THROTTLED_CALLBACK_DELAY_SECONDS));
+        return ProgressEvent.defaultInProgressHandler(context, THROTTLED_CALLBACK_DELAY_SECONDS, desiredResourceState);
+    }
+
     /*
     compares the desired parameters and the previous parameters,
     calculates which parameters need to be reset (value set to NEED_TO_BE_RESET),
-    and which parameter values need to be updated
+    and which parameter values need to be updated, JSON valued parameters
+    (e.g. wlm_json_configuration) are compared as JSON, see ParameterDiff
      */
     private ResourceModel getUpdatableResourceModel(ResourceModel desiredModel, ResourceModel previousModel) {
         logger.log("DesiredModel parameters: " + desiredModel.getParameters() + "\nPreviousModel parameters: " + previousModel.getParameters());
 
-        Function<List<Parameter>, List<Parameter>> lowerCaseParameterName = (raw) -> Optional.ofNullable(raw)
-                .map(parameters -> parameters
-                        .stream()
-                        .map(parameter -> Parameter.builder()
-                                .parameterName(StringUtils.lowerCase(parameter.getParameterName()))
-                                .parameterValue(parameter.getParameterValue())
-                                .build())
-                        .collect(Collectors.toList()))
-                .orElse(Collections.emptyList());
-
-        List<Parameter> desiredParameters = lowerCaseParameterName.apply(desiredModel.getParameters());
-        List<Parameter> previousParameters = lowerCaseParameterName.apply(previousModel.getParameters());
-
-        /*
-        like before, we assume there's no duplicated parameters like [{key1: value1}, {key1: value2}]
-         */
-        Function<List<Parameter>, Map<String, String>> paramsToMap = list -> list.stream()
-                .collect(Collectors.toMap(Parameter::getParameterName, Parameter::getParameterValue));
-        Map<String, String> desiredParamKeyValueMap = paramsToMap.apply(desiredParameters);
-        Map<String, String> previousParamKeyValueMap = paramsToMap.apply(previousParameters);
-
-        /*
-        previousParameters
-        [
-            { "auto_analyze": true },
-            { "date_style": "ISO, MDY" },
-            { "wlm_json_configuration": "[{key1: value1}]" }
-        ]
-
-        desiredParameters
-        [
-            { "statement_timeout": 1000 },
-            { "date_style": "ISO, MDY" }, // value stays the same, will be ignored,
-            { "wlm_json_configuration": "[{key1:        value1}]" } // needs to `JSON` compare with previous wlm_json_configuration (see code)
-        ]
-
-        updatableParameters
-        [
-            { "auto_analyze": NEED_TO_BE_RESET }, // exists in previous not in desired, value will be set to NEED_TO_BE_RESET
-        ]
-         */
-        List<Parameter> updatableParameters = CollectionUtils.disjunction(desiredParameters, previousParameters)
-                .stream()
-                .filter(parameter -> {
-                    /*
-                    We only specially handle when wlm_json_configuration exists in both previous and desired parameters.
-
-                    When both previous and desired parameters contain wlm_json_configuration,
-                    we'll need to first sanitize both wlm_json_configurations (stringified JSON) then
-                    check if they're equal.
-
-                    For example, [{key:value}] is the same as [   {key: value}]
-
-                    When only previous parameters contains wlm_json_configuration,
-                    it means it needs to be reset.
-
-                    When only desired parameters contains wlm_json_configuration,
-                    we only need to apply the new one.
-                     */
-                    if (parameter.getParameterName().equals(WLM_JSON_CONFIGURATION)
-                            && desiredParamKeyValueMap.containsKey(WLM_JSON_CONFIGURATION)
-                            && previousParamKeyValueMap.containsKey(WLM_JSON_CONFIGURATION)
-                    ) {
-                        try {
-                            final String desiredWlm = getSanitizedString(desiredParamKeyValueMap.get(WLM_JSON_CONFIGURATION));
-                            final String previousWlm = getSanitizedString(previousParamKeyValueMap.get(WLM_JSON_CONFIGURATION));
-                            /*
-                            only when their sanitized values don't match, we update
-                             */
-                            return !desiredWlm.equals(previousWlm);
-                        } catch (JsonProcessingException e) {
-                            /*
-                            ignore this exception for now to be consistent with existing behavior,
-                            this invalid JSON will fail modifyParameterGroup API's JSON validation.
-
-                            When I get a chance to verify the behaviors we should for sure
-                            throw invalid JSON exception as soon as we can:
-
-                            throw new CfnInvalidRequestException(e);
-                             */
-                            return true; // true meaning we'll modify wlm_json_configuration using the new one
-                        }
-                    }
-                    // don't filter out any parameters by default
-                    return true;
-                })
-                .map(parameter -> Parameter.builder()
-                        .parameterName(parameter.getParameterName())
-                        .parameterValue(desiredParamKeyValueMap.getOrDefault(parameter.getParameterName(), NEED_TO_BE_RESET))
-                        .build())
-                /*
-                needs distinct because doing the map operation above can introduce the same Parameter,
-                this happens when the same parameter value changes,
-                in which this parameter key exists in both previous and desired parameters, but w/ diff values,
-                after map() we'll have 2 parameters, whose values are all set to desired parameter's value
-                 */
-                .distinct()
-                .collect(Collectors.toList());
+        final ParameterDiff diff = ParameterDiff.between(desiredModel.getParameters(), previousModel.getParameters());
+        logger.log("Parameter diff: " + diff.getKinds());
 
         return desiredModel.toBuilder()
-                .parameters(updatableParameters)
+                .parameters(new ArrayList<>(diff.getUpdatableParameters()))
                 .build();
     }
 
-    private String getSanitizedString(final String str) throws JsonProcessingException {
-        return OBJECT_MAPPER.readValue(str, JsonNode.class).toString();
-    }
-
-    private DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
-                                                                        final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeClusterParametersResponse awsResponse;
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusterParameters);
+    private ResourceModel describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
+                                                    final ProxyClient<RedshiftClient> proxyClient) {
+        ResourceModel userParameters;
+        userParameters = describeAllClusterParameters(awsRequest, proxyClient);
 
         logger.log(String.format("%s's Parameters has successfully been read.", ResourceModel.TYPE_NAME));
-
-        if (awsResponse.hasParameters()) {
-            for (software.amazon.awssdk.services.redshift.model.Parameter param : awsResponse.parameters()) {
-                logger.log("Parameter from describeClusterParameter: " + param.toString());
-            }
-        }
-
-        return awsResponse;
+        return userParameters;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> describeClusterParametersErrorHandler(final DescribeClusterParametersRequest awsRequest,
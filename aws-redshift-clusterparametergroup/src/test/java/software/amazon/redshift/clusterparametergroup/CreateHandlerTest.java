@@ -84,6 +84,8 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .parameterGroupName(CLUSTER_PARAMETER_GROUP.parameterGroupName())
                         .build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder().build());
 
@@ -0,0 +1,334 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroup;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
+import software.amazon.awssdk.services.redshift.model.CreateClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.CreateClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
+import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DefaultClusterParameters;
+import software.amazon.awssdk.services.redshift.model.DeleteClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.Parameter;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.Tag;
+import software.amazon.awssdk.services.redshift.model.TaggedResource;
+
+/**
+ * In-memory stand-in for the Redshift parameter group API, used to run the parameter group handler chains end
+ * to end.
+ *
+ * Parameter groups keep the parameters set on them (source "user"), DescribeClusterParameters pages through them,
+ * and ModifyClusterParameterGroup and ResetClusterParameterGroup reject more parameters than the service accepts
+ * in one call. Every call is counted per operation, and throttling or any other error can be queued up per
+ * operation.
+ *
+ * Only the operations the parameter group handlers issue are modelled, anything else throws
+ * UnsupportedOperationException from the SDK interface defaults.
+ */
+class FakeRedshiftClient implements RedshiftClient {
+    static final String USER_SOURCE = "user";
+    static final int MAX_PARAMETERS_PER_REQUEST = 20;
+
+    private final Map<String, ClusterParameterGroup> parameterGroups = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> userParameters = new HashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, List<Parameter>> familyParameters = new HashMap<>();
+    private final Map<String, Deque<RuntimeException>> injectedErrors = new HashMap<>();
+    private final Map<String, Integer> callCounts = new TreeMap<>();
+    private int parametersPageSize = 100;
+
+    /**
+     * Adds a parameter group, as if it had been created before the test, with the given user parameters.
+     */
+    FakeRedshiftClient withParameterGroup(final String name, final String family, final Map<String, String> parameters) {
+        parameterGroups.put(name, ClusterParameterGroup.builder()
+                .parameterGroupName(name)
+                .parameterGroupFamily(family)
+                .description(name)
+                .build());
+        userParameters.put(name, new LinkedHashMap<>(parameters));
+        tags.put(name, new LinkedHashMap<>());
+        return this;
+    }
+
+    /**
+     * Adds a parameter to the family defaults DescribeDefaultClusterParameters reports.
+     */
+    FakeRedshiftClient withFamilyParameter(final String family, final String name, final String dataType, final String allowedValues) {
+        familyParameters.computeIfAbsent(family, key -> new ArrayList<>()).add(Parameter.builder()
+                .parameterName(name)
+                .applyType("dynamic")
+                .dataType(dataType)
+                .allowedValues(allowedValues)
+                .isModifiable(true)
+                .source("engine-default")
+                .build());
+        return this;
+    }
+
+    /**
+     * Sets how many parameters a DescribeClusterParameters page holds, the service returns at most 100.
+     */
+    FakeRedshiftClient withParametersPageSize(final int pageSize) {
+        parametersPageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Fails the next calls to the operation with a throttling error, as returned once the SDK retries are used up.
+     */
+    FakeRedshiftClient throttle(final String operation, final int times) {
+        for (int i = 0; i < times; i++) {
+            failNext(operation, serviceError(RedshiftException.builder(), 400, "Throttling", "Rate exceeded"));
+        }
+        return this;
+    }
+
+    /**
+     * Fails the next call to the operation with the given error. Errors queue up in the order they are added.
+     */
+    FakeRedshiftClient failNext(final String operation, final RuntimeException error) {
+        injectedErrors.computeIfAbsent(operation, key -> new ArrayDeque<>()).add(error);
+        return this;
+    }
+
+    /**
+     * @return the user parameters of the group, null once it is deleted
+     */
+    Map<String, String> parameters(final String parameterGroupName) {
+        final Map<String, String> parameters = userParameters.get(parameterGroupName);
+        return parameters == null ? null : Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * @return the tags of the group, null once it is deleted
+     */
+    Map<String, String> tags(final String parameterGroupName) {
+        final Map<String, String> groupTags = tags.get(parameterGroupName);
+        return groupTags == null ? null : Collections.unmodifiableMap(groupTags);
+    }
+
+    int callCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateClusterParameterGroupResponse createClusterParameterGroup(final CreateClusterParameterGroupRequest request) {
+        call("createClusterParameterGroup");
+        if (parameterGroups.containsKey(request.parameterGroupName())) {
+            throw serviceError(ClusterParameterGroupAlreadyExistsException.builder(), 400, "ClusterParameterGroupAlreadyExists",
+                    String.format("Parameter group %s already exists.", request.parameterGroupName()));
+        }
+        final ClusterParameterGroup parameterGroup = ClusterParameterGroup.builder()
+                .parameterGroupName(request.parameterGroupName())
+                .parameterGroupFamily(request.parameterGroupFamily())
+                .description(request.description())
+                .tags(request.tags())
+                .build();
+        parameterGroups.put(request.parameterGroupName(), parameterGroup);
+        userParameters.put(request.parameterGroupName(), new LinkedHashMap<>());
+        final Map<String, String> groupTags = new LinkedHashMap<>();
+        request.tags().forEach(tag -> groupTags.put(tag.key(), tag.value()));
+        tags.put(request.parameterGroupName(), groupTags);
+        return CreateClusterParameterGroupResponse.builder().clusterParameterGroup(parameterGroup).build();
+    }
+
+    @Override
+    public DescribeClusterParameterGroupsResponse describeClusterParameterGroups(final DescribeClusterParameterGroupsRequest request) {
+        call("describeClusterParameterGroups");
+        if (request.parameterGroupName() == null) {
+            return DescribeClusterParameterGroupsResponse.builder()
+                    .parameterGroups(new ArrayList<>(parameterGroups.values()))
+                    .build();
+        }
+        return DescribeClusterParameterGroupsResponse.builder()
+                .parameterGroups(existingParameterGroup(request.parameterGroupName()))
+                .build();
+    }
+
+    @Override
+    public DeleteClusterParameterGroupResponse deleteClusterParameterGroup(final DeleteClusterParameterGroupRequest request) {
+        call("deleteClusterParameterGroup");
+        existingParameterGroup(request.parameterGroupName());
+        parameterGroups.remove(request.parameterGroupName());
+        userParameters.remove(request.parameterGroupName());
+        tags.remove(request.parameterGroupName());
+        return DeleteClusterParameterGroupResponse.builder().build();
+    }
+
+    /**
+     * Pages through the parameters of the group, the marker is the index of the first parameter of the page.
+     * Only the user parameters are modelled, so any other source returns an empty list.
+     */
+    @Override
+    public DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest request) {
+        call("describeClusterParameters");
+        existingParameterGroup(request.parameterGroupName());
+        final List<Parameter> parameters = request.source() != null && !USER_SOURCE.equals(request.source())
+                ? Collections.<Parameter>emptyList()
+                : userParameters.get(request.parameterGroupName()).entrySet().stream()
+                        .map(parameter -> Parameter.builder()
+                                .parameterName(parameter.getKey())
+                                .parameterValue(parameter.getValue())
+                                .source(USER_SOURCE)
+                                .build())
+                        .collect(Collectors.toList());
+        final int from = request.marker() == null ? 0 : Integer.parseInt(request.marker());
+        final int to = Math.min(from + parametersPageSize, parameters.size());
+        return DescribeClusterParametersResponse.builder()
+                .parameters(parameters.subList(from, to))
+                .marker(to < parameters.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public DescribeDefaultClusterParametersResponse describeDefaultClusterParameters(final DescribeDefaultClusterParametersRequest request) {
+        call("describeDefaultClusterParameters");
+        return DescribeDefaultClusterParametersResponse.builder()
+                .defaultClusterParameters(DefaultClusterParameters.builder()
+                        .parameterGroupFamily(request.parameterGroupFamily())
+                        .parameters(familyParameters.getOrDefault(request.parameterGroupFamily(), Collections.<Parameter>emptyList()))
+                        .build())
+                .build();
+    }
+
+    @Override
+    public ModifyClusterParameterGroupResponse modifyClusterParameterGroup(final ModifyClusterParameterGroupRequest request) {
+        call("modifyClusterParameterGroup");
+        existingParameterGroup(request.parameterGroupName());
+        checkParameterCount(request.parameters());
+        request.parameters().forEach(parameter ->
+                userParameters.get(request.parameterGroupName()).put(parameter.parameterName(), parameter.parameterValue()));
+        return ModifyClusterParameterGroupResponse.builder()
+                .parameterGroupName(request.parameterGroupName())
+                .parameterGroupStatus("Your parameter group has been updated.")
+                .build();
+    }
+
+    @Override
+    public ResetClusterParameterGroupResponse resetClusterParameterGroup(final ResetClusterParameterGroupRequest request) {
+        call("resetClusterParameterGroup");
+        existingParameterGroup(request.parameterGroupName());
+        checkParameterCount(request.parameters());
+        request.parameters().forEach(parameter ->
+                userParameters.get(request.parameterGroupName()).remove(parameter.parameterName()));
+        return ResetClusterParameterGroupResponse.builder()
+                .parameterGroupName(request.parameterGroupName())
+                .parameterGroupStatus("Your parameter group has been reset.")
+                .build();
+    }
+
+    @Override
+    public DescribeTagsResponse describeTags(final DescribeTagsRequest request) {
+        call("describeTags");
+        final String parameterGroupName = parameterGroupNameOf(request.resourceName());
+        existingParameterGroup(parameterGroupName);
+        return DescribeTagsResponse.builder()
+                .taggedResources(tags.get(parameterGroupName).entrySet().stream()
+                        .map(tag -> TaggedResource.builder()
+                                .resourceName(request.resourceName())
+                                .resourceType("parametergroup")
+                                .tag(Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    public CreateTagsResponse createTags(final CreateTagsRequest request) {
+        call("createTags");
+        final String parameterGroupName = parameterGroupNameOf(request.resourceName());
+        existingParameterGroup(parameterGroupName);
+        request.tags().forEach(tag -> tags.get(parameterGroupName).put(tag.key(), tag.value()));
+        return CreateTagsResponse.builder().build();
+    }
+
+    @Override
+    public DeleteTagsResponse deleteTags(final DeleteTagsRequest request) {
+        call("deleteTags");
+        final String parameterGroupName = parameterGroupNameOf(request.resourceName());
+        existingParameterGroup(parameterGroupName);
+        request.tagKeys().forEach(tags.get(parameterGroupName)::remove);
+        return DeleteTagsResponse.builder().build();
+    }
+
+    private void call(final String operation) {
+        callCounts.merge(operation, 1, Integer::sum);
+        final Deque<RuntimeException> errors = injectedErrors.get(operation);
+        if (errors != null && !errors.isEmpty()) {
+            throw errors.poll();
+        }
+    }
+
+    private ClusterParameterGroup existingParameterGroup(final String parameterGroupName) {
+        final ClusterParameterGroup parameterGroup = parameterGroups.get(parameterGroupName);
+        if (parameterGroup == null) {
+            throw serviceError(ClusterParameterGroupNotFoundException.builder(), 404, "ClusterParameterGroupNotFound",
+                    String.format("Parameter group %s not found.", parameterGroupName));
+        }
+        return parameterGroup;
+    }
+
+    private static void checkParameterCount(final List<Parameter> parameters) {
+        if (parameters.size() > MAX_PARAMETERS_PER_REQUEST) {
+            throw serviceError(RedshiftException.builder(), 400, "InvalidParameterValue",
+                    String.format("At most %d parameters can be changed per request, got %d.", MAX_PARAMETERS_PER_REQUEST, parameters.size()));
+        }
+    }
+
+    private static String parameterGroupNameOf(final String resourceName) {
+        // arn:aws:redshift:<region>:<account>:parametergroup:<name>
+        return resourceName.substring(resourceName.lastIndexOf(':') + 1);
+    }
+
+    private static RedshiftException serviceError(final RedshiftException.Builder builder, final int statusCode,
+                                                  final String errorCode, final String message) {
+        return (RedshiftException) builder
+                .message(message)
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .serviceName(SERVICE_NAME)
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Runs the parameter group handler chains against FakeRedshiftClient, asserting on the end state, the number of
+ * invocations and the API calls they made.
+ */
+public class FakeRedshiftEndToEndTest extends AbstractTestBase {
+    private static final String PARAMETER_GROUP_NAME = "end-to-end";
+    // no family defaults, the parameters are applied unchecked
+    private static final String FAMILY = "redshift-end-to-end";
+    private static final String VALIDATED_FAMILY = "redshift-end-to-end-validated";
+
+    private FakeRedshiftClient redshift;
+    private HandlerRunner runner;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Files.deleteIfExists(ParameterMetadata.spillFile(FAMILY));
+        Files.deleteIfExists(ParameterMetadata.spillFile(VALIDATED_FAMILY));
+        redshift = new FakeRedshiftClient();
+        runner = new HandlerRunner(redshift);
+    }
+
+    @Test
+    public void create_WithParametersAndTags_ThenDelete() {
+        final ResourceModel model = model(FAMILY, parameter("auto_analyze", "false"), parameter("statement_timeout", "1000")).toBuilder()
+                .tags(Collections.singletonList(new Tag("team", "analytics")))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = runner.run(CreateHandler::new, request(model, null));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getParameters())
+                .extracting(Parameter::getParameterName)
+                .containsExactlyInAnyOrder("auto_analyze", "statement_timeout");
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME))
+                .containsEntry("auto_analyze", "false")
+                .containsEntry("statement_timeout", "1000");
+        assertThat(redshift.tags(PARAMETER_GROUP_NAME)).containsEntry("team", "analytics").containsEntry("stackKey", "stackValue");
+        assertThat(redshift.callCount("createClusterParameterGroup")).isEqualTo(1);
+        assertThat(redshift.callCount("modifyClusterParameterGroup")).isEqualTo(1);
+        assertThat(redshift.callCount("resetClusterParameterGroup")).isZero();
+        assertThat(runner.invocations()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = runner.run(DeleteHandler::new, request(created.getResourceModel(), null));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME)).isNull();
+        assertThat(redshift.callCount("deleteClusterParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_ParametersBeyondOneRequest_AppliedInBatches() {
+        redshift.withParameterGroup(PARAMETER_GROUP_NAME, FAMILY, Collections.<String, String>emptyMap());
+        final ResourceModel previousModel = model(FAMILY);
+        final ResourceModel desiredModel = model(FAMILY, numberedParameters(45));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).hasSize(45);
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME)).hasSize(45);
+        assertThat(redshift.callCount("modifyClusterParameterGroup")).isEqualTo(3);
+        assertThat(runner.invocations()).isEqualTo(1);
+        assertThat(runner.waited()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void update_ThrottledBatch_ResumesFromThatBatch() {
+        redshift.withParameterGroup(PARAMETER_GROUP_NAME, FAMILY, Collections.<String, String>emptyMap())
+                .throttle("modifyClusterParameterGroup", 1);
+        final ResourceModel previousModel = model(FAMILY);
+        final ResourceModel desiredModel = model(FAMILY, numberedParameters(45));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME)).hasSize(45);
+        // the throttled first batch is retried, the two others are applied once
+        assertThat(redshift.callCount("modifyClusterParameterGroup")).isEqualTo(4);
+        assertThat(runner.invocations()).isEqualTo(2);
+        assertThat(runner.waited()).isEqualTo(Duration.ofSeconds(BaseHandlerStd.THROTTLED_CALLBACK_DELAY_SECONDS));
+    }
+
+    @Test
+    public void update_RemovedParameter_ResetChangedParameterModified() {
+        redshift.withParameterGroup(PARAMETER_GROUP_NAME, FAMILY, ImmutableMap.of("auto_analyze", "false", "statement_timeout", "1000"));
+        final ResourceModel previousModel = model(FAMILY, parameter("auto_analyze", "false"), parameter("statement_timeout", "1000"));
+        final ResourceModel desiredModel = model(FAMILY, parameter("statement_timeout", "2000"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME)).containsExactly(entry("statement_timeout", "2000"));
+        assertThat(redshift.callCount("resetClusterParameterGroup")).isEqualTo(1);
+        assertThat(redshift.callCount("modifyClusterParameterGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_InvalidValue_FailsBeforeAnyChange() {
+        redshift.withParameterGroup(PARAMETER_GROUP_NAME, VALIDATED_FAMILY, ImmutableMap.of("statement_timeout", "1000"))
+                .withFamilyParameter(VALIDATED_FAMILY, "statement_timeout", "integer", "0-2147483647");
+        final ResourceModel previousModel = model(VALIDATED_FAMILY, parameter("statement_timeout", "1000"));
+        final ResourceModel desiredModel = model(VALIDATED_FAMILY, parameter("statement_timeout", "soon")).toBuilder()
+                .tags(Collections.singletonList(new Tag("team", "analytics")))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(UpdateHandler::new, request(desiredModel, previousModel));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(redshift.parameters(PARAMETER_GROUP_NAME)).containsExactly(entry("statement_timeout", "1000"));
+        assertThat(redshift.callCount("createTags")).isZero();
+        assertThat(redshift.callCount("modifyClusterParameterGroup")).isZero();
+    }
+
+    @Test
+    public void read_UserParametersOverSeveralPages() {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        numberedParameters(45).forEach(parameter -> parameters.put(parameter.getParameterName(), parameter.getParameterValue()));
+        redshift.withParameterGroup(PARAMETER_GROUP_NAME, FAMILY, parameters)
+                .withParametersPageSize(20);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(ReadHandler::new, request(model(FAMILY), null));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters())
+                .extracting(Parameter::getParameterName)
+                .containsExactlyElementsOf(parameters.keySet());
+        assertThat(redshift.callCount("describeClusterParameters")).isEqualTo(3);
+    }
+
+    @Test
+    public void delete_Missing_FailsNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = runner.run(DeleteHandler::new, request(model(FAMILY), null));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    private static ResourceModel model(final String family, final Parameter... parameters) {
+        return model(family, Arrays.asList(parameters));
+    }
+
+    private static ResourceModel model(final String family, final List<Parameter> parameters) {
+        return ResourceModel.builder()
+                .parameterGroupName(PARAMETER_GROUP_NAME)
+                .parameterGroupFamily(family)
+                .description(PARAMETER_GROUP_NAME)
+                .parameters(parameters)
+                .build();
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return Parameter.builder().parameterName(name).parameterValue(value).build();
+    }
+
+    private static List<Parameter> numberedParameters(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> parameter("parameter_" + index, String.valueOf(index)))
+                .collect(Collectors.toList());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .desiredResourceTags(Collections.singletonMap("stackKey", "stackValue"))
+                .previousResourceTags(Collections.singletonMap("stackKey", "stackValue"))
+                .region(TestUtils.AWS_REGION)
+                .awsPartition("aws")
+                .awsAccountId(TestUtils.AWS_ACCOUNT_ID)
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .build();
+    }
+}
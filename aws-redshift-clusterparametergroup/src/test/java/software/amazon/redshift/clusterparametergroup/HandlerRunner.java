@@ -0,0 +1,76 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * Drives a handler the way CloudFormation does: re-invokes it with the returned callback context
+ * until it stops reporting IN_PROGRESS, adding up the callback delays it asked for.
+ */
+class HandlerRunner {
+    private static final int MAX_INVOCATIONS = 100;
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final ProxyClient<RedshiftClient> proxyClient;
+    private int invocations;
+    private Duration waited = Duration.ZERO;
+
+    HandlerRunner(final FakeRedshiftClient client) {
+        this.proxy = new AmazonWebServicesClientProxy(AbstractTestBase.logger, AbstractTestBase.MOCK_CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+        this.proxyClient = AbstractTestBase.MOCK_PROXY(proxy, client);
+    }
+
+    /**
+     * @param handlerFactory a new handler per invocation, like a fresh Lambda container would have
+     * @param request the request, its desired state is replaced by the model of every progress event
+     * @return the first event that is not IN_PROGRESS, handler exceptions are turned into FAILED events
+     */
+    ProgressEvent<ResourceModel, CallbackContext> run(final Supplier<? extends BaseHandlerStd> handlerFactory,
+                                                      final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext callbackContext = new CallbackContext();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            invocations++;
+            final ProgressEvent<ResourceModel, CallbackContext> event;
+            try {
+                event = handlerFactory.get().handleRequest(proxy, request, callbackContext, proxyClient, AbstractTestBase.logger);
+            } catch (final BaseHandlerException e) {
+                return ProgressEvent.failed(request.getDesiredResourceState(), callbackContext, e.getErrorCode(), e.getMessage());
+            }
+            if (!event.isInProgress()) {
+                return event;
+            }
+            waited = waited.plusSeconds(event.getCallbackDelaySeconds());
+            if (event.getCallbackContext() != null) {
+                callbackContext = event.getCallbackContext();
+            }
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+        }
+        throw new AssertionError(String.format("Handler still in progress after %d invocations", MAX_INVOCATIONS));
+    }
+
+    /**
+     * @return handler invocations across every run of this runner
+     */
+    int invocations() {
+        return invocations;
+    }
+
+    /**
+     * @return the callback delays the handler asked for across every run of this runner
+     */
+    Duration waited() {
+        return waited;
+    }
+}
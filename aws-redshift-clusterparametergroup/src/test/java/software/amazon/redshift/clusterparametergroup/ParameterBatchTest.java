@@ -0,0 +1,41 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_TO_BE_RESET;
+
+public class ParameterBatchTest {
+
+    @Test
+    public void plan_ResetsFirstInApiSizedBatches() {
+        final List<Parameter> parameters = new ArrayList<>();
+        parameters.addAll(parameters("modified_", 25, "1"));
+        parameters.addAll(parameters("reset_", 21, NEED_TO_BE_RESET));
+
+        final List<ParameterBatch> batches = ParameterBatch.plan(parameters);
+
+        assertThat(batches).extracting(ParameterBatch::isReset).containsExactly(true, true, false, false);
+        assertThat(batches).extracting(batch -> batch.getParameters().size()).containsExactly(20, 1, 20, 5);
+        assertThat(batches.get(2).getParameters().get(0).getParameterName()).isEqualTo("modified_0");
+    }
+
+    @Test
+    public void plan_NothingToApply() {
+        assertThat(ParameterBatch.plan(null)).isEmpty();
+    }
+
+    private static List<Parameter> parameters(final String prefix, final int count, final String value) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> Parameter.builder()
+                        .parameterName(prefix + index)
+                        .parameterValue(value)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_TO_BE_RESET;
+
+public class ParameterDiffTest {
+
+    @Test
+    public void between_ClassifiesEveryParameterOnce() {
+        final ParameterDiff diff = ParameterDiff.between(
+                Arrays.asList(
+                        parameter("Auto_Analyze", "true"),
+                        parameter("datestyle", "ISO, DMY"),
+                        parameter("statement_timeout", "1000")),
+                Arrays.asList(
+                        parameter("auto_analyze", "true"),
+                        parameter("datestyle", "ISO, MDY"),
+                        parameter("max_concurrency_scaling_clusters", "2")));
+
+        assertThat(diff.getKinds().keySet())
+                .containsExactly("auto_analyze", "datestyle", "statement_timeout", "max_concurrency_scaling_clusters");
+        assertThat(diff.getKinds().values()).containsExactly(
+                ParameterDiff.Kind.UNCHANGED, ParameterDiff.Kind.CHANGE, ParameterDiff.Kind.ADD, ParameterDiff.Kind.RESET);
+        assertThat(diff.getUpdatableParameters()).containsExactly(
+                parameter("datestyle", "ISO, DMY"),
+                parameter("statement_timeout", "1000"),
+                parameter("max_concurrency_scaling_clusters", NEED_TO_BE_RESET));
+    }
+
+    @Test
+    public void sameValue_JsonComparedSemantically() {
+        assertThat(ParameterDiff.sameValue(
+                "[{\"query_group\":\"etl\",\"query_concurrency\":7},{\"query_concurrency\":5}]",
+                "[ {\"query_concurrency\": 7, \"query_group\": \"etl\"}, {\"query_concurrency\":5} ]")).isTrue();
+        // queue order is meaningful in WLM
+        assertThat(ParameterDiff.sameValue(
+                "[{\"query_concurrency\":7},{\"query_concurrency\":5}]",
+                "[{\"query_concurrency\":5},{\"query_concurrency\":7}]")).isFalse();
+    }
+
+    @Test
+    public void sameValue_InvalidJsonIsAChange() {
+        assertThat(ParameterDiff.sameValue("{invalid]", "{ invalid]")).isFalse();
+        assertThat(ParameterDiff.canonicalJson("{invalid]")).isEmpty();
+    }
+
+    @Test
+    public void between_NothingDesired() {
+        final ParameterDiff diff = ParameterDiff.between(null, Collections.singletonList(parameter("auto_analyze", "true")));
+
+        assertThat(diff.getUpdatableParameters()).containsExactly(parameter("auto_analyze", NEED_TO_BE_RESET));
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return Parameter.builder()
+                .parameterName(name)
+                .parameterValue(value)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DefaultClusterParameters;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParameterMetadataTest extends AbstractTestBase {
+
+    private RedshiftClient sdkClient;
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Files.deleteIfExists(ParameterMetadata.spillFile("redshift-metadata-test"));
+        Files.deleteIfExists(ParameterMetadata.spillFile("redshift-empty-test"));
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @Test
+    public void forFamily_ReadsEveryPageOnce() {
+        when(sdkClient.describeDefaultClusterParametersPaginator(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(sdkClient.describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenReturn(DescribeDefaultClusterParametersResponse.builder()
+                        .defaultClusterParameters(DefaultClusterParameters.builder()
+                                .parameters(sdkParameter("statement_timeout", "dynamic"))
+                                .marker("page-2")
+                                .build())
+                        .build())
+                .thenReturn(DescribeDefaultClusterParametersResponse.builder()
+                        .defaultClusterParameters(DefaultClusterParameters.builder()
+                                .parameters(sdkParameter("enable_user_activity_logging", "static"))
+                                .build())
+                        .build());
+
+        final ParameterMetadata metadata = ParameterMetadata.forFamily("redshift-metadata-test", proxyClient);
+
+        assertThat(metadata.requiresReboot("STATEMENT_TIMEOUT")).isFalse();
+        assertThat(metadata.requiresReboot("enable_user_activity_logging")).isTrue();
+        assertThat(metadata.requiresReboot("unknown_parameter")).isTrue();
+        assertThat(ParameterMetadata.forFamily("redshift-metadata-test", proxyClient)).isSameAs(metadata);
+        verify(sdkClient, times(2)).describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class));
+    }
+
+    @Test
+    public void forFamily_EmptyReadNotCached() {
+        when(sdkClient.describeDefaultClusterParametersPaginator(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(sdkClient.describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenReturn(DescribeDefaultClusterParametersResponse.builder().build())
+                .thenReturn(DescribeDefaultClusterParametersResponse.builder()
+                        .defaultClusterParameters(DefaultClusterParameters.builder()
+                                .parameters(sdkParameter("statement_timeout", "dynamic"))
+                                .build())
+                        .build());
+
+        assertThat(ParameterMetadata.forFamily("redshift-empty-test", proxyClient).isEmpty()).isTrue();
+        final ParameterMetadata metadata = ParameterMetadata.forFamily("redshift-empty-test", proxyClient);
+
+        assertThat(metadata.get("statement_timeout")).isPresent();
+        assertThat(ParameterMetadata.forFamily("redshift-empty-test", proxyClient)).isSameAs(metadata);
+        verify(sdkClient, times(2)).describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class));
+    }
+
+    @Test
+    public void forFamily_ReadsSpillOfWarmContainer() throws IOException {
+        final String family = "redshift-spill-test";
+        Files.createDirectories(ParameterMetadata.spillFile(family).getParent());
+        Files.write(ParameterMetadata.spillFile(family),
+                ("[{\"ParameterName\":\"statement_timeout\",\"ApplyType\":\"dynamic\",\"DataType\":\"integer\","
+                        + "\"AllowedValues\":\"0-2147483647\",\"IsModifiable\":\"true\"}]").getBytes(StandardCharsets.UTF_8));
+
+        final ParameterMetadata metadata = ParameterMetadata.forFamily(family, proxyClient);
+
+        assertThat(metadata.requiresReboot("statement_timeout")).isFalse();
+        assertThat(metadata.get("statement_timeout").get().allowedValues()).isEqualTo("0-2147483647");
+        assertThat(metadata.get("statement_timeout").get().isModifiable()).isTrue();
+        verify(sdkClient, never()).describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class));
+    }
+
+    private static software.amazon.awssdk.services.redshift.model.Parameter sdkParameter(final String name, final String applyType) {
+        return software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                .parameterName(name)
+                .applyType(applyType)
+                .build();
+    }
+}
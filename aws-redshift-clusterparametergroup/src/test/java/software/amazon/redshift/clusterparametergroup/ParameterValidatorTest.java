@@ -0,0 +1,86 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterValidatorTest {
+
+    private static final ParameterMetadata METADATA = metadata(
+            definition("statement_timeout", "integer", "0-2147483647", true),
+            definition("enable_user_activity_logging", "boolean", "true,false", true),
+            definition("wlm_json_configuration", "string", "", true),
+            definition("search_path", "string", "", true),
+            definition("max_concurrency_scaling_clusters", "integer", "0-10", false));
+
+    @Test
+    public void validate_ValidParameters() {
+        final List<String> errors = ParameterValidator.validate(Arrays.asList(
+                parameter("STATEMENT_TIMEOUT", "60000"),
+                parameter("enable_user_activity_logging", "TRUE"),
+                parameter("wlm_json_configuration", "[{\"query_concurrency\": 5}]"),
+                parameter("search_path", "$user, public")), METADATA);
+
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    public void validate_ReportsEveryInvalidParameter() {
+        final List<String> errors = ParameterValidator.validate(Arrays.asList(
+                parameter("statement_timeout", "-1"),
+                parameter("enable_user_activity_logging", "yes"),
+                parameter("wlm_json_configuration", "{invalid]"),
+                parameter("max_concurrency_scaling_clusters", "1")), METADATA);
+
+        assertThat(errors).hasSize(4);
+        assertThat(errors.get(0)).contains("0-2147483647");
+        assertThat(errors.get(1)).contains("true or false");
+        assertThat(errors.get(2)).contains("JSON");
+        assertThat(errors.get(3)).contains("can't be modified");
+    }
+
+    @Test
+    public void validate_UnknownNameLeftToService() {
+        final List<Parameter> parameters = Arrays.asList(
+                parameter("statment_timeout", "60000"),
+                parameter("statement_timeout", "60000"));
+
+        assertThat(ParameterValidator.validate(parameters, METADATA)).isEmpty();
+        assertThat(ParameterValidator.unknownParameters(parameters, METADATA)).containsExactly("statment_timeout");
+    }
+
+    @Test
+    public void validate_IntegerThatIsNotANumber() {
+        assertThat(ParameterValidator.validate(Arrays.asList(parameter("statement_timeout", "1m")), METADATA))
+                .containsExactly("statement_timeout must be an integer, got 1m");
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return Parameter.builder().parameterName(name).parameterValue(value).build();
+    }
+
+    private static software.amazon.awssdk.services.redshift.model.Parameter definition(final String name,
+                                                                                        final String dataType,
+                                                                                        final String allowedValues,
+                                                                                        final boolean modifiable) {
+        return software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                .parameterName(name)
+                .dataType(dataType)
+                .allowedValues(allowedValues)
+                .isModifiable(modifiable)
+                .build();
+    }
+
+    private static ParameterMetadata metadata(final software.amazon.awssdk.services.redshift.model.Parameter... definitions) {
+        final Map<String, software.amazon.awssdk.services.redshift.model.Parameter> parameters = new HashMap<>();
+        for (software.amazon.awssdk.services.redshift.model.Parameter definition : definitions) {
+            parameters.put(definition.parameterName(), definition);
+        }
+        return new ParameterMetadata("redshift-1.0", parameters);
+    }
+}
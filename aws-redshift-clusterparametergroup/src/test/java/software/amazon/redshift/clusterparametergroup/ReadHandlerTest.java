@@ -1,8 +1,11 @@
 package software.amazon.redshift.clusterparametergroup;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
@@ -19,10 +22,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.AWS_REGION;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.CLUSTER_PARAMETER_GROUP;
@@ -32,6 +43,7 @@ import static software.amazon.redshift.clusterparametergroup.TestUtils.DESCRIBE_
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @Mock
     RedshiftClient sdkClient;
@@ -50,9 +62,11 @@ public class ReadHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_Success() {
+    public void handleRequest_Success() throws Exception {
         final ResourceModel model = COMPLETE_MODEL;
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder().build());
 
@@ -72,10 +86,104 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        final List<String> logLines = new ArrayList<>();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        System.setProperty(Tracer.TRACING_SETTING, "logger");
+        try {
+            response = handler.handleRequest(entryProxy, request, new CallbackContext(), logLines::add);
+        } finally {
+            System.clearProperty(Tracer.TRACING_SETTING);
+        }
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
+
+        final Map<String, JsonNode> apiCalls = new HashMap<>();
+        for (final String line : logLines) {
+            if (line.contains(ApiCallMetrics.NAMESPACE)) {
+                final JsonNode apiCall = MAPPER.readTree(line);
+                apiCalls.put(apiCall.get("Operation").asText(), apiCall);
+            }
+        }
+        // the parameter pages are fetched lazily by the paginator, so only its retries would show up
+        assertThat(apiCalls).containsOnlyKeys("DescribeClusterParameterGroups", "DescribeTags");
+        assertThat(apiCalls.get("DescribeClusterParameterGroups").get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(apiCalls.get("DescribeClusterParameterGroups").get("Calls").asInt()).isEqualTo(1);
+        assertThat(apiCalls.get("DescribeTags").get("Calls").asInt()).isEqualTo(1);
+        assertThat(apiCalls.get("DescribeTags").get("Errors").asInt()).isEqualTo(0);
+
+        final List<JsonNode> spans = new ArrayList<>();
+        for (final String line : logLines) {
+            if (line.contains("\"spanId\"")) {
+                spans.add(MAPPER.readTree(line));
+            }
+        }
+        // the invocation span ends last, the describe calls are nested under it
+        assertThat(spans).hasSize(3);
+        final JsonNode invocationSpan = spans.get(2);
+        assertThat(spans.subList(0, 2)).extracting(span -> span.get("name").asText())
+                .containsExactly("Redshift.DescribeClusterParameterGroups", "Redshift.DescribeTags");
+        assertThat(spans.subList(0, 2)).extracting(span -> span.get("parentSpanId").asText())
+                .containsOnly(invocationSpan.get("spanId").asText());
+        assertThat(invocationSpan.get("name").asText()).isEqualTo(ResourceModel.TYPE_NAME + " ReadHandler");
+        assertThat(invocationSpan.at("/attributes/aws.cfn.operation_status").asText()).isEqualTo("SUCCESS");
+        assertThat(invocationSpan.at("/status/code").asText()).isEqualTo("OK");
+    }
+
+    @Test
+    public void handleRequest_ReadsUserParametersFromEveryPage() {
+        final ResourceModel model = COMPLETE_MODEL;
+        final software.amazon.awssdk.services.redshift.model.Parameter firstPageParameter = software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                .parameterName("auto_analyze")
+                .parameterValue("true")
+                .source("user")
+                .build();
+        final software.amazon.awssdk.services.redshift.model.Parameter secondPageParameter = software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                .parameterName("statement_timeout")
+                .parameterValue("1000")
+                .source("user")
+                .build();
+
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(firstPageParameter)
+                        .marker("page-2")
+                        .build())
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(secondPageParameter)
+                        .build());
+
+        when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
+                .thenReturn(DescribeClusterParameterGroupsResponse.builder()
+                        .parameterGroups(CLUSTER_PARAMETER_GROUP)
+                        .build());
+
+        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
+                .thenReturn(DESCRIBE_TAGS_RESPONSE_CREATING);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region(AWS_REGION)
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters())
+                .extracting(Parameter::getParameterName)
+                .containsExactly("auto_analyze", "statement_timeout");
+
+        final ArgumentCaptor<DescribeClusterParametersRequest> captor = ArgumentCaptor.forClass(DescribeClusterParametersRequest.class);
+        verify(proxyClient.client(), times(2)).describeClusterParameters(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeClusterParametersRequest::source).containsOnly("user");
+        assertThat(captor.getAllValues().get(1).marker()).isEqualTo("page-2");
     }
 }
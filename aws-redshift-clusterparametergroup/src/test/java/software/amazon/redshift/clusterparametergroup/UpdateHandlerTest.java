@@ -11,34 +11,46 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DefaultClusterParameters;
 import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.AWS_REGION;
@@ -95,6 +107,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
                 .thenReturn(DESCRIBE_TAGS_RESPONSE_CREATING);
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder().build());
 
@@ -118,6 +132,42 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
     }
 
+    @Test
+    public void handleRequest_UpdateTagsFromPreviousState() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .previousResourceState(COMPLETE_MODEL.toBuilder().tags(null).build())
+                .previousResourceTags(PREVIOUS_TAGS)
+                .region(AWS_REGION)
+                .build();
+
+        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
+                .thenReturn(DESCRIBE_TAGS_RESPONSE_CREATING);
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
+                .thenReturn(DescribeClusterParametersResponse.builder().build());
+        when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
+                .thenReturn(DescribeClusterParameterGroupsResponse.builder()
+                        .parameterGroups(CLUSTER_PARAMETER_GROUP)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        ArgumentCaptor<CreateTagsRequest> createTagArgument = ArgumentCaptor.forClass(CreateTagsRequest.class);
+        verify(proxyClient.client()).createTags(createTagArgument.capture());
+        assertThat(createTagArgument.getValue().tags())
+                .extracting(software.amazon.awssdk.services.redshift.model.Tag::key)
+                .containsExactlyInAnyOrder("key1", "key3");
+        ArgumentCaptor<DeleteTagsRequest> deleteTagArgument = ArgumentCaptor.forClass(DeleteTagsRequest.class);
+        verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
+        assertThat(deleteTagArgument.getValue().tagKeys()).containsExactly("key4");
+        // only the final read, the previous state is enough to reconcile
+        verify(proxyClient.client(), times(1)).describeTags(any(DescribeTagsRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -138,6 +188,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .parameterGroupStatus("Your parameter group has been updated")
                         .build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(PREVIOUS_PARAMETERS))
@@ -194,6 +246,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .parameterGroupStatus("Your parameter group has been updated")
                         .build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(PREVIOUS_PARAMETERS))
@@ -316,6 +370,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
                 .thenReturn(CreateTagsResponse.builder().build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(previousParameters))
@@ -343,4 +399,102 @@ public class UpdateHandlerTest extends AbstractTestBase {
             Assertions.assertTrue(parametersEquals(resetCaptor.getValue().parameters(), getSdkParametersFromParameters(resetParameters)));
         }
     }
+
+    @Test
+    public void handleRequest_ThrottledBatchResumesFromThatBatch() {
+        final List<Parameter> desiredParameters = IntStream.range(0, 45)
+                .mapToObj(index -> Parameter.builder()
+                        .parameterName("parameter_" + index)
+                        .parameterValue(String.valueOf(index))
+                        .build())
+                .collect(Collectors.toList());
+        final ResourceModel desiredModel = COMPLETE_MODEL.toBuilder()
+                .parameters(desiredParameters)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .region(AWS_REGION)
+                .build();
+
+        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
+                .thenReturn(DescribeTagsResponse.builder().build());
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
+                .thenReturn(DescribeClusterParametersResponse.builder().build());
+        when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
+                .thenReturn(DescribeClusterParameterGroupsResponse.builder()
+                        .parameterGroups(CLUSTER_PARAMETER_GROUP)
+                        .build());
+
+        ArgumentCaptor<ModifyClusterParameterGroupRequest> cap = ArgumentCaptor.forClass(ModifyClusterParameterGroupRequest.class);
+        when(proxyClient.client().modifyClusterParameterGroup(cap.capture()))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build())
+                .thenThrow(RedshiftException.builder()
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                        .build())
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> throttled = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.THROTTLED_CALLBACK_DELAY_SECONDS);
+        assertThat(throttled.getResourceModel()).isEqualTo(desiredModel);
+        assertThat(callbackContext.getParameterBatches()).hasSize(3);
+        assertThat(callbackContext.getParameterBatchesApplied()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getParameterBatchesApplied()).isEqualTo(3);
+        assertThat(cap.getAllValues())
+                .extracting(modifyRequest -> modifyRequest.parameters().size())
+                .containsExactly(20, 20, 20, 5);
+        assertThat(cap.getAllValues().get(1).parameters()).isEqualTo(cap.getAllValues().get(2).parameters());
+        verify(proxyClient.client(), never()).resetClusterParameterGroup(any(ResetClusterParameterGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_InvalidParametersFailBeforeAnyChange() throws IOException {
+        final String family = "redshift-validation-test";
+        Files.deleteIfExists(ParameterMetadata.spillFile(family));
+        final ResourceModel desiredModel = COMPLETE_MODEL.toBuilder()
+                .parameterGroupFamily(family)
+                .parameters(Arrays.asList(
+                        Parameter.builder().parameterName("statement_timeout").parameterValue("soon").build(),
+                        Parameter.builder().parameterName("no_such_parameter").parameterValue("1").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .region(AWS_REGION)
+                .build();
+
+        when(proxyClient.client().describeDefaultClusterParametersPaginator(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenCallRealMethod();
+        when(proxyClient.client().describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenReturn(DescribeDefaultClusterParametersResponse.builder()
+                        .defaultClusterParameters(DefaultClusterParameters.builder()
+                                .parameters(software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                                        .parameterName("statement_timeout")
+                                        .dataType("integer")
+                                        .allowedValues("0-2147483647")
+                                        .isModifiable(true)
+                                        .build())
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("statement_timeout").doesNotContain("no_such_parameter");
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+        verify(proxyClient.client(), never()).createTags(any(CreateTagsRequest.class));
+        verify(proxyClient.client(), never()).modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class));
+        verify(proxyClient.client(), never()).resetClusterParameterGroup(any(ResetClusterParameterGroupRequest.class));
+    }
 }
@@ -0,0 +1,206 @@
+package software.amazon.redshift.clustersubnetgroup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Optional, dependency free tracing in the shape of OpenTelemetry spans, exported as one JSON line per span.
+ *
+ * Turned on through the REDSHIFT_CFN_TRACING environment variable or system property: "logger" writes the spans
+ * through the handler logger, "file:PATH" appends them to a file. Anything else leaves tracing off.
+ * The trace id is derived from the client request token, which stays the same across the re-invocations of one
+ * stack operation, so the spans of every invocation end up in the same trace.
+ */
+class Tracer {
+    static final String TRACING_SETTING = "REDSHIFT_CFN_TRACING";
+    private static final String LOGGER_EXPORTER = "logger";
+    private static final String FILE_EXPORTER_PREFIX = "file:";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Tracer DISABLED = new Tracer(null, null);
+
+    private final String traceId;
+    private final Consumer<String> exporter;
+    private final Deque<Span> currentSpans = new ArrayDeque<>();
+
+    Tracer(final String traceId, final Consumer<String> exporter) {
+        this.traceId = traceId;
+        this.exporter = exporter;
+    }
+
+    static Tracer disabled() {
+        return DISABLED;
+    }
+
+    static Tracer fromEnvironment(final ResourceHandlerRequest<?> request, final Logger logger) {
+        String setting = System.getenv(TRACING_SETTING);
+        if (setting == null) {
+            setting = System.getProperty(TRACING_SETTING);
+        }
+        final Consumer<String> exporter;
+        if (LOGGER_EXPORTER.equals(setting)) {
+            exporter = logger::log;
+        } else if (setting != null && setting.startsWith(FILE_EXPORTER_PREFIX)) {
+            exporter = fileExporter(setting.substring(FILE_EXPORTER_PREFIX.length()), logger);
+        } else {
+            return DISABLED;
+        }
+        return new Tracer(traceId(request.getClientRequestToken()), exporter);
+    }
+
+    static String traceId(final String clientRequestToken) {
+        final UUID uuid = clientRequestToken == null ? UUID.randomUUID()
+                : UUID.nameUUIDFromBytes(clientRequestToken.getBytes(StandardCharsets.UTF_8));
+        return uuid.toString().replace("-", "");
+    }
+
+    boolean isEnabled() {
+        return exporter != null;
+    }
+
+    /**
+     * Starts a span under the current span. It only becomes the parent of later spans through {@link Span#makeCurrent()}.
+     * @param name span name
+     * @return the started span, a no-op span when tracing is off
+     */
+    synchronized Span startSpan(final String name) {
+        if (!isEnabled()) {
+            return Span.NOOP;
+        }
+        final Span parent = currentSpans.peek();
+        return new Span(this, name, parent == null ? null : parent.spanId);
+    }
+
+    /**
+     * Starts the root span of a handler invocation and makes it current.
+     * @param request the handler request
+     * @param handler handler class name
+     * @return the started span
+     */
+    Span startInvocationSpan(final ResourceHandlerRequest<?> request, final String handler) {
+        return startSpan(ResourceModel.TYPE_NAME + " " + handler)
+                .attribute("aws.cfn.resource_type", ResourceModel.TYPE_NAME)
+                .attribute("aws.cfn.handler", handler)
+                .attribute("aws.cfn.logical_resource_id", request.getLogicalResourceIdentifier())
+                .attribute("aws.cfn.client_request_token", request.getClientRequestToken())
+                .makeCurrent();
+    }
+
+    private synchronized void makeCurrent(final Span span) {
+        currentSpans.push(span);
+    }
+
+    private synchronized void end(final Span span) {
+        currentSpans.remove(span);
+        final Map<String, Object> line = new LinkedHashMap<>();
+        line.put("traceId", traceId);
+        line.put("spanId", span.spanId);
+        line.put("parentSpanId", span.parentSpanId);
+        line.put("name", span.name);
+        line.put("startTimeUnixNano", span.startTimeUnixNano);
+        line.put("endTimeUnixNano", span.endTimeUnixNano);
+        line.put("attributes", span.attributes);
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("code", span.errorMessage == null ? "OK" : "ERROR");
+        if (span.errorMessage != null) {
+            status.put("message", span.errorMessage);
+        }
+        line.put("status", status);
+        try {
+            exporter.accept(MAPPER.writeValueAsString(line));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Consumer<String> fileExporter(final String path, final Logger logger) {
+        return line -> {
+            try {
+                Files.write(Paths.get(path), Collections.singletonList(line), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (final IOException e) {
+                // tracing must never fail the handler
+                logger.log(String.format("Could not export span to %s: %s", path, e.getMessage()));
+            }
+        };
+    }
+
+    private static long nowUnixNanos() {
+        final Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    static class Span {
+        static final Span NOOP = new Span(null, null, null);
+
+        private final Tracer tracer;
+        private final String name;
+        private final String spanId;
+        private final String parentSpanId;
+        private final long startTimeUnixNano;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private long endTimeUnixNano;
+        private String errorMessage;
+        private boolean ended;
+
+        private Span(final Tracer tracer, final String name, final String parentSpanId) {
+            this.tracer = tracer;
+            this.name = name;
+            this.spanId = String.format("%016x", ThreadLocalRandom.current().nextLong());
+            this.parentSpanId = parentSpanId;
+            this.startTimeUnixNano = nowUnixNanos();
+        }
+
+        Span attribute(final String key, final Object value) {
+            if (tracer != null && value != null) {
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        Span makeCurrent() {
+            if (tracer != null) {
+                tracer.makeCurrent(this);
+            }
+            return this;
+        }
+
+        Span error(final Throwable error) {
+            if (tracer != null && error != null) {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof AwsServiceException && ((AwsServiceException) cause).awsErrorDetails() != null) {
+                    attribute("aws.error_code", ((AwsServiceException) cause).awsErrorDetails().errorCode());
+                }
+                errorMessage = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            }
+            return this;
+        }
+
+        void end() {
+            if (tracer == null || ended) {
+                return;
+            }
+            ended = true;
+            endTimeUnixNano = nowUnixNanos();
+            tracer.end(this);
+        }
+    }
+}
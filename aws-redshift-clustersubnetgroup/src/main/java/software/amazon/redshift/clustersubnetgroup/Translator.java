@@ -24,11 +24,11 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -169,10 +169,6 @@ public class Translator {
             .build();
   }
 
-  static Set<String> getTagsKeySet(final Collection<Tag> tags) {
-    return tags.stream().map(tag -> tag.key()).collect(Collectors.toSet());
-  }
-
   static CreateTagsRequest createTagsRequest(final Collection<Tag> tags, final String arn) {
     return CreateTagsRequest.builder()
             .resourceName(arn)
@@ -195,9 +191,13 @@ public class Translator {
     return String.format("arn:%s:redshift:%s:%s:subnetgroup:%s", partition, request.getRegion(), request.getAwsAccountId(), subnetGroupName);
   }
 
-  static List<Tag> getTags(final String arn, final AmazonWebServicesClientProxy proxy, final ProxyClient<RedshiftClient> proxyClient) {
+  static Map<String, String> getTags(final String arn, final AmazonWebServicesClientProxy proxy, final ProxyClient<RedshiftClient> proxyClient) {
     final DescribeTagsResponse response = proxy.injectCredentialsAndInvokeV2(Translator.describeTagsRequest(arn), proxyClient.client()::describeTags);
-    return response.taggedResources().stream().map(TaggedResource::tag).collect(Collectors.toList());
+    final Map<String, String> tags = new LinkedHashMap<>();
+    streamOfOrEmpty(response.taggedResources())
+            .map(TaggedResource::tag)
+            .forEach(tag -> tags.put(tag.key(), tag.value()));
+    return tags;
   }
 
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
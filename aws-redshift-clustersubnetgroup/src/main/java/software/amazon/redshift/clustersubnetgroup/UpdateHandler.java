@@ -1,8 +1,6 @@
 package software.amazon.redshift.clustersubnetgroup;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Sets;
-import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
@@ -16,7 +14,6 @@ import software.amazon.awssdk.services.redshift.model.ModifyClusterSubnetGroupRe
 import software.amazon.awssdk.services.redshift.model.ModifyClusterSubnetGroupResponse;
 import software.amazon.awssdk.services.redshift.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.redshift.model.SubnetAlreadyInUseException;
-import software.amazon.awssdk.services.redshift.model.Tag;
 import software.amazon.awssdk.services.redshift.model.TagLimitExceededException;
 import software.amazon.awssdk.services.redshift.model.TaggedResource;
 import software.amazon.awssdk.services.redshift.model.UnauthorizedOperationException;
@@ -30,10 +27,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
@@ -81,20 +75,18 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         try {
             final String arn = Translator.getArn(request);
-            final List<Tag> prevTags = Translator.getTags(arn, proxy, proxyClient);
-            final List<Tag> currTags = Translator.translateTagsMapToTagCollection(request.getDesiredResourceTags());
-            final Set<Tag> prevTagSet = CollectionUtils.isEmpty(prevTags) ? new HashSet<>() : new HashSet<>(prevTags);
-            final Set<Tag> currTagSet = CollectionUtils.isEmpty(currTags) ? new HashSet<>() : new HashSet<>(currTags);
+            // the previous tags are what CloudFormation applied, only read them back when there's no previous state
+            final Map<String, String> currentTags = request.getPreviousResourceState() != null
+                    ? request.getPreviousResourceTags()
+                    : Translator.getTags(arn, proxy, proxyClient);
+            final TagReconciler tags = TagReconciler.reconcile(currentTags, request.getDesiredResourceTags());
 
-            List<Tag> tagsToCreate = Sets.difference(currTagSet, prevTagSet).immutableCopy().asList();
-            List<String> tagsKeyToDelete = Sets.difference(Translator.getTagsKeySet(prevTagSet), Translator.getTagsKeySet(currTagSet)).immutableCopy().asList();
-
-            if(CollectionUtils.isNotEmpty(tagsToCreate)) {
-                proxy.injectCredentialsAndInvokeV2(Translator.createTagsRequest(tagsToCreate, arn), proxyClient.client()::createTags);
+            if (!tags.getTagsToAdd().isEmpty()) {
+                proxy.injectCredentialsAndInvokeV2(Translator.createTagsRequest(Translator.translateTagsMapToTagCollection(tags.getTagsToAdd()), arn), proxyClient.client()::createTags);
             }
 
-            if(CollectionUtils.isNotEmpty(tagsKeyToDelete)) {
-                proxy.injectCredentialsAndInvokeV2(Translator.deleteTagsRequest(tagsKeyToDelete, arn), proxyClient.client()::deleteTags);
+            if (!tags.getTagKeysToRemove().isEmpty()) {
+                proxy.injectCredentialsAndInvokeV2(Translator.deleteTagsRequest(tags.getTagKeysToRemove(), arn), proxyClient.client()::deleteTags);
             }
 
         } catch (final InvalidTagException | TagLimitExceededException e) {
@@ -37,6 +37,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.collect.ImmutableMap;
+
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -159,4 +161,41 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
         assertEquals(DELETE_TAGS_REQUEST.tagKeys(), deleteTagArgument.getValue().tagKeys());
     }
+
+    @Test
+    public void handleRequest_UpdateTagsFromPreviousState() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BASIC_MODEL)
+                .previousResourceState(BASIC_MODEL)
+                .region(AWS_REGION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .previousResourceTags(ImmutableMap.of("key1", "val1", "key3", "val3"))
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .build();
+
+        when(proxyClient.client().modifyClusterSubnetGroup(any(ModifyClusterSubnetGroupRequest.class)))
+                .thenReturn(ModifyClusterSubnetGroupResponse.builder()
+                        .clusterSubnetGroup(BASIC_CLUSTER_SUBNET_GROUP)
+                        .build());
+
+        when(proxyClient.client().describeClusterSubnetGroups(any(DescribeClusterSubnetGroupsRequest.class)))
+                .thenReturn(DescribeClusterSubnetGroupsResponse.builder()
+                        .clusterSubnetGroups(BASIC_CLUSTER_SUBNET_GROUP)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+
+        ArgumentCaptor<CreateTagsRequest> createTagArgument = ArgumentCaptor.forClass(CreateTagsRequest.class);
+        verify(proxyClient.client()).createTags(createTagArgument.capture());
+        assertThat(createTagArgument.getValue().tags()).extracting(Tag::key).containsExactly("key2", "stackKey");
+
+        ArgumentCaptor<DeleteTagsRequest> deleteTagArgument = ArgumentCaptor.forClass(DeleteTagsRequest.class);
+        verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
+        assertThat(deleteTagArgument.getValue().tagKeys()).containsExactly("key3");
+    }
 }
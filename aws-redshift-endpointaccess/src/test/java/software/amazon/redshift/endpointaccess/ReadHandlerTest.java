@@ -1,5 +1,7 @@
 package software.amazon.redshift.endpointaccess;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,17 +20,22 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -53,7 +60,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_SimpleSuccess() {
+    public void handleRequest_SimpleSuccess() throws Exception {
         final ReadHandler handler = new ReadHandler();
 
         final ResourceModel model = ResourceModel.builder().build();
@@ -75,9 +82,17 @@ public class ReadHandlerTest extends AbstractTestBase {
                 mockedTranslator.when(() -> Translator.translateFromReadResponse(any(DescribeEndpointAccessResponse.class)))
                         .thenReturn(model);
 
-                final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
-                        proxy, request, new CallbackContext(), proxyClient, logger
-                );
+                final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+                doReturn(proxyClient).when(entryProxy).newProxy(any());
+                final List<String> logLines = new ArrayList<>();
+
+                final ProgressEvent<ResourceModel, CallbackContext> response;
+                System.setProperty(Tracer.TRACING_SETTING, "logger");
+                try {
+                    response = handler.handleRequest(entryProxy, request, new CallbackContext(), logLines::add);
+                } finally {
+                    System.clearProperty(Tracer.TRACING_SETTING);
+                }
 
                 assertThat(response).isNotNull();
                 assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -86,6 +101,29 @@ public class ReadHandlerTest extends AbstractTestBase {
                 assertThat(response.getResourceModels()).isNull();
                 assertThat(response.getMessage()).isNull();
                 assertThat(response.getErrorCode()).isNull();
+
+                final JsonNode apiCalls = MAPPER.readTree(logLines.stream().filter(line -> line.contains(ApiCallMetrics.NAMESPACE)).findFirst().get());
+                assertThat(apiCalls.get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+                assertThat(apiCalls.get("Operation").asText()).isEqualTo("DescribeEndpointAccess");
+                assertThat(apiCalls.get("Calls").asInt()).isEqualTo(1);
+                assertThat(apiCalls.get("Errors").asInt()).isEqualTo(0);
+
+                final List<JsonNode> spans = new ArrayList<>();
+                for (final String line : logLines) {
+                    if (line.contains("\"spanId\"")) {
+                        spans.add(MAPPER.readTree(line));
+                    }
+                }
+                // the invocation span ends last, the describe calls are nested under it
+                assertThat(spans).hasSize(2);
+                final JsonNode invocationSpan = spans.get(1);
+                final JsonNode apiCallSpan = spans.get(0);
+                assertThat(apiCallSpan.get("name").asText()).isEqualTo("Redshift.DescribeEndpointAccess");
+                assertThat(apiCallSpan.get("parentSpanId").asText()).isEqualTo(invocationSpan.get("spanId").asText());
+                assertThat(apiCallSpan.get("traceId").asText()).isEqualTo(invocationSpan.get("traceId").asText());
+                assertThat(invocationSpan.get("name").asText()).isEqualTo(ResourceModel.TYPE_NAME + " ReadHandler");
+                assertThat(invocationSpan.at("/attributes/aws.cfn.operation_status").asText()).isEqualTo("SUCCESS");
+                assertThat(invocationSpan.at("/status/code").asText()).isEqualTo("OK");
             }
         }
     }
@@ -0,0 +1,78 @@
+package software.amazon.redshift.endpointauthorization;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
+
+/**
+ * Translator paths the endpoint authorization handlers run on every invocation, including the
+ * VPC diff the update handler computes against an authorization with many allowed VPCs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int VPCS = 100;
+
+    private DescribeEndpointAuthorizationResponse describeEndpointAuthorizationResponse;
+    private List<String> existingVpcIds;
+    private List<String> desiredVpcIds;
+
+    @Setup
+    public void setup() {
+        existingVpcIds = new ArrayList<>();
+        desiredVpcIds = new ArrayList<>();
+        for (int i = 0; i < VPCS; i++) {
+            existingVpcIds.add("vpc-" + i);
+            // keep half of the existing VPCs and add as many new ones
+            desiredVpcIds.add("vpc-" + (i + VPCS / 2));
+        }
+        describeEndpointAuthorizationResponse = DescribeEndpointAuthorizationResponse.builder()
+                .endpointAuthorizationList(EndpointAuthorization.builder()
+                        .grantor("123456789012")
+                        .grantee("210987654321")
+                        .clusterIdentifier("redshift-cluster-1")
+                        .authorizeTime(Instant.now())
+                        .clusterStatus("available")
+                        .status(AuthorizationStatus.AUTHORIZED)
+                        .allowedAllVPCs(false)
+                        .allowedVPCs(existingVpcIds)
+                        .endpointCount(1)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeEndpointAuthorizationResponse);
+    }
+
+    @Benchmark
+    public List<String> getVpcIdsToAdd() {
+        return Translator.getVpcIdsToAdd(existingVpcIds, desiredVpcIds);
+    }
+
+    @Benchmark
+    public List<String> getVpcIdsToRemove() {
+        return Translator.getVpcIdsToRemove(existingVpcIds, desiredVpcIds);
+    }
+}
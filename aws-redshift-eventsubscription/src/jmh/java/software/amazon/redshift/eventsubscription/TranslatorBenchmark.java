@@ -0,0 +1,82 @@
+package software.amazon.redshift.eventsubscription;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.redshift.model.CreateEventSubscriptionRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeEventSubscriptionsResponse;
+import software.amazon.awssdk.services.redshift.model.EventSubscription;
+
+/**
+ * Translator paths the event subscription handlers run on every invocation, for a subscription
+ * covering many source clusters and carrying a full set of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int SOURCE_IDS = 100;
+    private static final int TAGS = 50;
+
+    private DescribeEventSubscriptionsResponse describeEventSubscriptionsResponse;
+    private ResourceModel model;
+    private Map<String, String> tags;
+
+    @Setup
+    public void setup() {
+        final List<String> sourceIds = new ArrayList<>();
+        for (int i = 0; i < SOURCE_IDS; i++) {
+            sourceIds.add("redshift-cluster-" + i);
+        }
+        final List<software.amazon.awssdk.services.redshift.model.Tag> sdkTags = new ArrayList<>();
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            sdkTags.add(software.amazon.awssdk.services.redshift.model.Tag.builder().key("key-" + i).value("value-" + i).build());
+            tags.put("key-" + i, "value-" + i);
+        }
+        describeEventSubscriptionsResponse = DescribeEventSubscriptionsResponse.builder()
+                .eventSubscriptionsList(EventSubscription.builder()
+                        .custSubscriptionId("subscription-1")
+                        .customerAwsId("123456789012")
+                        .snsTopicArn("arn:aws:sns:us-east-1:123456789012:topic")
+                        .sourceType("cluster")
+                        .sourceIdsList(sourceIds)
+                        .eventCategoriesList("configuration", "management", "monitoring", "security", "pending")
+                        .severity("INFO")
+                        .enabled(true)
+                        .status("active")
+                        .subscriptionCreationTime(Instant.now())
+                        .tags(sdkTags)
+                        .build())
+                .build();
+        model = Translator.translateFromReadResponse(describeEventSubscriptionsResponse);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeEventSubscriptionsResponse);
+    }
+
+    @Benchmark
+    public CreateEventSubscriptionRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, tags);
+    }
+}
@@ -1,13 +1,25 @@
 package software.amazon.redshift.eventsubscription;
 
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ClientBuilder {
+    // one client per region, shared by the handlers of the warm container
+    private static final Map<Region, RedshiftClient> CLIENTS = new ConcurrentHashMap<>();
 
     public static RedshiftClient getClient() {
-        return RedshiftClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return getClient(new DefaultAwsRegionProviderChain().getRegion());
+    }
+
+    public static RedshiftClient getClient(final Region region) {
+        return CLIENTS.computeIfAbsent(region, key -> RedshiftClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .region(key)
+            .build());
     }
 }
@@ -0,0 +1,85 @@
+package software.amazon.redshift.eventsubscription;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Tag reconciliation shared by the Redshift resource handlers, the same class is kept in every module that tags.
+ * Tags are compared by key: a key whose value changed is only re-created, CreateTags overwrites the value, and only
+ * keys that are gone are deleted. Reserved aws: keys are never deleted, they belong to the service.
+ */
+public final class TagReconciler {
+    static final String RESERVED_KEY_PREFIX = "aws:";
+
+    private final Map<String, String> tagsToAdd;
+    private final Set<String> tagKeysToRemove;
+
+    private TagReconciler(final Map<String, String> tagsToAdd, final Set<String> tagKeysToRemove) {
+        this.tagsToAdd = Collections.unmodifiableMap(tagsToAdd);
+        this.tagKeysToRemove = Collections.unmodifiableSet(tagKeysToRemove);
+    }
+
+    /**
+     * @param systemTags tags CloudFormation applies to every resource, may be null
+     * @param stackTags stack level tags, may be null
+     * @param resourceTags tags of the resource model, may be null
+     * @return the tags the resource ends up with, on the same key resource tags win over stack tags and stack tags
+     * over system tags
+     */
+    public static Map<String, String> effectiveTags(final Map<String, String> systemTags,
+                                                    final Map<String, String> stackTags,
+                                                    final Map<String, String> resourceTags) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        putAll(tags, systemTags);
+        putAll(tags, stackTags);
+        putAll(tags, resourceTags);
+        return tags;
+    }
+
+    /**
+     * @param currentTags tags on the resource, either the previous state when CloudFormation knows it or what
+     *                    DescribeTags returned, may be null
+     * @param desiredTags effective desired tags, may be null
+     * @return the keys to create or overwrite and the keys to delete
+     */
+    public static TagReconciler reconcile(final Map<String, String> currentTags, final Map<String, String> desiredTags) {
+        final Map<String, String> current = currentTags == null ? Collections.emptyMap() : currentTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+
+        final Map<String, String> tagsToAdd = new LinkedHashMap<>();
+        for (Map.Entry<String, String> tag : desired.entrySet()) {
+            if (!current.containsKey(tag.getKey()) || !Objects.equals(current.get(tag.getKey()), tag.getValue())) {
+                tagsToAdd.put(tag.getKey(), tag.getValue());
+            }
+        }
+        final Set<String> tagKeysToRemove = new LinkedHashSet<>();
+        for (String key : current.keySet()) {
+            if (!desired.containsKey(key) && !key.startsWith(RESERVED_KEY_PREFIX)) {
+                tagKeysToRemove.add(key);
+            }
+        }
+        return new TagReconciler(tagsToAdd, tagKeysToRemove);
+    }
+
+    private static void putAll(final Map<String, String> tags, final Map<String, String> from) {
+        if (from != null) {
+            tags.putAll(from);
+        }
+    }
+
+    public Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public Set<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    public boolean hasChanges() {
+        return !tagsToAdd.isEmpty() || !tagKeysToRemove.isEmpty();
+    }
+}
@@ -13,9 +13,9 @@ import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyEventSubscriptionRequest;
 import software.amazon.awssdk.services.redshift.model.TaggedResource;
 
-import java.util.Collections;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -163,44 +163,35 @@ public class Translator {
     }
 
     /**
-     * Translates resource object from sdk into a resource model
+     * Translates the tags read back from the resource into a key value map
      *
-     * @param awsResponse the aws service describe resource response
-     * @return awsRequest the aws service request to update tags of a resource
+     * @param awsResponse the aws service describe tags response
+     * @return the tags currently on the resource
      */
-    static ResourceModel translateFromReadTagsResponse(final DescribeTagsResponse awsResponse) {
-        return ResourceModel.builder()
-                .tags(translateToModelTags(awsResponse.taggedResources()
-                        .stream()
-                        .map(TaggedResource::tag)
-                        .collect(Collectors.toList())))
-                .build();
+    static Map<String, String> translateTagsFromReadTagsResponse(final DescribeTagsResponse awsResponse) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        streamOfOrEmpty(awsResponse.taggedResources())
+                .map(TaggedResource::tag)
+                .forEach(tag -> tags.put(tag.key(), tag.value()));
+        return tags;
     }
 
     /**
      * Request to update tags for a resource
      *
-     * @param desiredResourceState the resource model request to update tags
-     * @param currentResourceState the resource model request to delete tags
-     * @param resourceName         the arn of the requested resource
+     * @param tags         the reconciled tags to create and delete
+     * @param resourceName the arn of the requested resource
      * @return awsRequest the aws service request to update tags of a resource
      */
-    static ModifyTagsRequest translateToUpdateTagsRequest(List<Tag> desiredTags,
-                                                          List<Tag> currentTags,
+    static ModifyTagsRequest translateToUpdateTagsRequest(final TagReconciler tags,
                                                           final String resourceName) {
-        List<Tag> toBeCreatedTags = subtract(desiredTags, currentTags);
-        List<Tag> toBeDeletedTags = subtract(currentTags, desiredTags);
-
         return ModifyTagsRequest.builder()
                 .createNewTagsRequest(CreateTagsRequest.builder()
-                        .tags(translateToSdkTags(toBeCreatedTags))
+                        .tags(translateToSdkTags(translateTagsMapToTagCollection(tags.getTagsToAdd())))
                         .resourceName(resourceName)
                         .build())
                 .deleteOldTagsRequest(DeleteTagsRequest.builder()
-                        .tagKeys(toBeDeletedTags
-                                .stream()
-                                .map(Tag::getKey)
-                                .collect(Collectors.toList()))
+                        .tagKeys(tags.getTagKeysToRemove())
                         .resourceName(resourceName)
                         .build())
                 .build();
@@ -239,36 +230,4 @@ public class Translator {
 
         return sdkTags.isEmpty() ? null : sdkTags;
     }
-
-    private static Tag translateToModelTag(software.amazon.awssdk.services.redshift.model.Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), Tag.class);
-    }
-
-    private static List<Tag> translateToModelTags(List<software.amazon.awssdk.services.redshift.model.Tag> sdkTags) {
-        return Optional.ofNullable(sdkTags)
-                .map(tags -> tags
-                        .stream()
-                        .map(Translator::translateToModelTag)
-                        .collect(Collectors.toList()))
-                .orElse(null);
-    }
-
-    /**
-     * Do subtract for two lists: a - b
-     *
-     * @param a   the list that wants to minus b
-     * @param b   the list that would be subtracted by a
-     * @param <T> the class of a's and b's elements
-     * @return (a - b) a.k.a (a minus b)
-     */
-    private static <T> List<T> subtract(List<T> a, List<T> b) {
-        return Optional.ofNullable(a)
-                .map(aIfNotNull -> aIfNotNull
-                        .stream()
-                        .filter(ao -> Optional.ofNullable(b)
-                                .map(bIfNotNull -> !bIfNotNull.contains(ao))
-                                .orElse(true))
-                        .collect(Collectors.toList()))
-                .orElse(Collections.emptyList());
-    }
 }
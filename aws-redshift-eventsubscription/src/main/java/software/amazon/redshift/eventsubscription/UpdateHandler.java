@@ -21,16 +21,11 @@ import software.amazon.awssdk.services.redshift.model.SubscriptionSeverityNotFou
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
@@ -45,45 +40,24 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
         final String resourceName = "arn:" + request.getAwsPartition() + ":redshift:" + request.getRegion() + ":" + request.getAwsAccountId() + ":eventsubscription:" + request.getDesiredResourceState().getSubscriptionName();
-        Map<String, String> allDesiredTags = new HashMap<>();
-        allDesiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
-        allDesiredTags.putAll(Optional.ofNullable(
-                        Translator.translateFromResourceModelToSdkTags(desiredResourceState.getTags()))
-                .orElse(Collections.emptyMap()));
-        List<Tag> desiredTags = Translator.translateTagsMapToTagCollection(allDesiredTags);
-
-
-        List<Tag> previousTags = request.getPreviousResourceState() == null ? null : request.getPreviousResourceState().getTags();
-        Map<String, String> allPreviousTags = new HashMap<>();
-        allPreviousTags.putAll(Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
-        allPreviousTags.putAll(Optional.ofNullable(Translator.translateFromResourceModelToSdkTags(previousTags))
-                .orElse(Collections.emptyMap()));
-        List<Tag> currentTags = Translator.translateTagsMapToTagCollection(allPreviousTags);
+        final Map<String, String> allDesiredTags = TagReconciler.effectiveTags(null,
+                request.getDesiredResourceTags(), Translator.translateFromResourceModelToSdkTags(desiredResourceState.getTags()));
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-Redshift-EventSubscription::Update::ReadTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
-                                .makeServiceCall(this::readTags)
-                                .handleError(this::operateTagsErrorHandler)
-                                .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .callbackContext(callbackContext)
-                                        .callbackDelaySeconds(0)
-                                        .resourceModel(Translator.translateFromReadTagsResponse(tagsResponse))
-                                        .status(OperationStatus.IN_PROGRESS)
-                                        .build()))
-
-                .then(progress ->
-                        proxy.initiate("AWS-Redshift-EventSubscription::Update::UpdateTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> Translator.translateToUpdateTagsRequest(desiredTags, currentTags, resourceName))
-                                .makeServiceCall(this::updateTags)
-                                .handleError(this::operateTagsErrorHandler)
-                                .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .callbackContext(callbackContext)
-                                        .callbackDelaySeconds(0)
-                                        .resourceModel(desiredResourceState)
-                                        .status(OperationStatus.IN_PROGRESS)
-                                        .build()))
+                .then(progress -> {
+                    // the previous state holds the tags CloudFormation applied, only read them back without one
+                    if (request.getPreviousResourceState() != null) {
+                        final Map<String, String> allPreviousTags = TagReconciler.effectiveTags(null,
+                                request.getPreviousResourceTags(), Translator.translateFromResourceModelToSdkTags(request.getPreviousResourceState().getTags()));
+                        return updateTags(proxy, proxyClient, progress, TagReconciler.reconcile(allPreviousTags, allDesiredTags), resourceName, desiredResourceState);
+                    }
+                    return proxy.initiate("AWS-Redshift-EventSubscription::Update::ReadTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
+                            .makeServiceCall(this::readTags)
+                            .handleError(this::operateTagsErrorHandler)
+                            .done((tagsRequest, tagsResponse, client, model, context) -> updateTags(proxy, proxyClient, progress,
+                                    TagReconciler.reconcile(Translator.translateTagsFromReadTagsResponse(tagsResponse), allDesiredTags), resourceName, desiredResourceState));
+                })
 
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-EventSubscription::Update::UpdateInstance", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -95,6 +69,23 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(final AmazonWebServicesClientProxy proxy,
+                                                                     final ProxyClient<RedshiftClient> proxyClient,
+                                                                     final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                     final TagReconciler tags,
+                                                                     final String resourceName,
+                                                                     final ResourceModel desiredResourceState) {
+        if (!tags.hasChanges()) {
+            logger.log(String.format("Tags of %s are up to date.", ResourceModel.TYPE_NAME));
+            return ProgressEvent.progress(desiredResourceState, progress.getCallbackContext());
+        }
+        return proxy.initiate("AWS-Redshift-EventSubscription::Update::UpdateTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(resourceModel -> Translator.translateToUpdateTagsRequest(tags, resourceName))
+                .makeServiceCall(this::updateTags)
+                .handleError(this::operateTagsErrorHandler)
+                .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.progress(desiredResourceState, context));
+    }
+
     private DescribeTagsResponse readTags(final DescribeTagsRequest awsRequest,
                                           final ProxyClient<RedshiftClient> proxyClient) {
         DescribeTagsResponse awsResponse;
@@ -4,14 +4,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
+import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEventSubscriptionsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyEventSubscriptionRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -25,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -63,7 +65,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .previousResourceTags(PREVIOUS_TAGS)
                 .build();
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class))).thenReturn(DescribeTagsResponse.builder().build());
         when(proxyClient.client().createTags(any(CreateTagsRequest.class))).thenReturn(CreateTagsResponse.builder().build());
         when(proxyClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class))).thenReturn(getUpdateResponseSdk());
         when(proxyClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class))).thenReturn(getReadResponseSdk());
@@ -77,5 +78,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // the previous state is authoritative, tags are reconciled without reading them back
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+        ArgumentCaptor<DeleteTagsRequest> deleteTagArgument = ArgumentCaptor.forClass(DeleteTagsRequest.class);
+        verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
+        assertThat(deleteTagArgument.getValue().tagKeys()).containsExactly("key4");
     }
 }
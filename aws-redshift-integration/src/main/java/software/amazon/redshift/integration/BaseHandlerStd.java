@@ -5,7 +5,6 @@ import software.amazon.awssdk.services.redshift.model.Cluster;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.Integration;
 import software.amazon.awssdk.services.redshift.model.ZeroETLIntegrationStatus;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -31,6 +30,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final String CLUSTER_STATUS_AVAILABLE = "available";
   protected static final String CLUSTER_AVAILABILITY_STATUS_AVAILABLE = "available";
   protected static final int MAX_LENGTH_INTEGRATION = 63;
+  protected static final int TARGET_GRACE_PERIOD_SECONDS = 60;
 
   private static final String UTC = "UTC";
   private static final String DATE_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSSSSXXX";
@@ -62,13 +62,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final CallbackContext callbackContext,
     final Logger logger) {
     this.logger = logger;
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
+    final Tracer tracer = Tracer.fromEnvironment(request, logger);
+    final Tracer.Span invocationSpan = tracer.startInvocationSpan(request, getClass().getSimpleName());
+    try {
+      final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), apiCallMetrics, tracer),
+        logger
+      );
+      invocationSpan.attribute("aws.cfn.operation_status", String.valueOf(progress.getStatus()));
+      return progress;
+    } catch (final RuntimeException e) {
+      invocationSpan.error(e);
+      throw e;
+    } finally {
+      invocationSpan.end();
+      apiCallMetrics.publish(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -99,19 +112,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
   protected boolean isRedshiftClusterActive(final ResourceModel model, final ProxyClient<RedshiftClient> proxyClient) {
-    try {
-      if (isCrossAccountIntegration(model)) {
-        // we don't have a good way to make cross account AWS calls now
-
-        // it usually takes a few seconds for cluster to be active,
-        // for the same account integration, we check the cluster status directly,
-        // for cross account, we'll wait for 1 min for cluster to be active
-        sleepInSeconds(60);
-        return true;
-      }
-    } catch (Exception ex) {
-      logger.log("Failed to parse source or target ARN " + ex.getMessage());
-      sleepInSeconds(60);
+    if (requiresTargetGracePeriod(model)) {
+      // the target can't be described from here, the grace period is applied as a callback delay
+      // once the integration has stabilized, see waitForTargetGracePeriod
       return true;
     }
 
@@ -131,6 +134,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             && targetCluster.clusterAvailabilityStatus().equalsIgnoreCase(CLUSTER_AVAILABILITY_STATUS_AVAILABLE);
   }
 
+  /**
+   * Cross account targets (or targets whose ARN can't be parsed) can't be described with our credentials.
+   * @param model
+   * @return true if the target cluster status has to be assumed after a grace period
+   */
+  protected boolean requiresTargetGracePeriod(final ResourceModel model) {
+    try {
+      // we don't have a good way to make cross account AWS calls now
+      return isCrossAccountIntegration(model);
+    } catch (Exception ex) {
+      logger.log("Failed to parse source or target ARN " + ex.getMessage());
+      return true;
+    }
+  }
+
+  /**
+   * It usually takes a few seconds for the target cluster to be active,
+   * for the same account integration, we check the cluster status directly,
+   * for cross account, we give the cluster 1 min to become active.
+   * The wait is returned as a callback delay rather than slept in the handler.
+   * @param progress
+   * @return in progress event with a callback delay the first time, the given event afterwards
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> waitForTargetGracePeriod(
+          final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    final CallbackContext callbackContext = progress.getCallbackContext();
+    if (callbackContext.isTargetGracePeriodElapsed() || !requiresTargetGracePeriod(progress.getResourceModel())) {
+      return progress;
+    }
+    callbackContext.setTargetGracePeriodElapsed(true);
+    return ProgressEvent.defaultInProgressHandler(callbackContext, TARGET_GRACE_PERIOD_SECONDS, progress.getResourceModel());
+  }
+
   static ResourceModel translateToModel(
           final Integration integration
   ) {
@@ -180,14 +216,4 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return Optional.of(arn.getAccountId());
   }
 
-  // with the existing dependencies,
-  // the static method takes some effort to unit test,
-  // will cover it later when upgrading the dependencies
-  protected void sleepInSeconds(int seconds) {
-    try {
-      Thread.sleep(seconds * 1000);
-    } catch (InterruptedException e) {
-      throw new CfnGeneralServiceException("Please retry again in a few seconds, ", e);
-    }
-  }
 }
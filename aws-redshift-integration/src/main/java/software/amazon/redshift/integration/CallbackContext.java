@@ -13,6 +13,9 @@ public class CallbackContext extends StdCallbackContext {
     // used in software.amazon.rds.integration.DeleteHandler.delay
     private int deleteWaitTime;
 
+    // set once the grace period for a target we can't describe (cross account) has been waited out
+    private boolean targetGracePeriodElapsed;
+
     public CallbackContext() {
         super();
     }
@@ -39,6 +39,7 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> setIntegrationNameIfEmpty(request, progress))
                 .then(progress -> createIntegration(proxy, proxyClient, progress, allTags))
+                .then(this::waitForTargetGracePeriod)
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
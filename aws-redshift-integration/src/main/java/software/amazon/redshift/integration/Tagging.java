@@ -109,25 +109,25 @@ public class Tagging {
     public static void deleteTags(
             final ProxyClient<RedshiftClient> RedshiftClientProxyClient,
             final String arn,
-            final Collection<Tag> tagsToRemove
+            final Collection<String> tagKeysToRemove
     ) {
-        if (CollectionUtils.isNullOrEmpty(tagsToRemove)) {
+        if (CollectionUtils.isNullOrEmpty(tagKeysToRemove)) {
             return;
         }
 
         RedshiftClientProxyClient.injectCredentialsAndInvokeV2(
-                deleteTagsFromResourceRequest(arn, tagsToRemove),
+                deleteTagsFromResourceRequest(arn, tagKeysToRemove),
                 RedshiftClientProxyClient.client()::deleteTags
         );
     }
 
     private static DeleteTagsRequest deleteTagsFromResourceRequest(
             final String arn,
-            final Collection<Tag> tagsToRemove
+            final Collection<String> tagKeysToRemove
     ) {
         return DeleteTagsRequest.builder()
                 .resourceName(arn)
-                .tagKeys(tagsToRemove.stream().map(Tag::key).collect(Collectors.toCollection(LinkedHashSet::new)))
+                .tagKeys(tagKeysToRemove)
                 .build();
     }
 
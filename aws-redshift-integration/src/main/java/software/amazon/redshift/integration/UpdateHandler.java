@@ -8,11 +8,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Map;
 
 import static software.amazon.redshift.integration.ErrorUtil.handleIntegrationException;
-import static software.amazon.redshift.integration.Tagging.translateTagsToSdk;
 import static software.amazon.redshift.integration.Translator.shouldModifyField;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -27,23 +25,17 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel desiredModel = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
 
-        final Tagging.TagSet previousTags = Tagging.TagSet.builder()
-                .systemTags(translateTagsToSdk(request.getPreviousSystemTags()))
-                .stackTags(translateTagsToSdk(request.getPreviousResourceTags()))
-                .resourceTags(new HashSet<>(translateTagsToSdk(request.getPreviousResourceState().getTags())))
-                .build();
-
-        final Tagging.TagSet desiredTags = Tagging.TagSet.builder()
-                .systemTags(translateTagsToSdk(request.getSystemTags()))
-                .stackTags(translateTagsToSdk(request.getDesiredResourceTags()))
-                .resourceTags(new HashSet<>(translateTagsToSdk(request.getDesiredResourceState().getTags())))
-                .build();
+        final Map<String, String> previousTags = TagReconciler.effectiveTags(request.getPreviousSystemTags(),
+                request.getPreviousResourceTags(), Tagging.translateTagsToRequest(previousModel.getTags()));
+        final Map<String, String> desiredTags = TagReconciler.effectiveTags(request.getSystemTags(),
+                request.getDesiredResourceTags(), Tagging.translateTagsToRequest(desiredModel.getTags()));
 
         return ProgressEvent.progress(desiredModel, callbackContext)
-                .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
+                .then(progress -> updateTags(proxy, proxyClient, progress, TagReconciler.reconcile(previousTags, desiredTags)))
                 .then(progress -> {
                     if (shouldModifyIntegration(previousModel, desiredModel)) {
-                        return modifyIntegration(proxy, proxyClient, previousModel, progress);
+                        return modifyIntegration(proxy, proxyClient, previousModel, progress)
+                                .then(this::waitForTargetGracePeriod);
                     }
                     return progress;
                 })
@@ -93,15 +85,8 @@ public class UpdateHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RedshiftClient> RedshiftClientProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Tagging.TagSet previousTags,
-            final Tagging.TagSet desiredTags) {
-        final Collection<software.amazon.awssdk.services.redshift.model.Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<software.amazon.awssdk.services.redshift.model.Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<software.amazon.awssdk.services.redshift.model.Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<software.amazon.awssdk.services.redshift.model.Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            final TagReconciler tags) {
+        if (!tags.hasChanges()) {
             return progress;
         }
 
@@ -115,8 +100,8 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         try {
-            Tagging.deleteTags(RedshiftClientProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.createTags(RedshiftClientProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.deleteTags(RedshiftClientProxyClient, arn, tags.getTagKeysToRemove());
+            Tagging.createTags(RedshiftClientProxyClient, arn, Tagging.translateTagsToSdk(tags.getTagsToAdd()));
         } catch (Exception exception) {
             return handleIntegrationException(exception);
         }
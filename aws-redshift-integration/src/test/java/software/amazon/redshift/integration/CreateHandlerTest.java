@@ -108,6 +108,36 @@ public class CreateHandlerTest extends AbstractTestBase {
         );
     }
 
+    @Test
+    public void handleRequest_CreateIntegration_crossAccountTarget_waitsWithCallbackDelay() {
+        when(proxyClient.client().createIntegration(any(CreateIntegrationRequest.class)))
+                .thenReturn(CreateIntegrationResponse.builder()
+                        .integrationArn(INTEGRATION_ARN)
+                        .status(ZeroETLIntegrationStatus.ACTIVE)
+                        .build());
+        when(proxyClient.client().describeIntegrations(any(DescribeIntegrationsRequest.class)))
+                .thenReturn(DescribeIntegrationsResponse.builder()
+                        .integrations(INTEGRATION_ACTIVE)
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(INTEGRATION_ACTIVE_MODEL.toBuilder()
+                        .targetArn("arn:aws:redshift:us-east-1:210987654321:namespace:ad99c581-dbac-4a1b-9602-d5c5e7f77b24")
+                        .build())
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.TARGET_GRACE_PERIOD_SECONDS);
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).createIntegration(any(CreateIntegrationRequest.class));
+        verify(proxyClient.client(), times(0)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_CreateIntegration_withNoName_shouldGenerateName() {
         when(proxyClient.client().createIntegration(any(CreateIntegrationRequest.class)))
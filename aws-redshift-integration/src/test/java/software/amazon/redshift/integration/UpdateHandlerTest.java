@@ -19,6 +19,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -79,7 +80,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         verify(proxyClient.client(), times(2)).describeIntegrations(any(DescribeIntegrationsRequest.class));
-        verify(proxyClient.client(), times(1)).deleteTags(any(DeleteTagsRequest.class));
+        // k1 only changed its value, CreateTags overwrites it, only k4 is deleted
+        final ArgumentCaptor<DeleteTagsRequest> deleteTagsRequest = ArgumentCaptor.forClass(DeleteTagsRequest.class);
+        verify(proxyClient.client(), times(1)).deleteTags(deleteTagsRequest.capture());
+        assertThat(deleteTagsRequest.getValue().tagKeys()).containsExactly("k4");
         verify(proxyClient.client(), times(1)).createTags(any(CreateTagsRequest.class));
         assertThat(response).isNotNull();
     }
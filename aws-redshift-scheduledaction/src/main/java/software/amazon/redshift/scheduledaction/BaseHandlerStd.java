@@ -16,13 +16,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
+        final Tracer tracer = Tracer.fromEnvironment(request, logger);
+        final Tracer.Span invocationSpan = tracer.startInvocationSpan(request, getClass().getSimpleName());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), apiCallMetrics, tracer),
+                    logger
+            );
+            invocationSpan.attribute("aws.cfn.operation_status", String.valueOf(progress.getStatus()));
+            return progress;
+        } catch (final RuntimeException e) {
+            invocationSpan.error(e);
+            throw e;
+        } finally {
+            invocationSpan.end();
+            apiCallMetrics.publish(logger);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(